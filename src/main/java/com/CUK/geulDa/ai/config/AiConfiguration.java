@@ -1,46 +1,77 @@
 package com.CUK.geulDa.ai.config;
 
+import com.CUK.geulDa.ai.service.embedding.CachingEmbeddingModel;
+import com.CUK.geulDa.ai.vectorstore.SwappableVectorStore;
+import com.CUK.geulDa.ai.vectorstore.VectorStoreFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.vectorstore.SimpleVectorStore;
-import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisTemplate;
 
 import java.io.File;
+import java.time.Duration;
 
 @Configuration
 @Slf4j
 public class AiConfiguration {
 
-    @Value("${geulda.vector-store.path:vector-store.json}")
+    @Value("${geulda.vector-store.path:vector-store.bin}")
     private String vectorStorePath;
 
+    // mapped: mmap 바이너리 스토어, hnsw: HNSW 근사 검색 인덱스, simple: Spring AI SimpleVectorStore(JSON)
+    @Value("${geulda.vector-store.type:mapped}")
+    private String vectorStoreType;
+
+    @Value("${geulda.vector-store.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${geulda.vector-store.hnsw.ef-construction:200}")
+    private int hnswEfConstruction;
+
+    @Value("${geulda.vector-store.hnsw.ef-search:256}")
+    private int hnswEfSearch;
+
     @Bean
     public ChatClient chatClient(ChatModel chatModel) {
         return ChatClient.builder(chatModel).build();
     }
 
-    @Bean
-    @Lazy
-    public VectorStore vectorStore(EmbeddingModel embeddingModel) {
-        log.info("🔄 Vector Store 빈 초기화 시작 (Lazy Loading)");
-        File vectorFile = new File(vectorStorePath);
+    @Value("${spring.ai.google.genai.embedding.text.options.model:text-embedding-004}")
+    private String embeddingModelName;
 
-        SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel).build();
+    @Value("${geulda.vector-store.embedding.cache.max-entries:5000}")
+    private int embeddingCacheMaxEntries;
 
-        if (vectorFile.exists()) {
-            vectorStore.load(vectorFile);
-            log.info("✅ 기존 벡터 스토어 로드 완료: {} ({}KB)",
-                    vectorStorePath, vectorFile.length() / 1024);
-        } else {
-            log.info("🆕 새로운 벡터 스토어 생성 (파일 없음: {})", vectorStorePath);
-        }
+    @Value("${geulda.vector-store.embedding.cache.redis-ttl-days:30}")
+    private int embeddingCacheTtlDays;
 
-        return vectorStore;
+    /**
+     * 벡터 스토어는 캐시를 거쳐 임베딩 (별도 EmbeddingModel 빈으로 등록하지 않아 자동 구성과 충돌하지 않음)
+     */
+    @Bean
+    public VectorStoreFactory vectorStoreFactory(EmbeddingModel embeddingModel,
+                                                 RedisTemplate<String, byte[]> binaryRedisTemplate,
+                                                 MeterRegistry meterRegistry) {
+        EmbeddingModel cachingEmbeddingModel = new CachingEmbeddingModel(
+                embeddingModel, embeddingModelName, binaryRedisTemplate,
+                Duration.ofDays(embeddingCacheTtlDays), embeddingCacheMaxEntries, meterRegistry);
+
+        return new VectorStoreFactory(cachingEmbeddingModel, vectorStoreType, hnswM, hnswEfConstruction, hnswEfSearch);
+    }
+
+    /**
+     * 검색은 항상 SwappableVectorStore를 거치므로 전체 재생성 시 참조만 교체하면 됨
+     */
+    @Bean
+    @Lazy
+    public SwappableVectorStore vectorStore(VectorStoreFactory vectorStoreFactory) {
+        log.info("🔄 Vector Store 빈 초기화 시작 (Lazy Loading, type={})", vectorStoreType);
+        return new SwappableVectorStore(vectorStoreFactory.load(new File(vectorStorePath)));
     }
 }
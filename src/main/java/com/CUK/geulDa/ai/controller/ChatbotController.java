@@ -12,8 +12,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -56,4 +60,32 @@ public class ChatbotController {
                 ApiResponse.success(SuccessCode.SUCCESS_AI_CHATBOT_CHAT, response)
         );
     }
+
+    @RequireVectorStore
+    @Operation(
+            summary = "챗봇 대화 (스트리밍)",
+            description = """
+                    챗봇 답변을 Server-Sent Events로 생성되는 대로 전송합니다. 세션 ID는 X-Chat-Session 헤더로 전달해야 합니다.
+
+                    **이벤트 종류:**
+                    - message: 답변 토큰 (순서대로 이어 붙이면 전체 답변)
+                    - done: 답변 완료 (대화 히스토리 저장 완료)
+                    - error: 처리 실패
+                    """
+    )
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> chatStream(
+            @Parameter(description = "채팅 세션 ID", required = true)
+            @RequestHeader(value = "X-Chat-Session") String sessionId,
+            @Valid @RequestBody ChatMessageRequest request) {
+        log.info("챗봇 스트리밍 요청: session={}, message={}", sessionId, request.message());
+
+        return chatbotService.chatStream(sessionId, request.message())
+                .map(token -> ServerSentEvent.builder(token).event("message").build())
+                .concatWith(Mono.just(ServerSentEvent.builder("").event("done").build()))
+                .onErrorResume(e -> Mono.just(ServerSentEvent
+                        .builder("챗봇 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.")
+                        .event("error")
+                        .build()));
+    }
 }
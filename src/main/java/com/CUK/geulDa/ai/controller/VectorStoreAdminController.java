@@ -1,15 +1,20 @@
 package com.CUK.geulDa.ai.controller;
 
 import com.CUK.geulDa.ai.service.ChatbotService;
+import com.CUK.geulDa.ai.service.embedding.VectorStoreSyncService;
+import com.CUK.geulDa.global.apiResponse.code.ErrorCode;
 import com.CUK.geulDa.global.apiResponse.code.SuccessCode;
+import com.CUK.geulDa.global.apiResponse.exception.BusinessException;
 import com.CUK.geulDa.global.apiResponse.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
@@ -24,36 +29,67 @@ public class VectorStoreAdminController {
     private final ChatbotService chatbotService;
 
     @Operation(
-        summary = "벡터 스토어 재생성",
+        summary = "벡터 스토어 동기화",
         description = """
-            장소 데이터가 변경되었을 때 벡터 스토어를 재생성합니다.
+            장소 데이터가 변경되었을 때 벡터 스토어를 동기화합니다.
 
-            **주의:** 장소 개수에 따라 시간이 오래 걸릴 수 있습니다.
-            - 100개 장소: 약 40~50초
-            - 200개 장소: 약 80~100초
+            **mode=incremental (기본값):**
+            - 장소별 내용 해시를 비교해 신규/변경된 장소만 다시 임베딩하고, 삭제·숨김 처리된 장소는 제거합니다
+            - 일반적인 데이터 수정은 수 초 내에 완료되며, 동기화 중에도 벡터 검색은 계속 동작합니다
+            - 요청이 끝나면 처리 결과(신규/변경/삭제/유지/실패 건수)를 반환합니다
+
+            **mode=full:**
+            - 모든 장소를 다시 임베딩합니다 (백그라운드 실행)
+            - 장소 개수에 따라 시간이 오래 걸릴 수 있습니다 (100개 장소: 약 40~50초)
+            - 다른 동기화가 진행 중이면 작업을 시작하지 않고 409(E606)를 반환합니다
 
             **사용 시나리오:**
             1. TourAPI에서 새로운 장소 데이터를 DB에 추가한 경우
             2. 기존 장소의 설명(description)을 수정한 경우
             3. 장소를 삭제하거나 숨김 처리한 경우
 
-            **재생성 후:**
-            - vector-store.json 파일이 업데이트됩니다
-            - 다음 서버 재시작 시 새로운 벡터 데이터가 로드됩니다
+            **동기화 후:**
+            - 벡터 스토어 파일(geulda.vector-store.path)과 해시 목록 파일(.hashes)이 업데이트됩니다
             """
     )
     @PostMapping("/refresh")
-    public ResponseEntity<ApiResponse<Map<String, String>>> refreshVectorStore() {
-        log.info("벡터 스토어 재생성 요청 수신");
+    public ResponseEntity<ApiResponse<Map<String, Object>>> refreshVectorStore(
+            @Parameter(description = "동기화 방식 (incremental | full)")
+            @RequestParam(defaultValue = "incremental") String mode) {
+        log.info("벡터 스토어 동기화 요청 수신 (mode: {})", mode);
+
+        if ("full".equalsIgnoreCase(mode)) {
+            chatbotService.refreshVectorStore();
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(
+                            SuccessCode.SUCCESS_CREATE,
+                            Map.of(
+                                    "message", "벡터 스토어 전체 재생성을 시작했습니다.",
+                                    "notice", "재생성은 백그라운드에서 진행됩니다."
+                            )
+                    )
+            );
+        }
+
+        if (!"incremental".equalsIgnoreCase(mode)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "지원하지 않는 동기화 방식입니다: " + mode);
+        }
 
-        chatbotService.refreshVectorStore();
+        VectorStoreSyncService.SyncResult result = chatbotService.syncVectorStore();
 
         return ResponseEntity.ok(
                 ApiResponse.success(
                         SuccessCode.SUCCESS_CREATE,
                         Map.of(
-                                "message", "벡터 스토어 재생성이 완료되었습니다.",
-                                "notice", "변경 사항은 다음 서버 재시작 시 반영됩니다."
+                                "message", "벡터 스토어 증분 동기화가 완료되었습니다.",
+                                "added", result.added(),
+                                "updated", result.updated(),
+                                "deleted", result.deleted(),
+                                "unchanged", result.unchanged(),
+                                "failed", result.failed(),
+                                "elapsedMs", result.elapsedMs()
                         )
                 )
         );
@@ -0,0 +1,27 @@
+package com.CUK.geulDa.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+import java.util.List;
+
+/**
+ * AI 장소 생성 응답 (AIPlaceGenerator)
+ */
+public record GeneratedPlacesResult(
+        List<GeneratedPlace> places
+) {
+    public record GeneratedPlace(
+            @JsonPropertyDescription("장소명 (구체적으로)")
+            String name,
+            @JsonPropertyDescription("전체 주소")
+            String address,
+            Double latitude,
+            Double longitude,
+            @JsonPropertyDescription("장소 설명 (50자 이내)")
+            String description,
+            String category,
+            @JsonPropertyDescription("쉼표로 구분된 여행 목적 태그 (예: dating,family)")
+            String tourPurposeTags
+    ) {
+    }
+}
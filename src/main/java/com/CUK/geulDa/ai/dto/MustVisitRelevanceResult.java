@@ -0,0 +1,23 @@
+package com.CUK.geulDa.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+import java.util.List;
+
+/**
+ * 필수 방문지 후보 일괄 관련성 평가 응답 (MustVisitResolver)
+ */
+public record MustVisitRelevanceResult(
+        @JsonPropertyDescription("요청과 관련 있는 후보 장소별 점수 (관련 없는 장소는 생략 가능)")
+        List<PlaceRelevance> places
+) {
+    public record PlaceRelevance(
+            @JsonPropertyDescription("후보 장소 목록의 ID")
+            Long placeId,
+            @JsonPropertyDescription("요청과의 관련성 0.0 ~ 1.0")
+            Double relevance,
+            @JsonPropertyDescription("판단 이유 (1문장)")
+            String reason
+    ) {
+    }
+}
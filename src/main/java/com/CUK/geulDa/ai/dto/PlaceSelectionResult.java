@@ -0,0 +1,19 @@
+package com.CUK.geulDa.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+import java.util.List;
+
+/**
+ * AI 장소 선정 응답 (AIRecommendationEngine.selectBestPlaces)
+ */
+public record PlaceSelectionResult(
+        @JsonPropertyDescription("선택한 장소 목록 (방문 순서)")
+        List<Recommendation> recommendations
+) {
+    public record Recommendation(
+            @JsonPropertyDescription("후보 장소 목록의 ID")
+            Long placeId
+    ) {
+    }
+}
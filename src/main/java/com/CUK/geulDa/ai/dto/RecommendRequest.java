@@ -16,6 +16,9 @@ public record RecommendRequest(
 
         Double userLongitude,
 
-        String mustVisitPlace
+        String mustVisitPlace,
+
+        // 장소 선정 방식: local(점수 기반 결정적 플래너) | ai(Gemini 선택). 없으면 geulda.ai.recommend.planner 설정값
+        String planner
 ) {
 }
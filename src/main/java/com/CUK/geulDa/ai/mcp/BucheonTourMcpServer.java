@@ -69,12 +69,12 @@ public class BucheonTourMcpServer implements McpServer {
         // 키워드 검색
         else if (params.containsKey("keyword")) {
             String keyword = (String) params.get("keyword");
-            List<Course> courses = courseService.findByKeyword(keyword);
+            List<Course> courses = courseService.searchByKeyword(keyword, 5);
 
             return Map.of(
-                    "places", courses.stream().limit(5).toList(),
+                    "places", courses,
                     "searchType", "keyword",
-                    "count", Math.min(courses.size(), 5)
+                    "count", courses.size()
             );
         }
 
@@ -3,50 +3,66 @@ package com.CUK.geulDa.ai.service;
 import com.CUK.geulDa.ai.dto.ChatRequest;
 import com.CUK.geulDa.ai.dto.ChatResponse;
 import com.CUK.geulDa.ai.mcp.BucheonTourMcpServer;
+import com.CUK.geulDa.ai.service.embedding.VectorStoreSyncService;
+import com.CUK.geulDa.ai.service.parser.NaturalLanguageParser;
 import com.CUK.geulDa.domain.course.Course;
 import com.CUK.geulDa.domain.course.service.CourseService;
 import com.CUK.geulDa.global.apiResponse.code.ErrorCode;
 import com.CUK.geulDa.global.apiResponse.exception.BusinessException;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.document.Document;
-import org.springframework.ai.vectorstore.SimpleVectorStore;
-import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ChatbotService {
 
     private final ChatClient chatClient;
     private final BucheonTourMcpServer mcpServer;
-    private final VectorStore vectorStore;
     private final CourseService courseService;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final VectorStoreSyncService vectorStoreSyncService;
+    private final SemanticAnswerCache semanticAnswerCache;
+    private final NaturalLanguageParser naturalLanguageParser;
+    private final Executor vectorStoreExecutor;
 
-    @Value("${geulda.vector-store.path:vector-store.json}")
+    @Value("${geulda.vector-store.path:vector-store.bin}")
     private String vectorStorePath;
 
-    private static final int BATCH_SIZE = 5;  // API 안정성을 위해 배치 크기 축소
-    private static final int EMBEDDING_DELAY_MS = 400;  // 각 임베딩 사이 0.4초 대기
-    private static final int MAX_RETRIES = 3;  // 최대 재시도 횟수
-
     private volatile boolean isVectorStoreReady = false;
 
+    public ChatbotService(ChatClient chatClient,
+                          BucheonTourMcpServer mcpServer,
+                          CourseService courseService,
+                          RedisTemplate<String, Object> redisTemplate,
+                          VectorStoreSyncService vectorStoreSyncService,
+                          SemanticAnswerCache semanticAnswerCache,
+                          NaturalLanguageParser naturalLanguageParser,
+                          @Qualifier("vectorStoreExecutor") Executor vectorStoreExecutor) {
+        this.chatClient = chatClient;
+        this.mcpServer = mcpServer;
+        this.courseService = courseService;
+        this.redisTemplate = redisTemplate;
+        this.vectorStoreSyncService = vectorStoreSyncService;
+        this.semanticAnswerCache = semanticAnswerCache;
+        this.naturalLanguageParser = naturalLanguageParser;
+        this.vectorStoreExecutor = vectorStoreExecutor;
+    }
+
     @PostConstruct
     public void initializeVectorStore() {
         File vectorFile = new File(vectorStorePath);
@@ -60,80 +76,26 @@ public class ChatbotService {
         }
 
         // 파일이 없으면 백그라운드에서 생성
+        // (같은 빈 안에서 부르는 메서드에는 @Async가 적용되지 않으므로 실행기에 직접 넘김)
         log.info("🔄 벡터 스토어 파일 없음, 백그라운드 생성 시작...");
-        initializeVectorStoreAsync();
+        vectorStoreExecutor.execute(this::initializeVectorStoreInBackground);
     }
 
     /**
-     * 벡터스토어 비동기 초기화 (최초 생성)
+     * 벡터스토어 최초 생성 (vectorStoreExecutor에서 실행)
      */
-    @Async("vectorStoreExecutor")
-    public void initializeVectorStoreAsync() {
+    private void initializeVectorStoreInBackground() {
         try {
             log.info("🔄 벡터 스토어 최초 생성 시작... (백그라운드)");
-            long startTime = System.currentTimeMillis();
-
-            // 페이징 기반 처리 (전체 로드 안함)
-            final int[] totalProcessed = {0};
-            final int[] batchNum = {0};
-
-            courseService.processCoursesInBatches(BATCH_SIZE, courses -> {
-                List<Document> documents = courses.stream()
-                        .filter(course -> StringUtils.hasText(course.getDescription()))
-                        .map(course -> new Document(
-                                course.getId().toString(),
-                                buildDocumentContent(course),
-                                buildDocumentMetadata(course)
-                        ))
-                        .toList();
-
-                if (!documents.isEmpty()) {
-                    batchNum[0]++;
-                    log.info("🔄 배치 {} 시작: {}개 문서 처리 중...", batchNum[0], documents.size());
-
-                    // 각 문서를 개별적으로 처리하여 API rate limit 문제 방지
-                    for (int i = 0; i < documents.size(); i++) {
-                        Document doc = documents.get(i);
-                        boolean success = addDocumentWithRetry(doc, i + 1, documents.size());
-
-                        if (success) {
-                            totalProcessed[0]++;
-
-                            // 마지막 문서가 아니면 API rate limit을 위해 대기
-                            if (i < documents.size() - 1) {
-                                try {
-                                    Thread.sleep(EMBEDDING_DELAY_MS);
-                                } catch (InterruptedException e) {
-                                    Thread.currentThread().interrupt();
-                                    log.warn("⚠️ 대기 중 인터럽트 발생");
-                                }
-                            }
-                        } else {
-                            log.warn("⚠️ 문서 추가 실패 (ID: {}), 계속 진행...", doc.getId());
-                        }
-                    }
+            int totalProcessed = vectorStoreSyncService.rebuild();
 
-                    log.info("✓ 배치 {} 완료: {}개 문서 성공 (누적: {}개)",
-                            batchNum[0], documents.size(), totalProcessed[0]);
-                }
-            });
-
-            if (totalProcessed[0] == 0) {
+            if (totalProcessed == 0) {
                 log.warn("⚠️ 벡터 스토어에 추가할 장소가 없습니다");
                 return;
             }
 
-            // 파일로 저장
-            File vectorFile = new File(vectorStorePath);
-            if (vectorStore instanceof SimpleVectorStore simpleStore) {
-                simpleStore.save(vectorFile);
-                long elapsed = (System.currentTimeMillis() - startTime) / 1000;
-                log.info("💾 벡터 데이터 저장 완료: {} ({}초 소요, {}KB)",
-                        vectorStorePath, elapsed, vectorFile.length() / 1024);
-            }
-
             isVectorStoreReady = true;
-            log.info("✅ 벡터 스토어 초기화 완료! (총 {}개 장소)", totalProcessed[0]);
+            log.info("✅ 벡터 스토어 초기화 완료! (총 {}개 장소)", totalProcessed);
 
         } catch (Exception e) {
             log.error("❌ 벡터 스토어 초기화 실패", e);
@@ -142,171 +104,71 @@ public class ChatbotService {
     }
 
     /**
-     * 장소 데이터 변경 시 벡터 스토어 재생성 (관리자 API에서 호출)
+     * 장소 데이터 변경 시 벡터 스토어 전체 재생성 (관리자 API에서 호출)
+     * 새 인덱스는 별도 스토어에 만들어 교체하므로 재생성 중에도 기존 인덱스로 검색 가능
+     * 다른 동기화가 진행 중이면 작업을 넘기지 않고 바로 E606으로 거절
      */
     public void refreshVectorStore() {
+        if (vectorStoreSyncService.isSyncInProgress()) {
+            throw new BusinessException(ErrorCode.VECTOR_STORE_SYNC_IN_PROGRESS,
+                    "다른 벡터 스토어 동기화 작업이 진행 중입니다.");
+        }
+
         log.info("🔄 벡터 스토어 재생성 요청 접수 (백그라운드 실행)");
-        isVectorStoreReady = false;  // 재생성 중에는 사용 불가
-        refreshVectorStoreAsync();
+        vectorStoreExecutor.execute(this::refreshVectorStoreInBackground);
     }
 
     /**
-     * 벡터스토어 비동기 재생성
+     * 벡터스토어 재생성 (vectorStoreExecutor에서 실행)
      */
-    @Async("vectorStoreExecutor")
-    public void refreshVectorStoreAsync() {
+    private void refreshVectorStoreInBackground() {
         try {
             log.info("🔄 벡터 스토어 재생성 시작... (백그라운드)");
             long startTime = System.currentTimeMillis();
 
-            // 1. 기존 파일 삭제
-            File vectorFile = new File(vectorStorePath);
-            if (vectorFile.exists()) {
-                boolean deleted = vectorFile.delete();
-                log.info("📁 기존 벡터 파일 삭제: {}", deleted);
-            }
-
-            // 2. 페이징 기반 처리
-            final int[] totalProcessed = {0};
-            final int[] batchNum = {0};
-
-            courseService.processCoursesInBatches(BATCH_SIZE, courses -> {
-                List<Document> documents = courses.stream()
-                        .filter(course -> StringUtils.hasText(course.getDescription()))
-                        .map(course -> new Document(
-                                course.getId().toString(),
-                                buildDocumentContent(course),
-                                buildDocumentMetadata(course)
-                        ))
-                        .toList();
-
-                if (!documents.isEmpty()) {
-                    batchNum[0]++;
-                    log.info("🔄 배치 {} 시작: {}개 문서 처리 중...", batchNum[0], documents.size());
-
-                    // 각 문서를 개별적으로 처리하여 API rate limit 문제 방지
-                    for (int i = 0; i < documents.size(); i++) {
-                        Document doc = documents.get(i);
-                        boolean success = addDocumentWithRetry(doc, i + 1, documents.size());
-
-                        if (success) {
-                            totalProcessed[0]++;
-
-                            // 마지막 문서가 아니면 API rate limit을 위해 대기
-                            if (i < documents.size() - 1) {
-                                try {
-                                    Thread.sleep(EMBEDDING_DELAY_MS);
-                                } catch (InterruptedException e) {
-                                    Thread.currentThread().interrupt();
-                                    log.warn("⚠️ 대기 중 인터럽트 발생");
-                                }
-                            }
-                        } else {
-                            log.warn("⚠️ 문서 추가 실패 (ID: {}), 계속 진행...", doc.getId());
-                        }
-                    }
+            // shadow 스토어에 적재 → 파일 저장 → 참조 교체
+            int totalProcessed = vectorStoreSyncService.rebuild();
 
-                    log.info("✓ 배치 {} 완료: {}개 문서 성공 (누적: {}개)",
-                            batchNum[0], documents.size(), totalProcessed[0]);
-                }
-            });
-
-            if (totalProcessed[0] == 0) {
+            if (totalProcessed == 0) {
                 log.warn("⚠️ 벡터 스토어에 추가할 장소가 없습니다");
                 return;
             }
 
-            // 3. 파일로 저장
-            if (vectorStore instanceof SimpleVectorStore simpleStore) {
-                simpleStore.save(vectorFile);
-                long elapsed = (System.currentTimeMillis() - startTime) / 1000;
-                log.info("💾 벡터 데이터 저장 완료: {} ({}초 소요, {}KB)",
-                        vectorStorePath, elapsed, vectorFile.length() / 1024);
-            }
-
             isVectorStoreReady = true;
             log.info("✅ 벡터 스토어 재생성 완료! (총 {}개 장소, {}초 소요)",
-                    totalProcessed[0], (System.currentTimeMillis() - startTime) / 1000);
+                    totalProcessed, (System.currentTimeMillis() - startTime) / 1000);
 
         } catch (Exception e) {
-            log.error("❌ 벡터 스토어 재생성 실패", e);
-            isVectorStoreReady = false;
-            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR,
-                    "벡터 스토어 재생성 중 오류가 발생했습니다.");
+            // 요청은 이미 응답했으므로 호출자에게 전달할 곳이 없음. 교체 전에 실패했으므로 기존 인덱스는 그대로 사용
+            // (접수 확인과 실행 사이에 다른 동기화가 먼저 잠금을 잡은 경우도 여기로 옴)
+            log.error("❌ 벡터 스토어 재생성 실패 (기존 인덱스 유지)", e);
         }
     }
 
-    public boolean isVectorStoreReady() {
-        return isVectorStoreReady;
-    }
-
-    private boolean addDocumentWithRetry(Document doc, int docIndex, int totalDocs) {
-        int attempt = 0;
-        Exception lastException = null;
-
-        while (attempt < MAX_RETRIES) {
-            try {
-                attempt++;
-                if (attempt > 1) {
-                    log.info("🔁 재시도 {}/{}: 문서 {}/{} (ID: {})",
-                            attempt, MAX_RETRIES, docIndex, totalDocs, doc.getId());
-                }
-
-                // 단일 문서를 리스트로 감싸서 추가
-                vectorStore.add(List.of(doc));
-
-                if (attempt > 1) {
-                    log.info("✅ 재시도 성공: 문서 {}/{}", docIndex, totalDocs);
-                }
-                return true;
-
-            } catch (Exception e) {
-                lastException = e;
-                log.warn("⚠️ 문서 추가 실패 ({}/{}): {} - {}",
-                        attempt, MAX_RETRIES, doc.getId(), e.getMessage());
-
-                if (attempt < MAX_RETRIES) {
-                    // Exponential backoff: 2초, 4초, 8초
-                    long backoffMs = (long) Math.pow(2, attempt) * 1000;
-                    try {
-                        log.info("⏳ {}초 후 재시도...", backoffMs / 1000);
-                        Thread.sleep(backoffMs);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.error("❌ 대기 중 인터럽트 발생");
-                        return false;
-                    }
-                }
+    /**
+     * 변경된 장소만 반영하는 증분 동기화 (관리자 API에서 호출)
+     * 기존 문서를 덮어쓰는 방식이라 동기화 중에도 벡터 검색은 계속 사용 가능
+     */
+    public VectorStoreSyncService.SyncResult syncVectorStore() {
+        log.info("🔄 벡터 스토어 증분 동기화 요청 접수");
+        try {
+            VectorStoreSyncService.SyncResult result = vectorStoreSyncService.syncIncremental();
+            if (!isVectorStoreReady && (result.embedded() > 0 || result.unchanged() > 0)) {
+                isVectorStoreReady = true;
             }
-        }
-
-        log.error("❌ 최대 재시도 횟수 초과: 문서 {} (ID: {})",
-                docIndex, doc.getId(), lastException);
-        return false;
-    }
-
-    private String buildDocumentContent(Course course) {
-        StringBuilder content = new StringBuilder();
-        content.append(course.getName()).append(" ");
-
-        if (StringUtils.hasText(course.getDescription())) {
-            content.append(course.getDescription()).append(" ");
-        }
+            return result;
 
-        if (StringUtils.hasText(course.getCategory())) {
-            content.append(course.getCategory()).append(" ");
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("❌ 벡터 스토어 증분 동기화 실패", e);
+            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR,
+                    "벡터 스토어 동기화 중 오류가 발생했습니다.");
         }
-
-        return content.toString().trim();
     }
 
-    private Map<String, Object> buildDocumentMetadata(Course course) {
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("name", course.getName());
-        metadata.put("category", course.getCategory() != null ? course.getCategory() : "");
-        metadata.put("address", course.getAddress() != null ? course.getAddress() : "");
-
-        return metadata;
+    public boolean isVectorStoreReady() {
+        return isVectorStoreReady;
     }
 
     public String createSession() {
@@ -323,91 +185,24 @@ public class ChatbotService {
         return sessionId;
     }
 
-    @Cacheable(value = "chatbot", key = "#sessionId + ':' + #message")
     public ChatResponse chat(String sessionId, String message) {
         // 세션 검증
         validateSession(sessionId);
 
         try {
-            // 자연어 검색이 필요한지 판단
-            boolean needsSemanticSearch = isSemanticQuery(message);
-
-            // 컨텍스트 구성 (RAG)
-            String context = needsSemanticSearch ?
-                    buildSemanticContext(message) :
-                    buildKeywordContext(message);
-            String prompt = String.format("""
-                당신은 부천시 관광 전문 AI 가이드 '글다'입니다.
-                20년 경력의 부천 여행 전문가처럼 상세하고 실용적인 정보를 제공하세요.
-
-                [부천 장소 정보]
-                %s
-
-                [사용자 질문]
-                %s
-
-                [답변 가이드라인]
-                1. 인사 & 맥락 파악
-                   - 사용자의 질문 의도를 정확히 파악
-                   - 간단하고 친근한 인사로 시작 (1문장)
-
-                2. 장소 추천 (최대 3개)
-                   각 장소마다 다음 형식으로 작성:
-                   📍 **장소명**
-                   • 특징: 이 장소만의 독특한 매력 (1문장)
-                   • 추천 이유: 사용자 질문과 연결된 구체적 이유 (1문장)
-                   • 방문 팁: 최적 시간대, 주변 볼거리, 주의사항 등 (1-2문장)
-                   • 위치: 주소 또는 접근성 정보
-
-                3. 추가 정보 (선택)
-                   - 장소 간 이동 시간/거리
-                   - 계절별 추천 시기
-                   - 함께 방문하면 좋은 주변 장소
-                   - 맛집/카페 조합 추천
-
-                4. 마무리
-                   - 따뜻한 격려나 추가 도움 제안 (1문장)
-
-                [필수 준수 사항]
-                - 위 참고 정보에 있는 장소만 추천
-                - 구체적인 숫자, 시간, 거리 포함
-                - 이모지로 가독성 향상 (📍🎨🍽️☕🌳🎭⏰🚗 등)
-                - 계절, 날씨, 시간대 고려한 맞춤 추천
-                - 실제 방문자처럼 생생한 정보 제공
-                - 참고 정보에 없는 장소 언급 금지
-                - 모호한 표현 지양 ("좋아요", "괜찮아요" 등)
-                - 과장된 홍보 문구 지양
-                - 간결하게 작성
-
-                [응답 예시]
-                안녕하세요! 부천에서 데이트하기 좋은 곳을 찾으시는군요 😊
-
-                📍 **석왕사**
-                • 특징: 조용한 산속 사찰로 단풍과 벚꽃이 아름다운 힐링 명소입니다
-                • 추천 이유: 도심 속 고즈넉한 분위기에서 여유로운 산책 데이트를 즐길 수 있어요
-                • 방문 팁: 평일 오전 방문 시 한적하며, 주변 둘레길(약 1.5km)을 함께 걸으면 좋습니다
-                • 위치: 부천시 원미구 춘의동 (시청에서 차로 10분)
-
-                📍 **부천 아트벙커**
-                • 특징: 지하 벙커를 개조한 복합문화공간, 독특한 건축미가 인상적입니다
-                • 추천 이유: 전시, 영화, 공연을 한 곳에서 즐길 수 있어 문화 데이트에 최적입니다
-                • 방문 팁: 주말 오후 2-5시 방문 추천, 전시 후 1층 카페에서 여유 시간 가지세요
-                • 위치: 부천역 도보 5분 (무료 주차 가능)
-
-                ⏰ 두 곳 모두 2-3시간이면 충분히 둘러볼 수 있어요. 궁금한 점 있으면 언제든 물어보세요! 🌟
-                """, context, message);
+            PreparedChat prepared = prepareChat(message);
+            if (prepared.cached() != null) {
+                saveChatHistory(sessionId, message, prepared.cached().message());
+                return prepared.cached();
+            }
 
             org.springframework.ai.chat.model.ChatResponse response = chatClient
-                    .prompt(prompt)
+                    .prompt(prepared.prompt())
                     .call()
                     .chatResponse();
 
             String botMessage = response.getResult().getOutput().getText();
-
-            // 채팅 히스토리 저장
-            saveChatHistory(sessionId, message, botMessage);
-
-            return new ChatResponse(botMessage);
+            return completeChat(sessionId, message, prepared, botMessage);
 
         } catch (Exception e) {
             log.error("챗봇 처리 실패", e);
@@ -416,6 +211,138 @@ public class ChatbotService {
         }
     }
 
+    /**
+     * 스트리밍 챗봇 대화 (SSE)
+     * - 검색/캐시 조회 같은 블로킹 작업은 boundedElastic에서 실행해 요청 스레드를 점유하지 않음
+     * - 토큰은 생성되는 대로 흘려보내고, 스트림이 끝나면 전체 답변을 히스토리/시맨틱 캐시에 저장
+     */
+    public Flux<String> chatStream(String sessionId, String message) {
+        // 세션 검증 (스트림 시작 전에 실패시켜 일반 에러 응답으로 처리)
+        validateSession(sessionId);
+
+        return Mono.fromCallable(() -> prepareChat(message))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(prepared -> {
+                    if (prepared.cached() != null) {
+                        String cachedMessage = prepared.cached().message();
+                        return Flux.just(cachedMessage)
+                                .concatWith(Mono.<String>fromRunnable(() ->
+                                                saveChatHistory(sessionId, message, cachedMessage))
+                                        .subscribeOn(Schedulers.boundedElastic()));
+                    }
+
+                    StringBuilder answer = new StringBuilder();
+                    return chatClient.prompt(prepared.prompt())
+                            .stream()
+                            .content()
+                            .doOnNext(answer::append)
+                            .concatWith(Mono.<String>fromRunnable(() ->
+                                            completeChat(sessionId, message, prepared, answer.toString()))
+                                    .subscribeOn(Schedulers.boundedElastic()));
+                })
+                .doOnError(e -> log.error("챗봇 스트리밍 처리 실패: session={}", sessionId, e));
+    }
+
+    /**
+     * 검색된 장소, 시맨틱 캐시 조회 결과, 프롬프트
+     */
+    private record PreparedChat(String prompt, Optional<SemanticAnswerCache.Query> cacheQuery, ChatResponse cached) {}
+
+    private PreparedChat prepareChat(String message) {
+        // 자연어 검색이 필요한지 판단
+        boolean needsSemanticSearch = isSemanticQuery(message);
+
+        // 컨텍스트 구성 (RAG)
+        List<Course> places = needsSemanticSearch ?
+                searchSemanticPlaces(message) :
+                searchKeywordPlaces(message);
+
+        // 비슷한 질문 + 같은 장소 집합이면 이전 답변 재사용 (LLM 호출 생략)
+        Optional<SemanticAnswerCache.Query> cacheQuery = semanticAnswerCache.prepare(
+                message, places.stream().map(Course::getId).toList());
+        Optional<ChatResponse> cached = cacheQuery.flatMap(semanticAnswerCache::get);
+        if (cached.isPresent()) {
+            return new PreparedChat(null, cacheQuery, cached.get());
+        }
+
+        String context = needsSemanticSearch ?
+                formatSemanticContext(places) :
+                formatKeywordContext(places);
+        return new PreparedChat(buildPrompt(context, message), cacheQuery, null);
+    }
+
+    private ChatResponse completeChat(String sessionId, String message, PreparedChat prepared, String botMessage) {
+        // 채팅 히스토리 저장
+        saveChatHistory(sessionId, message, botMessage);
+
+        ChatResponse chatResponse = new ChatResponse(botMessage);
+        prepared.cacheQuery().ifPresent(query -> semanticAnswerCache.put(query, chatResponse));
+        return chatResponse;
+    }
+
+    private String buildPrompt(String context, String message) {
+        return String.format("""
+            당신은 부천시 관광 전문 AI 가이드 '글다'입니다.
+            20년 경력의 부천 여행 전문가처럼 상세하고 실용적인 정보를 제공하세요.
+
+            [부천 장소 정보]
+            %s
+
+            [사용자 질문]
+            %s
+
+            [답변 가이드라인]
+            1. 인사 & 맥락 파악
+               - 사용자의 질문 의도를 정확히 파악
+               - 간단하고 친근한 인사로 시작 (1문장)
+
+            2. 장소 추천 (최대 3개)
+               각 장소마다 다음 형식으로 작성:
+               📍 **장소명**
+               • 특징: 이 장소만의 독특한 매력 (1문장)
+               • 추천 이유: 사용자 질문과 연결된 구체적 이유 (1문장)
+               • 방문 팁: 최적 시간대, 주변 볼거리, 주의사항 등 (1-2문장)
+               • 위치: 주소 또는 접근성 정보
+
+            3. 추가 정보 (선택)
+               - 장소 간 이동 시간/거리
+               - 계절별 추천 시기
+               - 함께 방문하면 좋은 주변 장소
+               - 맛집/카페 조합 추천
+
+            4. 마무리
+               - 따뜻한 격려나 추가 도움 제안 (1문장)
+
+            [필수 준수 사항]
+            - 위 참고 정보에 있는 장소만 추천
+            - 구체적인 숫자, 시간, 거리 포함
+            - 이모지로 가독성 향상 (📍🎨🍽️☕🌳🎭⏰🚗 등)
+            - 계절, 날씨, 시간대 고려한 맞춤 추천
+            - 실제 방문자처럼 생생한 정보 제공
+            - 참고 정보에 없는 장소 언급 금지
+            - 모호한 표현 지양 ("좋아요", "괜찮아요" 등)
+            - 과장된 홍보 문구 지양
+            - 간결하게 작성
+
+            [응답 예시]
+            안녕하세요! 부천에서 데이트하기 좋은 곳을 찾으시는군요 😊
+
+            📍 **석왕사**
+            • 특징: 조용한 산속 사찰로 단풍과 벚꽃이 아름다운 힐링 명소입니다
+            • 추천 이유: 도심 속 고즈넉한 분위기에서 여유로운 산책 데이트를 즐길 수 있어요
+            • 방문 팁: 평일 오전 방문 시 한적하며, 주변 둘레길(약 1.5km)을 함께 걸으면 좋습니다
+            • 위치: 부천시 원미구 춘의동 (시청에서 차로 10분)
+
+            📍 **부천 아트벙커**
+            • 특징: 지하 벙커를 개조한 복합문화공간, 독특한 건축미가 인상적입니다
+            • 추천 이유: 전시, 영화, 공연을 한 곳에서 즐길 수 있어 문화 데이트에 최적입니다
+            • 방문 팁: 주말 오후 2-5시 방문 추천, 전시 후 1층 카페에서 여유 시간 가지세요
+            • 위치: 부천역 도보 5분 (무료 주차 가능)
+
+            ⏰ 두 곳 모두 2-3시간이면 충분히 둘러볼 수 있어요. 궁금한 점 있으면 언제든 물어보세요! 🌟
+            """, context, message);
+    }
+
     private boolean isSemanticQuery(String message) {
         List<String> semanticKeywords = List.of(
                 "분위기", "느낌", "같은", "비슷한", "추천", "어떤", "좋은",
@@ -424,67 +351,61 @@ public class ChatbotService {
         return semanticKeywords.stream().anyMatch(message::contains);
     }
 
-    private String buildSemanticContext(String query) {
+    private List<Course> searchSemanticPlaces(String query) {
         @SuppressWarnings("unchecked")
         Map<String, Object> searchResult = (Map<String, Object>)
                 mcpServer.executeTool("semantic_search", Map.of("query", query));
 
         if (searchResult.containsKey("error")) {
             log.warn("시맨틱 검색 실패, 키워드 검색으로 대체");
-            return buildKeywordContext(query);
+            return searchKeywordPlaces(query);
         }
 
         @SuppressWarnings("unchecked")
         List<Course> courses = (List<Course>) searchResult.get("places");
-
-        if (courses == null || courses.isEmpty()) {
-            return "현재 검색된 장소가 없습니다.";
-        }
-
-        return courses.stream()
-                .map(course -> String.format("- %s: %s (%s)",
-                        course.getName(),
-                        course.getDescription() != null ? course.getDescription() : "",
-                        course.getAddress() != null ? course.getAddress() : ""))
-                .collect(Collectors.joining("\n"));
+        return courses != null ? courses : List.of();
     }
 
-    private String buildKeywordContext(String query) {
+    private List<Course> searchKeywordPlaces(String query) {
         // 키워드 추출
-        String keyword = extractKeyword(query);
+        String keyword = naturalLanguageParser.extractSearchKeyword(query);
 
         @SuppressWarnings("unchecked")
         Map<String, Object> searchResult = (Map<String, Object>)
                 mcpServer.executeTool("search_places", Map.of("keyword", keyword));
 
         if (searchResult.containsKey("error")) {
-            return "현재 검색된 장소가 없습니다.";
+            return List.of();
         }
 
         @SuppressWarnings("unchecked")
         List<Course> courses = (List<Course>) searchResult.get("places");
+        return courses != null ? courses : List.of();
+    }
 
-        if (courses == null || courses.isEmpty()) {
+    private String formatSemanticContext(List<Course> courses) {
+        if (courses.isEmpty()) {
             return "현재 검색된 장소가 없습니다.";
         }
 
         return courses.stream()
-                .map(course -> String.format("- %s: %s",
+                .map(course -> String.format("- %s: %s (%s)",
                         course.getName(),
-                        course.getDescription() != null ? course.getDescription() : ""))
+                        course.getDescription() != null ? course.getDescription() : "",
+                        course.getAddress() != null ? course.getAddress() : ""))
                 .collect(Collectors.joining("\n"));
     }
 
-    private String extractKeyword(String query) {
-        String[] stopWords = {"은", "는", "이", "가", "을", "를", "에", "의", "로", "으로",
-                "에서", "어디", "뭐", "무엇", "있어", "있나요", "알려줘", "추천"};
-
-        String cleaned = query;
-        for (String stopWord : stopWords) {
-            cleaned = cleaned.replace(stopWord, " ");
+    private String formatKeywordContext(List<Course> courses) {
+        if (courses.isEmpty()) {
+            return "현재 검색된 장소가 없습니다.";
         }
 
-        return cleaned.trim().split("\\s+")[0];
+        return courses.stream()
+                .map(course -> String.format("- %s: %s",
+                        course.getName(),
+                        course.getDescription() != null ? course.getDescription() : ""))
+                .collect(Collectors.joining("\n"));
     }
 
 
@@ -6,23 +6,36 @@ import com.CUK.geulDa.ai.dto.SessionData;
 import com.CUK.geulDa.ai.service.ai.AIPlaceGenerator;
 import com.CUK.geulDa.ai.service.ai.AIRecommendationEngine;
 import com.CUK.geulDa.ai.service.parser.NaturalLanguageParser;
+import com.CUK.geulDa.ai.service.planner.LocalCoursePlanner;
+import com.CUK.geulDa.ai.service.planner.RouteOptimizer;
 import com.CUK.geulDa.ai.service.search.CourseSearchService;
 import com.CUK.geulDa.ai.service.session.RecommendationSessionManager;
 import com.CUK.geulDa.ai.service.util.DataTransformService;
 import com.CUK.geulDa.ai.service.util.DistanceCalculator;
+import com.CUK.geulDa.ai.service.util.PlaceImageResolver;
 import com.CUK.geulDa.domain.course.Course;
 import com.CUK.geulDa.global.apiResponse.code.ErrorCode;
 import com.CUK.geulDa.global.apiResponse.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 
+/**
+ * 코스 추천 파이프라인
+ * - 서로 의존하지 않는 단계는 CompletableFuture로 동시에 실행
+ *   · 후보 검색(DB → 조건 완화 → AI 장소 생성)과 필수 방문지 의미론적 검색(벡터 검색)이 병렬 진행
+ *   · 필수 방문지 확정은 후보가 준비된 뒤 이름 매칭을 하고, 실패하면 후보와 미리 받아 둔 벡터 검색 결과를 한 번의 AI 호출로 함께 판정
+ * - 선정된 장소는 출발지 기준 총 이동 거리가 최소가 되도록 방문 순서를 재정렬 (RouteOptimizer)
+ * - 단계별 타임아웃을 넘기면 해당 단계는 빈 결과로 대체해 전체 추천은 계속 진행 (넘긴 단계의 작업 스레드는 인터럽트)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CourseRecommendService {
 
@@ -36,6 +49,50 @@ public class CourseRecommendService {
     private final AIRecommendationEngine aiRecommendationEngine;
     private final RecommendationSessionManager sessionManager;
     private final DistanceCalculator distanceCalculator;
+    private final LocalCoursePlanner localCoursePlanner;
+    private final RouteOptimizer routeOptimizer;
+    private final PlaceImageResolver placeImageResolver;
+    private final Executor recommendExecutor;
+
+    // 요청에 planner가 없을 때 사용할 기본 장소 선정 방식 (local | ai)
+    @Value("${geulda.ai.recommend.planner:local}")
+    private String defaultPlanner;
+
+    @Value("${geulda.ai.recommend.timeout.candidate-search-ms:10000}")
+    private long candidateSearchTimeoutMs;
+
+    @Value("${geulda.ai.recommend.timeout.place-generation-ms:20000}")
+    private long placeGenerationTimeoutMs;
+
+    @Value("${geulda.ai.recommend.timeout.semantic-match-ms:15000}")
+    private long semanticMatchTimeoutMs;
+
+    @Value("${geulda.ai.recommend.timeout.must-visit-ms:30000}")
+    private long mustVisitTimeoutMs;
+
+    public CourseRecommendService(DataTransformService dataTransformService,
+                                  CourseSearchService courseSearchService,
+                                  AIPlaceGenerator aiPlaceGenerator,
+                                  NaturalLanguageParser naturalLanguageParser,
+                                  AIRecommendationEngine aiRecommendationEngine,
+                                  RecommendationSessionManager sessionManager,
+                                  DistanceCalculator distanceCalculator,
+                                  LocalCoursePlanner localCoursePlanner,
+                                  RouteOptimizer routeOptimizer,
+                                  PlaceImageResolver placeImageResolver,
+                                  @Qualifier("recommendExecutor") Executor recommendExecutor) {
+        this.dataTransformService = dataTransformService;
+        this.courseSearchService = courseSearchService;
+        this.aiPlaceGenerator = aiPlaceGenerator;
+        this.naturalLanguageParser = naturalLanguageParser;
+        this.aiRecommendationEngine = aiRecommendationEngine;
+        this.sessionManager = sessionManager;
+        this.distanceCalculator = distanceCalculator;
+        this.localCoursePlanner = localCoursePlanner;
+        this.routeOptimizer = routeOptimizer;
+        this.placeImageResolver = placeImageResolver;
+        this.recommendExecutor = recommendExecutor;
+    }
 
     public CourseRecommendResponse recommend(RecommendRequest request) {
         log.info("코스 추천 시작: 목적={}, 교통수단={}",
@@ -58,83 +115,56 @@ public class CourseRecommendService {
             String normalizedPurpose = dataTransformService.normalizePurpose(request.travelPurpose());
             double radius = dataTransformService.getRadius(normalizedTransportation);
 
-            List<Course> searchedPlaces = courseSearchService.searchPlaces(
-                    userLat, userLon, radius, normalizedPurpose);
-
-            List<Course> candidates = searchedPlaces != null ? new ArrayList<>(searchedPlaces) : new ArrayList<>();
-
-            if (candidates.isEmpty()) {
-                log.debug("초기 검색 결과 없음. 조건 완화 시도");
-                candidates = courseSearchService.searchWithFallback(userLat, userLon, radius, normalizedPurpose);
-            }
-
-            if (candidates.size() < 3) {
-                log.debug("DB 검색 결과 부족 ({}개). AI로 장소 생성 시작", candidates.size());
-                List<Course> aiGeneratedPlaces = aiPlaceGenerator.generatePlacesWithAI(
-                        userLat, userLon, normalizedPurpose, normalizedTransportation,
-                        5 - candidates.size()
-                );
-                candidates.addAll(aiGeneratedPlaces);
-                log.debug("AI 생성 장소 {}개 추가. 총 {}개 장소",
-                        aiGeneratedPlaces.size(), candidates.size());
-            }
-
-            if (candidates.isEmpty()) {
-                log.warn("추천 가능한 장소 없음 (목적: {}, 위치: {}, {})",
-                        request.travelPurpose(), userLat, userLon);
-                String suggestion = String.format(
-                        "현재 위치(%s) 주변에서 '%s' 목적에 맞는 장소를 찾을 수 없습니다.\n" +
-                                "- 검색 범위를 넓혀보세요\n" +
-                                "- 여행 목적을 변경해보세요\n" +
-                                "- 위치 정보를 확인해주세요",
-                        userLat != 0 && userLon != 0 ? String.format("%.4f, %.4f", userLat, userLon)
-                                : "기본 위치",
-                        dataTransformService.translatePurpose(request.travelPurpose())
-                );
-                throw new BusinessException(ErrorCode.AI_NO_PLACES_FOUND, suggestion);
-            }
-
             NaturalLanguageParser.ParsedRequest parsed =
                     naturalLanguageParser.parseUserRequest(request.mustVisitPlace());
             log.debug("자연어 파싱 결과 - 필수장소: '{}', 제외: {}, 개수: {}",
                     parsed.cleanedMustVisitPlace(), parsed.excludeCategories(), parsed.placeCount());
+            String mustVisitPlace = parsed.cleanedMustVisitPlace();
+
+            // 1. 후보 검색 (DB → 조건 완화 → AI 생성) ─┐
+            // 2. 필수 방문지 의미론적 검색 ───────────────┴→ 3. 필수 방문지 확정 → 4. 최종 선정
+            CompletableFuture<List<Course>> candidatesFuture =
+                    searchCandidatesAsync(userLat, userLon, radius, normalizedPurpose, normalizedTransportation);
+
+            CompletableFuture<List<Course>> semanticMatchFuture = mustVisitPlace.isBlank()
+                    ? CompletableFuture.completedFuture(List.of())
+                    : supplyCancellable(() -> courseSearchService.searchSemanticCandidates(mustVisitPlace))
+                    .completeOnTimeout(List.of(), semanticMatchTimeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        log.warn("필수 방문지 의미론적 검색 실패: {}", e.getMessage());
+                        return List.of();
+                    });
 
-            if (!parsed.excludeCategories().isEmpty()) {
-                int beforeSize = candidates.size();
-                candidates = candidates.stream()
-                        .filter(place -> {
-                            String category = place.getCategory() != null ? place.getCategory() : "";
-                            return parsed.excludeCategories().stream()
-                                    .noneMatch(excluded -> category.contains(excluded) ||
-                                            excluded.contains(category));
-                        })
-                        .toList();
-                log.debug("제외 카테고리 필터링: {} → {} 장소", beforeSize, candidates.size());
-
-                if (candidates.isEmpty()) {
-                    throw new BusinessException(ErrorCode.AI_NO_PLACES_FOUND,
-                            "'음식점 제외' 조건으로 인해 추천 가능한 장소가 없습니다.");
-                }
+            List<Course> searchedPlaces = join(candidatesFuture);
+            if (searchedPlaces.isEmpty()) {
+                throw noPlacesFound(request, userLat, userLon);
             }
 
-            List<Course> mustVisitPlaces = new ArrayList<>();
-            List<Course> finalPlaces = candidates;
+            List<Course> candidates = excludeCategories(searchedPlaces, parsed.excludeCategories());
+            if (candidates.isEmpty()) {
+                throw new BusinessException(ErrorCode.AI_NO_PLACES_FOUND,
+                        "'음식점 제외' 조건으로 인해 추천 가능한 장소가 없습니다.");
+            }
 
-            if (!parsed.cleanedMustVisitPlace().isBlank()) {
-                CourseSearchService.MustVisitResult result =
-                        aiRecommendationEngine.processMustVisitPlaceWithAI(candidates,
-                                parsed.cleanedMustVisitPlace());
-                mustVisitPlaces = result.mustVisitPlaces();
-                finalPlaces = result.candidates();
+            CourseSearchService.MustVisitResult mustVisit = mustVisitPlace.isBlank()
+                    ? new CourseSearchService.MustVisitResult(List.of(), candidates)
+                    : join(resolveMustVisitAsync(candidates, mustVisitPlace, semanticMatchFuture));
 
-                if (!mustVisitPlaces.isEmpty()) {
-                    log.debug("필수 방문지 확정: {} 개", mustVisitPlaces.size());
-                }
+            List<Course> mustVisitPlaces = mustVisit.mustVisitPlaces();
+            if (!mustVisitPlaces.isEmpty()) {
+                log.debug("필수 방문지 확정: {} 개", mustVisitPlaces.size());
             }
 
-            List<CourseRecommendResponse.PlaceDetail> recommended =
-                    aiRecommendationEngine.selectBestPlaces(finalPlaces, request, mustVisitPlaces,
-                            parsed.placeCount());
+            // 로컬 플래너는 방문 순서까지 최적화해서 반환, AI 선정 결과는 LLM이 준 순서라 경로 최적화를 거침
+            List<CourseRecommendResponse.PlaceDetail> recommended = usesLocalPlanner(request)
+                    ? planLocally(mustVisit.candidates(), mustVisitPlaces, normalizedPurpose, radius,
+                            userLat, userLon, parsed.placeCount())
+                    : routeOptimizer.reorder(
+                            aiRecommendationEngine.selectBestPlaces(mustVisit.candidates(), request, mustVisitPlaces,
+                                    parsed.placeCount()),
+                            CourseRecommendResponse.PlaceDetail::latitude,
+                            CourseRecommendResponse.PlaceDetail::longitude,
+                            userLat, userLon);
 
             String sessionId = UUID.randomUUID().toString();
             sessionManager.saveSession(sessionId, null, recommended,
@@ -160,6 +190,161 @@ public class CourseRecommendService {
         }
     }
 
+    /**
+     * 후보 검색 단계: DB 검색 → (결과 없으면) 조건 완화 → (3개 미만이면) AI 장소 생성
+     * DB 검색이 시간 초과되면 추천 실패, AI 생성이 시간 초과되면 DB 결과만 사용
+     */
+    private CompletableFuture<List<Course>> searchCandidatesAsync(
+            double userLat, double userLon, double radius, String purpose, String transportation) {
+
+        return supplyCancellable(() -> {
+                    List<Course> candidates = courseSearchService.searchPlaces(userLat, userLon, radius, purpose);
+                    if (candidates.isEmpty()) {
+                        log.debug("초기 검색 결과 없음. 조건 완화 시도");
+                        candidates = courseSearchService.searchWithFallback(userLat, userLon, radius, purpose);
+                    }
+                    return candidates;
+                })
+                .orTimeout(candidateSearchTimeoutMs, TimeUnit.MILLISECONDS)
+                .thenCompose(candidates -> {
+                    if (candidates.size() >= 3) {
+                        return CompletableFuture.completedFuture(candidates);
+                    }
+
+                    log.debug("DB 검색 결과 부족 ({}개). AI로 장소 생성 시작", candidates.size());
+                    return supplyCancellable(() -> aiPlaceGenerator.generatePlacesWithAI(
+                                    userLat, userLon, purpose, transportation, 5 - candidates.size()))
+                            .completeOnTimeout(List.of(), placeGenerationTimeoutMs, TimeUnit.MILLISECONDS)
+                            .exceptionally(e -> {
+                                log.warn("AI 장소 생성 실패: {}", e.getMessage());
+                                return List.of();
+                            })
+                            .thenApply(aiGeneratedPlaces -> {
+                                List<Course> merged = new ArrayList<>(candidates);
+                                merged.addAll(aiGeneratedPlaces);
+                                log.debug("AI 생성 장소 {}개 추가. 총 {}개 장소",
+                                        aiGeneratedPlaces.size(), merged.size());
+                                return merged;
+                            });
+                });
+    }
+
+    /**
+     * 필수 방문지 확정 단계. 시간 초과 시 필수 방문지 없이 진행
+     */
+    private CompletableFuture<CourseSearchService.MustVisitResult> resolveMustVisitAsync(
+            List<Course> candidates, String mustVisitPlace,
+            CompletableFuture<List<Course>> semanticMatchFuture) {
+
+        return supplyCancellable(() -> aiRecommendationEngine.processMustVisitPlaceWithAI(
+                        candidates, mustVisitPlace, semanticMatchFuture::join))
+                .completeOnTimeout(new CourseSearchService.MustVisitResult(List.of(), candidates),
+                        mustVisitTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("필수 방문지 확정 실패, 필수 방문지 없이 진행: {}", e.getMessage());
+                    return new CourseSearchService.MustVisitResult(List.of(), candidates);
+                });
+    }
+
+    /**
+     * recommendExecutor에서 task를 실행하는 future
+     * completeOnTimeout/orTimeout으로 먼저 완료되면 작업 스레드를 인터럽트해 LLM 호출/저장을 중단
+     * (CompletableFuture.supplyAsync는 타임아웃 후에도 작업이 끝까지 실행됨)
+     */
+    private <T> CompletableFuture<T> supplyCancellable(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> worker = new FutureTask<>(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+        // 작업이 이미 끝났으면 cancel은 아무 일도 하지 않음
+        result.whenComplete((value, e) -> worker.cancel(true));
+        recommendExecutor.execute(worker);
+        return result;
+    }
+
+    private boolean usesLocalPlanner(RecommendRequest request) {
+        String planner = request.planner() != null && !request.planner().isBlank()
+                ? request.planner()
+                : defaultPlanner;
+        return !"ai".equalsIgnoreCase(planner);
+    }
+
+    /**
+     * 로컬 플래너로 장소 선정 + 방문 순서 결정 (LLM 호출 없음)
+     */
+    private List<CourseRecommendResponse.PlaceDetail> planLocally(
+            List<Course> candidates, List<Course> mustVisitPlaces, String purpose, double radius,
+            double userLat, double userLon, int targetCount) {
+
+        return localCoursePlanner.plan(candidates, mustVisitPlaces, purpose, radius, userLat, userLon, targetCount)
+                .stream()
+                .map(place -> new CourseRecommendResponse.PlaceDetail(
+                        place.getId(),
+                        place.getName(),
+                        place.getAddress(),
+                        place.getLatitude(),
+                        place.getLongitude(),
+                        place.getDescription(),
+                        placeImageResolver.resolvePlaceImageUrl(place)
+                ))
+                .toList();
+    }
+
+    private List<Course> excludeCategories(List<Course> candidates, List<String> excludeCategories) {
+        if (excludeCategories.isEmpty()) {
+            return candidates;
+        }
+
+        int beforeSize = candidates.size();
+        List<Course> filtered = candidates.stream()
+                .filter(place -> {
+                    String category = place.getCategory() != null ? place.getCategory() : "";
+                    return excludeCategories.stream()
+                            .noneMatch(excluded -> category.contains(excluded) ||
+                                    excluded.contains(category));
+                })
+                .toList();
+        log.debug("제외 카테고리 필터링: {} → {} 장소", beforeSize, filtered.size());
+        return filtered;
+    }
+
+    private BusinessException noPlacesFound(RecommendRequest request, double userLat, double userLon) {
+        log.warn("추천 가능한 장소 없음 (목적: {}, 위치: {}, {})",
+                request.travelPurpose(), userLat, userLon);
+        String suggestion = String.format(
+                "현재 위치(%s) 주변에서 '%s' 목적에 맞는 장소를 찾을 수 없습니다.\n" +
+                        "- 검색 범위를 넓혀보세요\n" +
+                        "- 여행 목적을 변경해보세요\n" +
+                        "- 위치 정보를 확인해주세요",
+                userLat != 0 && userLon != 0 ? String.format("%.4f, %.4f", userLat, userLon)
+                        : "기본 위치",
+                dataTransformService.translatePurpose(request.travelPurpose())
+        );
+        return new BusinessException(ErrorCode.AI_NO_PLACES_FOUND, suggestion);
+    }
+
+    /**
+     * 단계 결과 대기. 단계 내부에서 던진 BusinessException은 그대로 전달
+     */
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new BusinessException(ErrorCode.AI_SERVICE_ERROR,
+                        "장소 검색 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+            }
+            throw e;
+        }
+    }
+
     public SessionData getSession(String sessionId) {
         return sessionManager.getSession(sessionId);
     }
@@ -0,0 +1,191 @@
+package com.CUK.geulDa.ai.service;
+
+import com.CUK.geulDa.ai.dto.ChatResponse;
+import com.CUK.geulDa.ai.vectorstore.VectorSimilarityKernel;
+import com.CUK.geulDa.ai.vectorstore.VectorStoreFactory;
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 챗봇 답변 시맨틱 캐시 (세션 무관)
+ * - 질문 임베딩의 코사인 유사도가 임계값 이상이고, 검색된 장소 집합이 같을 때만 이전 답변을 재사용
+ * - 항목은 TTL이 지나면 만료되고, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 캐시 적중 = Gemini 호출 1회 절약 (geulda.chat.semantic-cache{result=hit})
+ */
+@Component
+@Slf4j
+public class SemanticAnswerCache {
+
+    private final EmbeddingModel embeddingModel;
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int maxEntries;
+    private final Duration ttl;
+
+    private final Map<Long, CachedAnswer> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long nextId = 0;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public SemanticAnswerCache(
+            VectorStoreFactory vectorStoreFactory,
+            MeterRegistry meterRegistry,
+            @Value("${geulda.ai.semantic-cache.enabled:true}") boolean enabled,
+            @Value("${geulda.ai.semantic-cache.similarity-threshold:0.92}") double similarityThreshold,
+            @Value("${geulda.ai.semantic-cache.max-entries:500}") int maxEntries,
+            @Value("${geulda.ai.semantic-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.embeddingModel = vectorStoreFactory.getEmbeddingModel();
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+
+        this.hits = Counter.builder("geulda.chat.semantic-cache")
+                .description("시맨틱 캐시 적중으로 절약한 LLM 호출 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("geulda.chat.semantic-cache")
+                .description("시맨틱 캐시 미적중 (LLM 호출)")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 키: 질문 임베딩 + 검색된 장소 ID 집합
+     */
+    public record Query(float[] embedding, Set<Long> placeIds) {}
+
+    private record CachedAnswer(float[] embedding, Set<Long> placeIds, ChatResponse response, long expiresAt) {}
+
+    /**
+     * 질문을 임베딩해 조회 키 생성. 캐시 비활성화 또는 임베딩 실패 시 empty (캐시 없이 진행)
+     */
+    public Optional<Query> prepare(String message, Collection<Long> placeIds) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            float[] embedding = embeddingModel.embed(normalize(message)).clone();
+            VectorSimilarityKernel.normalize(embedding);
+            return Optional.of(new Query(embedding, Set.copyOf(placeIds)));
+        } catch (Exception e) {
+            log.warn("⚠️ 시맨틱 캐시용 질문 임베딩 실패, 캐시 없이 진행: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<ChatResponse> get(Query query) {
+        long now = System.currentTimeMillis();
+        CachedAnswer best = null;
+        Long bestId = null;
+        float bestScore = (float) similarityThreshold;
+
+        synchronized (entries) {
+            Iterator<Map.Entry<Long, CachedAnswer>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, CachedAnswer> entry = iterator.next();
+                CachedAnswer candidate = entry.getValue();
+
+                if (candidate.expiresAt() < now) {
+                    iterator.remove();
+                    continue;
+                }
+                if (!candidate.placeIds().equals(query.placeIds())) {
+                    continue;
+                }
+
+                float score = VectorSimilarityKernel.dot(
+                        candidate.embedding(), 0, query.embedding(), query.embedding().length);
+                if (score >= bestScore) {
+                    best = candidate;
+                    bestId = entry.getKey();
+                    bestScore = score;
+                }
+            }
+
+            if (best != null) {
+                entries.get(bestId);  // LRU 순서 갱신
+            }
+        }
+
+        if (best == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        log.debug("시맨틱 캐시 적중 (유사도 {})", String.format("%.3f", bestScore));
+        return Optional.of(best.response());
+    }
+
+    public void put(Query query, ChatResponse response) {
+        CachedAnswer answer = new CachedAnswer(query.embedding(), query.placeIds(), response,
+                System.currentTimeMillis() + ttl.toMillis());
+
+        synchronized (entries) {
+            entries.put(nextId++, answer);
+
+            Iterator<Long> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * 바뀐 장소가 검색 결과에 들어 있던 답변만 제거
+     * - 새로 생긴 장소는 이후 검색 결과(장소 ID 집합)가 달라져 기존 항목과 맞지 않으므로 따로 지울 필요 없음
+     * - 답변은 텍스트뿐이라 이미지 URL만 바뀐 경우(이미지 마이그레이션 등)는 무시
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.imageOnly()) {
+            return;
+        }
+
+        Set<Long> changedIds = new HashSet<>();
+        for (Course course : event.courses()) {
+            if (course.getId() != null) {
+                changedIds.add(course.getId());
+            }
+        }
+        if (changedIds.isEmpty()) {
+            return;
+        }
+
+        int evicted = 0;
+        synchronized (entries) {
+            Iterator<CachedAnswer> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (!Collections.disjoint(iterator.next().placeIds(), changedIds)) {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        log.debug("시맨틱 캐시 무효화: {}개 장소 변경, {}개 답변 제거", changedIds.size(), evicted);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private String normalize(String message) {
+        return message.trim().replaceAll("\\s+", " ");
+    }
+}
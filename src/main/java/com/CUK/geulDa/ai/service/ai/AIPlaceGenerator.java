@@ -1,14 +1,11 @@
 package com.CUK.geulDa.ai.service.ai;
 
+import com.CUK.geulDa.ai.dto.GeneratedPlacesResult;
 import com.CUK.geulDa.ai.service.util.DataTransformService;
 import com.CUK.geulDa.domain.course.Course;
 import com.CUK.geulDa.domain.course.service.CourseService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -19,10 +16,9 @@ import java.util.List;
 @Slf4j
 public class AIPlaceGenerator {
 
-    private final ChatClient chatClient;
+    private final StructuredOutputClient structuredOutputClient;
     private final CourseService courseService;
     private final DataTransformService dataTransformService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     public List<Course> generatePlacesByUserRequest(String userRequest) {
         String prompt = String.format("""
@@ -50,67 +46,15 @@ public class AIPlaceGenerator {
             요청: "박물관" → 부천로보파크, 부천교육박물관 등
             요청: "쇼핑" → 부천역 현대백화점, 뉴코아아울렛 등
 
-            [출력 형식]
-            반드시 다음 JSON 형식으로만 응답하세요:
-            {
-              "places": [
-                {
-                  "name": "장소명 (구체적으로)",
-                  "address": "전체 주소",
-                  "latitude": 위도,
-                  "longitude": 경도,
-                  "description": "장소 설명 (50자 이내)",
-                  "category": "카테고리 (음식점/카페/문화시설/자연/쇼핑/교육시설 중 하나)"
-                }
-              ]
-            }
+            category는 음식점/카페/문화시설/자연/쇼핑/교육시설 중 하나로 작성하세요.
 
             중요: 가짜 장소 금지! 실제 존재하며 영업 중인 장소만 추천하세요.
             """, userRequest);
 
         try {
-            ChatResponse response = chatClient
-                    .prompt(prompt)
-                    .call()
-                    .chatResponse();
-
-            String aiResponse = response.getResult().getOutput().getText();
-            log.debug("AI 장소 생성 응답: {}", aiResponse);
-
-            String jsonPart = extractJsonFromResponse(aiResponse);
-            JsonNode root = objectMapper.readTree(jsonPart);
-            JsonNode placesNode = root.get("places");
-
-            if (placesNode == null || !placesNode.isArray()) {
-                log.warn("AI 응답에 places 배열 없음");
-                return List.of();
-            }
-
-            List<Course> coursesToSave = new ArrayList<>();
-            for (JsonNode placeNode : placesNode) {
-                try {
-                    Course place = Course.builder()
-                            .name(placeNode.get("name").asText())
-                            .address(placeNode.get("address").asText())
-                            .latitude(placeNode.get("latitude").asDouble())
-                            .longitude(placeNode.get("longitude").asDouble())
-                            .description(placeNode.has("description") ?
-                                    placeNode.get("description").asText() : "AI 추천 장소")
-                            .category(placeNode.has("category") ?
-                                    placeNode.get("category").asText() : "기타")
-                            .tourPurposeTags("데이트,친구,가족")
-                            .isHidden(false)
-                            .popularityScore(50)
-                            .dataSource("AI_GENERATED")
-                            .placeImg(null)
-                            .build();
-                    coursesToSave.add(place);
-                } catch (Exception e) {
-                    log.warn("장소 파싱 실패", e);
-                }
-            }
-
-            return courseService.saveAllCourses(coursesToSave);
+            GeneratedPlacesResult generated = structuredOutputClient.call(
+                    "place_generation_by_request", prompt, GeneratedPlacesResult.class);
+            return save(generated, "데이트,친구,가족");
 
         } catch (Exception e) {
             log.error("AI 장소 생성 실패", e);
@@ -130,20 +74,7 @@ public class AIPlaceGenerator {
                 3. 좌표는 (%.4f, %.4f) 중심으로 15km 이내
                 4. %s로 이동 가능한 거리
 
-                JSON 형식으로 응답하세요:
-                {
-                  "places": [
-                    {
-                      "name": "장소명",
-                      "address": "전체 주소",
-                      "latitude": 위도,
-                      "longitude": 경도,
-                      "description": "장소 설명 (50자 이내)",
-                      "category": "카테고리 (관광지/음식점/카페/문화시설/공원 중 하나)",
-                      "tourPurposeTags": "쉼표로 구분된 태그 (예: dating,family)"
-                    }
-                  ]
-                }
+                category는 관광지/음식점/카페/문화시설/공원 중 하나로 작성하세요.
 
                 중요: 반드시 실제 존재하는 장소만 추천하세요. 정확한 주소와 좌표를 제공하세요.
                 """,
@@ -155,15 +86,9 @@ public class AIPlaceGenerator {
         );
 
         try {
-            ChatResponse response = chatClient
-                    .prompt(prompt)
-                    .call()
-                    .chatResponse();
-
-            String aiResponse = response.getResult().getOutput().getText();
-            log.debug("AI 장소 생성 응답: {}", aiResponse);
-
-            return parseAIGeneratedPlaces(aiResponse, purpose);
+            GeneratedPlacesResult generated = structuredOutputClient.call(
+                    "place_generation", prompt, GeneratedPlacesResult.class);
+            return save(generated, purpose);
 
         } catch (Exception e) {
             log.error("AI 장소 생성 실패", e);
@@ -171,56 +96,48 @@ public class AIPlaceGenerator {
         }
     }
 
-    private List<Course> parseAIGeneratedPlaces(String aiResponse, String purpose) {
-        try {
-            String jsonPart = extractJsonFromResponse(aiResponse);
-            JsonNode root = objectMapper.readTree(jsonPart);
-            JsonNode placesNode = root.get("places");
-
-            if (placesNode == null || !placesNode.isArray()) {
-                log.warn("AI 응답에 places 배열 없음");
-                return List.of();
-            }
-
-            List<Course> coursesToSave = new ArrayList<>();
-            for (JsonNode placeNode : placesNode) {
-                try {
-                    Course place = Course.builder()
-                            .name(placeNode.get("name").asText())
-                            .address(placeNode.get("address").asText())
-                            .latitude(placeNode.get("latitude").asDouble())
-                            .longitude(placeNode.get("longitude").asDouble())
-                            .description(placeNode.has("description") ?
-                                    placeNode.get("description").asText() : "AI 추천 장소")
-                            .category(placeNode.has("category") ?
-                                    placeNode.get("category").asText() : "기타")
-                            .tourPurposeTags(placeNode.has("tourPurposeTags") ?
-                                    placeNode.get("tourPurposeTags").asText() : purpose)
-                            .isHidden(false)
-                            .popularityScore(50)
-                            .dataSource("AI_GENERATED")
-                            .placeImg(null)
-                            .build();
-                    coursesToSave.add(place);
-                } catch (Exception e) {
-                    log.warn("장소 파싱 실패", e);
-                }
-            }
-
-            return courseService.saveAllCourses(coursesToSave);
-
-        } catch (Exception e) {
-            log.error("AI 응답 파싱 실패", e);
+    /**
+     * 추천 단계가 시간 초과로 취소되어 스레드가 인터럽트되었으면 생성 결과를 버림 (응답에 쓰이지 않을 장소는 저장하지 않음)
+     */
+    private List<Course> save(GeneratedPlacesResult generated, String defaultTags) {
+        if (Thread.currentThread().isInterrupted()) {
+            log.warn("⚠️ AI 장소 생성 요청이 취소되어 생성된 장소를 저장하지 않음");
             return List.of();
         }
+        return courseService.saveAllCourses(toCourses(generated, defaultTags));
     }
 
-    private String extractJsonFromResponse(String response) {
-        int start = response.indexOf('{');
-        int end = response.lastIndexOf('}');
-        if (start >= 0 && end > start) {
-            return response.substring(start, end + 1);
+    /**
+     * 이름/주소/좌표가 빠진 장소는 건너뜀
+     */
+    private List<Course> toCourses(GeneratedPlacesResult generated, String defaultTags) {
+        if (generated.places() == null) {
+            log.warn("AI 응답에 places 배열 없음");
+            return List.of();
+        }
+
+        List<Course> courses = new ArrayList<>();
+        for (GeneratedPlacesResult.GeneratedPlace place : generated.places()) {
+            if (place == null || place.name() == null || place.address() == null
+                    || place.latitude() == null || place.longitude() == null) {
+                log.warn("장소 파싱 실패: 필수 항목 누락 ({})", place);
+                continue;
+            }
+
+            courses.add(Course.builder()
+                    .name(place.name())
+                    .address(place.address())
+                    .latitude(place.latitude())
+                    .longitude(place.longitude())
+                    .description(place.description() != null ? place.description() : "AI 추천 장소")
+                    .category(place.category() != null ? place.category() : "기타")
+                    .tourPurposeTags(place.tourPurposeTags() != null ? place.tourPurposeTags() : defaultTags)
+                    .isHidden(false)
+                    .popularityScore(50)
+                    .dataSource("AI_GENERATED")
+                    .placeImg(null)
+                    .build());
         }
-        return response;
+        return courses;
     }
 }
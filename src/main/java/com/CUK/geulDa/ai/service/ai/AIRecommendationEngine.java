@@ -1,22 +1,23 @@
 package com.CUK.geulDa.ai.service.ai;
 
 import com.CUK.geulDa.ai.dto.CourseRecommendResponse;
+import com.CUK.geulDa.ai.dto.PlaceSelectionResult;
 import com.CUK.geulDa.ai.dto.RecommendRequest;
 import com.CUK.geulDa.ai.service.search.CourseSearchService;
 import com.CUK.geulDa.ai.service.util.DataTransformService;
 import com.CUK.geulDa.ai.service.util.PlaceImageResolver;
 import com.CUK.geulDa.domain.course.Course;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,12 +25,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AIRecommendationEngine {
 
-    private final ChatClient chatClient;
     private final DataTransformService dataTransformService;
     private final PlaceImageResolver placeImageResolver;
     private final CourseSearchService courseSearchService;
     private final AIPlaceGenerator aiPlaceGenerator;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StructuredOutputClient structuredOutputClient;
+    private final PromptBudgetManager promptBudgetManager;
+    private final MustVisitResolver mustVisitResolver;
 
     public List<CourseRecommendResponse.PlaceDetail> selectBestPlaces(
             List<Course> candidates, RecommendRequest request, List<Course> mustVisitPlaces,
@@ -68,6 +70,17 @@ public class AIRecommendationEngine {
             return result.subList(0, targetCount);
         }
 
+        PromptBudgetManager.CandidateBlock candidateBlock = promptBudgetManager.compact(candidates, null,
+                (place, description) -> String.format(
+                        "ID: %d | %s | 카테고리: %s | 인기도: %d | 설명: %s | 좌표: (%.4f, %.4f)",
+                        place.getId(),
+                        place.getName(),
+                        place.getCategory() != null ? place.getCategory() : "기타",
+                        place.getPopularityScore() != null ? place.getPopularityScore() : 50,
+                        description,
+                        place.getLatitude(),
+                        place.getLongitude()));
+
         String prompt = String.format("""
                 당신은 부천 지역 관광 전문가입니다. 다음 기준으로 최적의 장소 %d개를 선택하세요.
 
@@ -82,15 +95,6 @@ public class AIRecommendationEngine {
                 [후보 장소 목록]
                 %s
 
-                [출력 형식]
-                반드시 다음 JSON 형식으로만 응답하세요:
-                {
-                  "recommendations": [
-                    {"placeId": 123},
-                    {"placeId": 456}
-                  ]
-                }
-
                 [필수 지침]
                 - 동선을 고려해 가까운 장소들을 묶어서 선택
                 - 인기도가 높은 장소 우선 (70점 이상 최우선)
@@ -102,32 +106,15 @@ public class AIRecommendationEngine {
                 dataTransformService.translatePurpose(request.travelPurpose()),
                 dataTransformService.translateTransportation(request.transportation()),
                 request.stayDuration() != null ? request.stayDuration() : "당일치기",
-                candidates.stream()
-                        .map(place -> String.format(
-                                "ID: %d | %s | 카테고리: %s | 인기도: %d | 설명: %s | 좌표: (%.4f, %.4f)",
-                                place.getId(),
-                                place.getName(),
-                                place.getCategory() != null ? place.getCategory() : "기타",
-                                place.getPopularityScore() != null ? place.getPopularityScore() : 50,
-                                place.getDescription() != null ? place.getDescription() : "정보 없음",
-                                place.getLatitude(),
-                                place.getLongitude()))
-                        .collect(Collectors.joining("\n")),
+                candidateBlock.text(),
                 remainingCount
         );
 
         try {
-            ChatResponse response = chatClient
-                    .prompt(prompt)
-                    .options(org.springframework.ai.chat.prompt.ChatOptions.builder()
-                            .temperature(0.8)
-                            .build())
-                    .call()
-                    .chatResponse();
-
-            String aiResponse = response.getResult().getOutput().getText();
-            List<CourseRecommendResponse.PlaceDetail> aiSelected =
-                    parseAIRecommendation(aiResponse, candidates);
+            PlaceSelectionResult selection = structuredOutputClient.call(
+                    "place_selection", prompt, PlaceSelectionResult.class, 0.8);
+            List<CourseRecommendResponse.PlaceDetail> aiSelected = toPlaceDetails(selection, candidates);
+            log.debug("AI 추천 성공: {} 장소 선택됨", aiSelected.size());
             result.addAll(aiSelected);
 
             return result;
@@ -154,171 +141,49 @@ public class AIRecommendationEngine {
         }
     }
 
-    private List<CourseRecommendResponse.PlaceDetail> parseAIRecommendation(
-            String aiResponse, List<Course> candidates) {
-        try {
-            String jsonPart = extractJsonFromResponse(aiResponse);
-            JsonNode root = objectMapper.readTree(jsonPart);
-
-            List<CourseRecommendResponse.PlaceDetail> details = new ArrayList<>();
-            JsonNode recommendations = root.get("recommendations");
-
-            if (recommendations != null && recommendations.isArray()) {
-                for (JsonNode rec : recommendations) {
-                    Long placeId = rec.get("placeId").asLong();
-
-                    candidates.stream()
-                            .filter(place -> place.getId() != null && place.getId().equals(placeId))
-                            .findFirst()
-                            .ifPresent(place -> details.add(
-                                    new CourseRecommendResponse.PlaceDetail(
-                                            place.getId(),
-                                            place.getName(),
-                                            place.getAddress(),
-                                            place.getLatitude(),
-                                            place.getLongitude(),
-                                            place.getDescription(),
-                                            placeImageResolver.resolvePlaceImageUrl(place)
-                                    )
-                            ));
-                }
-            }
-
-            if (!details.isEmpty()) {
-                log.debug("AI 추천 성공: {} 장소 선택됨", details.size());
-                return details;
-            }
-
-        } catch (Exception e) {
-            log.warn("AI 추천 파싱 실패", e);
+    private List<CourseRecommendResponse.PlaceDetail> toPlaceDetails(
+            PlaceSelectionResult selection, List<Course> candidates) {
+        if (selection.recommendations() == null) {
+            return List.of();
         }
 
-        return List.of();
+        Map<Long, Course> candidatesById = candidates.stream()
+                .filter(place -> place.getId() != null)
+                .collect(Collectors.toMap(Course::getId, Function.identity(), (first, second) -> first));
+
+        return selection.recommendations().stream()
+                .filter(Objects::nonNull)
+                .map(PlaceSelectionResult.Recommendation::placeId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(candidatesById::get)
+                .filter(Objects::nonNull)
+                .map(place -> new CourseRecommendResponse.PlaceDetail(
+                        place.getId(),
+                        place.getName(),
+                        place.getAddress(),
+                        place.getLatitude(),
+                        place.getLongitude(),
+                        place.getDescription(),
+                        placeImageResolver.resolvePlaceImageUrl(place)
+                ))
+                .toList();
     }
 
-    public Optional<Course> selectPlaceByContext(List<Course> candidates, String userRequest) {
-        if (candidates.isEmpty()) {
-            return Optional.empty();
-        }
-
-        String prompt = String.format("""
-                사용자가 필수로 방문하고 싶은 장소를 요청했습니다: "%s"
-
-                아래 후보 장소 목록에서 사용자의 요청에 가장 적합한 장소 1개를 선택하세요.
-
-                [후보 장소 목록]
-                %s
-
-                [분석 가이드]
-                - 사용자 요청의 맥락과 의도 파악
-                - 장소의 이름, 카테고리, 설명을 종합적으로 분석
-                - 가장 적합한 장소 1개만 선택
-
-                [예시]
-                요청: "카페 같은 곳" → 카테고리가 '카페'이거나 분위기 좋은 곳 선택
-                요청: "조용한 곳" → '자연', '공원', '사찰' 등 힐링 장소 선택
-                요청: "사진 찍기 좋은 곳" → 건축미/경관이 특별한 곳 선택
-                요청: "밥 먹을 곳" → '음식점' 카테고리 선택
-                요청: "아이들이랑" → 가족 단위 방문에 적합한 곳 선택
-
-                [출력 형식]
-                반드시 JSON 형식으로만 응답하세요:
-                {
-                  "placeId": 123,
-                  "reason": "선택 이유 (1문장)"
-                }
-
-                만약 적합한 장소가 없다면:
-                {
-                  "placeId": null,
-                  "reason": "적합한 장소 없음"
-                }
-                """,
-                userRequest,
-                candidates.stream()
-                        .map(place -> String.format("ID: %d | 이름: %s | 카테고리: %s | 설명: %s",
-                                place.getId(),
-                                place.getName(),
-                                place.getCategory() != null ? place.getCategory() : "없음",
-                                place.getDescription() != null ? place.getDescription() : "없음"))
-                        .collect(Collectors.joining("\n"))
-        );
-
-        try {
-            ChatResponse response = chatClient
-                    .prompt(prompt)
-                    .call()
-                    .chatResponse();
-
-            String aiResponse = response.getResult().getOutput().getText();
-            log.debug("AI 맥락 파악 응답: {}", aiResponse);
-
-            String jsonPart = extractJsonFromResponse(aiResponse);
-            JsonNode root = objectMapper.readTree(jsonPart);
-
-            JsonNode placeIdNode = root.get("placeId");
-            if (placeIdNode != null && !placeIdNode.isNull()) {
-                Long selectedId = placeIdNode.asLong();
-                String reason = root.has("reason") ? root.get("reason").asText() : "AI 선택";
-
-                log.debug("AI 선택 결과: placeId={}, 이유={}", selectedId, reason);
-
-                return candidates.stream()
-                        .filter(place -> place.getId().equals(selectedId))
-                        .findFirst();
-            }
-
-        } catch (Exception e) {
-            log.error("AI 맥락 파악 실패", e);
-        }
-
-        return Optional.empty();
-    }
-
-    public boolean verifyPlaceRelevance(Course place, String userRequest) {
-        String prompt = String.format("""
-                사용자 요청: "%s"
-                장소: %s (카테고리: %s, 설명: %s)
-
-                이 장소가 사용자 요청과 관련이 있나요?
-
-                [판단 기준]
-                - 요청: "학교", "교육시설" → 장소 카테고리가 "교육시설"이어야 함
-                - 요청: "카페" → 카테고리가 "카페"이거나 설명에 카페 관련 내용
-                - 요청: "공원", "자연" → 카테고리가 "자연"
-                - 요청: "쇼핑" → 카테고리가 "쇼핑" 또는 백화점/마트
-
-                [출력]
-                관련 있으면 true, 없으면 false만 출력하세요.
-                """,
-                userRequest,
-                place.getName(),
-                place.getCategory() != null ? place.getCategory() : "없음",
-                place.getDescription() != null ? place.getDescription() : "없음"
-        );
-
-        try {
-            ChatResponse response = chatClient
-                    .prompt(prompt)
-                    .call()
-                    .chatResponse();
-
-            String aiResponse = response.getResult().getOutput().getText().trim().toLowerCase();
-            boolean isRelevant = aiResponse.contains("true");
-
-            log.debug("AI 관련성 검증: {} - {} = {}",
-                    userRequest, place.getName(), isRelevant);
-
-            return isRelevant;
-
-        } catch (Exception e) {
-            log.error("AI 관련성 검증 실패, 안전하게 false 반환", e);
-            return false;
-        }
+    public CourseSearchService.MustVisitResult processMustVisitPlaceWithAI(
+            List<Course> candidates, String mustVisitPlace) {
+        return processMustVisitPlaceWithAI(candidates, mustVisitPlace,
+                () -> courseSearchService.searchSemanticCandidates(mustVisitPlace));
     }
 
+    /**
+     * 필수 방문지 확정 (이름 매칭 → 후보 + 벡터 검색 결과 일괄 AI 판정 → AI 생성 순)
+     *
+     * @param vectorHitsSupplier 벡터 스토어 의미론적 검색 결과. 후보와 무관하므로 호출자가 미리 병렬로 시작해 둘 수 있음
+     */
     public CourseSearchService.MustVisitResult processMustVisitPlaceWithAI(
-            List<Course> candidates, String mustVisitPlace) {
+            List<Course> candidates, String mustVisitPlace,
+            Supplier<List<Course>> vectorHitsSupplier) {
 
         CourseSearchService.MustVisitResult basicResult =
                 courseSearchService.findMustVisitPlaces(candidates, mustVisitPlace);
@@ -327,13 +192,12 @@ public class AIRecommendationEngine {
             return basicResult;
         }
 
-        log.debug("AI 맥락 파악 시작: '{}'", mustVisitPlace);
-        List<Course> allVisiblePlaces = courseSearchService.findMustVisitPlaces(candidates, "").candidates();
-        Optional<Course> aiSelectedPlace = selectPlaceByContext(allVisiblePlaces, mustVisitPlace);
+        log.debug("필수 방문지 일괄 판정 시작: '{}'", mustVisitPlace);
+        Optional<Course> resolved = mustVisitResolver.resolve(mustVisitPlace, candidates, vectorHitsSupplier.get());
 
-        if (aiSelectedPlace.isPresent()) {
-            Course mustVisit = aiSelectedPlace.get();
-            log.debug("AI 맥락 파악 성공: {} (요청: '{}')", mustVisit.getName(), mustVisitPlace);
+        if (resolved.isPresent()) {
+            Course mustVisit = resolved.get();
+            log.debug("필수 방문지 판정 성공: {} (요청: '{}')", mustVisit.getName(), mustVisitPlace);
 
             List<Course> others = candidates.stream()
                     .filter(p -> !p.getId().equals(mustVisit.getId()))
@@ -341,25 +205,6 @@ public class AIRecommendationEngine {
             return new CourseSearchService.MustVisitResult(List.of(mustVisit), others);
         }
 
-        log.debug("벡터 스토어 의미론적 검색: '{}'", mustVisitPlace);
-        Optional<Course> semanticMatch = courseSearchService.searchBySemanticSimilarity(mustVisitPlace);
-
-        if (semanticMatch.isPresent()) {
-            Course candidate = semanticMatch.get();
-
-            if (verifyPlaceRelevance(candidate, mustVisitPlace)) {
-                log.debug("의미론적 검색 성공: {} (요청: '{}')", candidate.getName(), mustVisitPlace);
-
-                List<Course> others = candidates.stream()
-                        .filter(p -> !p.getId().equals(candidate.getId()))
-                        .toList();
-                return new CourseSearchService.MustVisitResult(List.of(candidate), others);
-            } else {
-                log.debug("벡터 검색 결과가 요청과 관련 없음: {} (요청: '{}')",
-                        candidate.getName(), mustVisitPlace);
-            }
-        }
-
         log.debug("AI로 주변 지역에서 '{}' 검색 시작", mustVisitPlace);
         List<Course> aiGeneratedPlaces = aiPlaceGenerator.generatePlacesByUserRequest(mustVisitPlace);
 
@@ -377,13 +222,4 @@ public class AIRecommendationEngine {
         log.debug("모든 전략 실패: '{}'", mustVisitPlace);
         return new CourseSearchService.MustVisitResult(List.of(), candidates);
     }
-
-    private String extractJsonFromResponse(String response) {
-        int start = response.indexOf('{');
-        int end = response.lastIndexOf('}');
-        if (start >= 0 && end > start) {
-            return response.substring(start, end + 1);
-        }
-        return response;
-    }
 }
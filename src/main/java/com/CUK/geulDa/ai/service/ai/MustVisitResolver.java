@@ -0,0 +1,185 @@
+package com.CUK.geulDa.ai.service.ai;
+
+import com.CUK.geulDa.ai.dto.MustVisitRelevanceResult;
+import com.CUK.geulDa.ai.service.embedding.EmbeddingRelevanceScorer;
+import com.CUK.geulDa.domain.course.Course;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 필수 방문지 일괄 판정
+ * - 벡터 검색 결과 + 후보 장소(요청 키워드/이름 일치 우선)를 먼저 임베딩 유사도로 판정
+ *   · 분명히 관련 있는 장소가 하나로 좁혀지면 확정, 모두 관련 없으면 기각 (LLM 호출 없음)
+ * - 애매한 경우에만 애매한 장소들을 한 번의 구조화 LLM 호출로 함께 평가
+ *   · 관련성이 relevance-threshold 이상인 장소 중 가장 높은 곳을 선택
+ * - 판정 경로는 geulda.ai.must-visit.decision{result=local_accept|local_reject|llm}로 기록
+ */
+@Component
+@Slf4j
+public class MustVisitResolver {
+
+    private final StructuredOutputClient structuredOutputClient;
+    private final PromptBudgetManager promptBudgetManager;
+    private final EmbeddingRelevanceScorer relevanceScorer;
+    private final MeterRegistry meterRegistry;
+    private final double relevanceThreshold;
+
+    public MustVisitResolver(
+            StructuredOutputClient structuredOutputClient,
+            PromptBudgetManager promptBudgetManager,
+            EmbeddingRelevanceScorer relevanceScorer,
+            MeterRegistry meterRegistry,
+            @Value("${geulda.ai.must-visit.relevance-threshold:0.6}") double relevanceThreshold) {
+        this.structuredOutputClient = structuredOutputClient;
+        this.promptBudgetManager = promptBudgetManager;
+        this.relevanceScorer = relevanceScorer;
+        this.meterRegistry = meterRegistry;
+        this.relevanceThreshold = relevanceThreshold;
+    }
+
+    /**
+     * @param vectorHits 벡터 스토어 의미론적 검색 결과 (후보 목록 밖의 장소일 수 있음)
+     * @return 요청에 가장 적합한 장소. 적합한 장소가 없거나 호출 실패 시 empty
+     */
+    public Optional<Course> resolve(String userRequest, List<Course> candidates, List<Course> vectorHits) {
+        List<Course> pool = buildPool(userRequest, candidates, vectorHits);
+        if (pool.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            EmbeddingRelevanceScorer.Judgement judgement = relevanceScorer.judge(userRequest, pool);
+            if (judgement.accepted() != null) {
+                record("local_accept");
+                log.debug("필수 방문지 임베딩 판정 확정: {} (요청: '{}')", judgement.accepted().getName(), userRequest);
+                return Optional.of(judgement.accepted());
+            }
+            if (judgement.ambiguous().isEmpty()) {
+                record("local_reject");
+                log.debug("필수 방문지 임베딩 판정: 관련 장소 없음 (요청: '{}', 후보 {}개)", userRequest, pool.size());
+                return Optional.empty();
+            }
+            pool = judgement.ambiguous();
+        } catch (Exception e) {
+            log.warn("⚠️ 임베딩 관련성 판정 실패, LLM으로 판정: {}", e.getMessage());
+        }
+        record("llm");
+
+        PromptBudgetManager.CandidateBlock candidateBlock = promptBudgetManager.compact(pool, userRequest,
+                (place, description) -> String.format("ID: %d | 이름: %s | 카테고리: %s | 설명: %s",
+                        place.getId(),
+                        place.getName(),
+                        place.getCategory() != null ? place.getCategory() : "없음",
+                        description));
+
+        String prompt = String.format("""
+                사용자가 필수로 방문하고 싶은 장소를 요청했습니다: "%s"
+
+                아래 후보 장소 각각이 사용자의 요청과 얼마나 관련 있는지 0.0 ~ 1.0 점수로 평가하세요.
+
+                [후보 장소 목록]
+                %s
+
+                [판단 기준]
+                - 사용자 요청의 맥락과 의도 파악
+                - 장소의 이름, 카테고리, 설명을 종합적으로 분석
+                - 요청: "학교", "교육시설" → 카테고리가 '교육시설'인 곳만 관련 있음
+                - 요청: "카페 같은 곳" → 카테고리가 '카페'이거나 분위기 좋은 곳
+                - 요청: "조용한 곳" → '자연', '공원', '사찰' 등 힐링 장소
+                - 요청: "사진 찍기 좋은 곳" → 건축미/경관이 특별한 곳
+                - 요청: "밥 먹을 곳" → '음식점' 카테고리
+                - 요청: "아이들이랑" → 가족 단위 방문에 적합한 곳
+
+                - 관련 없는 장소(0.3 미만)는 생략해도 됩니다
+                - 적합한 장소가 하나도 없다면 빈 목록으로 응답
+                """,
+                userRequest,
+                candidateBlock.text()
+        );
+
+        try {
+            MustVisitRelevanceResult result = structuredOutputClient.call(
+                    "must_visit_relevance", prompt, MustVisitRelevanceResult.class);
+
+            Map<Long, Course> poolById = new HashMap<>();
+            candidateBlock.places().forEach(place -> poolById.putIfAbsent(place.getId(), place));
+
+            MustVisitRelevanceResult.PlaceRelevance best = null;
+            for (MustVisitRelevanceResult.PlaceRelevance scored : Optional.ofNullable(result.places()).orElse(List.of())) {
+                if (scored == null || scored.placeId() == null || scored.relevance() == null
+                        || !poolById.containsKey(scored.placeId()) || scored.relevance() < relevanceThreshold) {
+                    continue;
+                }
+                if (best == null || scored.relevance() > best.relevance()) {
+                    best = scored;
+                }
+            }
+
+            if (best == null) {
+                log.debug("필수 방문지 일괄 판정: 적합한 장소 없음 (요청: '{}', 후보 {}개)",
+                        userRequest, candidateBlock.places().size());
+                return Optional.empty();
+            }
+
+            log.debug("필수 방문지 일괄 판정: placeId={}, 관련성={}, 이유={}",
+                    best.placeId(), best.relevance(), best.reason());
+            return Optional.of(poolById.get(best.placeId()));
+
+        } catch (Exception e) {
+            log.error("필수 방문지 일괄 판정 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 벡터 검색 결과 → 이름/키워드가 겹치는 후보 → 나머지 후보 순 (중복 제거)
+     * 예산을 넘어 잘릴 때 관련 가능성이 높은 장소가 먼저 남도록 함
+     */
+    private List<Course> buildPool(String userRequest, List<Course> candidates, List<Course> vectorHits) {
+        List<String> keywords = Arrays.stream(userRequest.split("\\s+"))
+                .filter(word -> word.length() >= 2)
+                .toList();
+
+        List<Course> matched = new ArrayList<>();
+        List<Course> others = new ArrayList<>();
+        for (Course place : candidates) {
+            if (mentions(place, userRequest, keywords)) {
+                matched.add(place);
+            } else {
+                others.add(place);
+            }
+        }
+
+        Map<Long, Course> pool = new LinkedHashMap<>();
+        for (List<Course> group : List.of(vectorHits, matched, others)) {
+            group.stream()
+                    .filter(place -> place.getId() != null)
+                    .forEach(place -> pool.putIfAbsent(place.getId(), place));
+        }
+        return new ArrayList<>(pool.values());
+    }
+
+    private void record(String result) {
+        Counter.builder("geulda.ai.must-visit.decision")
+                .description("필수 방문지 판정 경로 (llm = 임베딩으로 판정하지 못해 LLM 호출)")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static boolean mentions(Course place, String userRequest, List<String> keywords) {
+        String name = place.getName() != null ? place.getName() : "";
+        if (!name.isEmpty() && (name.contains(userRequest) || userRequest.contains(name))) {
+            return true;
+        }
+        String category = place.getCategory() != null ? place.getCategory() : "";
+        String description = place.getDescription() != null ? place.getDescription() : "";
+        return keywords.stream().anyMatch(keyword ->
+                name.contains(keyword) || category.contains(keyword) || description.contains(keyword));
+    }
+}
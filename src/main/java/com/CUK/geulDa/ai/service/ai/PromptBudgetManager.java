@@ -0,0 +1,201 @@
+package com.CUK.geulDa.ai.service.ai;
+
+import com.CUK.geulDa.domain.course.Course;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * LLM 프롬프트에 넣을 후보 장소 목록 압축
+ * - 후보가 max-candidates를 넘으면 로컬 점수(인기도 + 요청 키워드 일치)와 벡터 유사도로 상위만 남김
+ * - 설명은 첫 문장 위주로 description-max-chars까지 줄임
+ * - 줄 단위로 토큰을 추정해 candidate-token-budget을 넘기 전까지만 포함
+ */
+@Component
+@Slf4j
+public class PromptBudgetManager {
+
+    private static final double POPULARITY_WEIGHT = 0.3;
+    private static final double KEYWORD_WEIGHT = 0.5;
+    private static final double SIMILARITY_WEIGHT = 1.0;
+
+    private final VectorStore vectorStore;
+    private final int tokenBudget;
+    private final int maxCandidates;
+    private final int descriptionMaxChars;
+
+    public PromptBudgetManager(
+            VectorStore vectorStore,
+            @Value("${geulda.ai.prompt.candidate-token-budget:2500}") int tokenBudget,
+            @Value("${geulda.ai.prompt.max-candidates:30}") int maxCandidates,
+            @Value("${geulda.ai.prompt.description-max-chars:80}") int descriptionMaxChars) {
+        this.vectorStore = vectorStore;
+        this.tokenBudget = tokenBudget;
+        this.maxCandidates = maxCandidates;
+        this.descriptionMaxChars = descriptionMaxChars;
+    }
+
+    /**
+     * 프롬프트에 실제로 들어간 장소와 후보 목록 텍스트
+     */
+    public record CandidateBlock(List<Course> places, String text, int estimatedTokens) {}
+
+    /**
+     * @param candidates 프롬프트에 넣을 후보. 결과도 이 순서를 유지
+     * @param query      사용자 요청 (없으면 인기도만으로 추림)
+     * @param formatter  (장소, 줄인 설명) → 프롬프트 한 줄
+     */
+    public CandidateBlock compact(List<Course> candidates, String query,
+                                  BiFunction<Course, String, String> formatter) {
+        List<Course> shortlisted = candidates.size() > maxCandidates
+                ? shortlist(candidates, query)
+                : candidates;
+
+        List<Course> included = new ArrayList<>(shortlisted.size());
+        StringBuilder text = new StringBuilder();
+        int tokens = 0;
+
+        for (Course place : shortlisted) {
+            String line = formatter.apply(place, truncateDescription(place.getDescription()));
+            int lineTokens = estimateTokens(line) + 1;
+            if (!included.isEmpty() && tokens + lineTokens > tokenBudget) {
+                break;
+            }
+
+            if (!included.isEmpty()) {
+                text.append('\n');
+            }
+            text.append(line);
+            included.add(place);
+            tokens += lineTokens;
+        }
+
+        if (included.size() < candidates.size()) {
+            log.debug("프롬프트 후보 압축: {} → {}개 (약 {}토큰, 예산 {})",
+                    candidates.size(), included.size(), tokens, tokenBudget);
+        }
+        return new CandidateBlock(List.copyOf(included), text.toString(), tokens);
+    }
+
+    /**
+     * 대략적인 토큰 수: 한글/한자는 글자당 1, 그 밖의 문자는 4글자당 1 (공백 제외)
+     */
+    public int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int wide = 0;
+        int narrow = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if ((c >= '가' && c <= '힣') || (c >= '㄰' && c <= '㆏')
+                    || (c >= '一' && c <= '鿿')) {
+                wide++;
+            } else {
+                narrow++;
+            }
+        }
+        return wide + (narrow + 3) / 4;
+    }
+
+    /**
+     * 첫 문장이 한도 안이면 첫 문장만, 아니면 한도에서 자르고 "…"
+     */
+    private String truncateDescription(String description) {
+        if (description == null || description.isBlank()) {
+            return "정보 없음";
+        }
+
+        String trimmed = description.strip().replaceAll("\\s+", " ");
+        int sentenceEnd = firstSentenceEnd(trimmed);
+        if (sentenceEnd > 0 && sentenceEnd <= descriptionMaxChars) {
+            return trimmed.substring(0, sentenceEnd);
+        }
+        if (trimmed.length() <= descriptionMaxChars) {
+            return trimmed;
+        }
+
+        int cut = descriptionMaxChars;
+        if (Character.isHighSurrogate(trimmed.charAt(cut - 1))) {
+            cut--;
+        }
+        return trimmed.substring(0, cut) + "…";
+    }
+
+    private List<Course> shortlist(List<Course> candidates, String query) {
+        Map<Long, Double> similarities = query != null && !query.isBlank()
+                ? similarities(query)
+                : Map.of();
+        List<String> keywords = query != null
+                ? Arrays.stream(query.split("\\s+")).filter(word -> word.length() >= 2).toList()
+                : List.of();
+
+        Map<Course, Double> scores = new IdentityHashMap<>();
+        for (Course place : candidates) {
+            double popularity = (place.getPopularityScore() != null ? place.getPopularityScore() : 50) / 100.0;
+            double keywordHit = keywords.stream().anyMatch(keyword -> mentions(place, keyword)) ? 1.0 : 0.0;
+            double similarity = place.getId() != null ? similarities.getOrDefault(place.getId(), 0.0) : 0.0;
+            scores.put(place, POPULARITY_WEIGHT * popularity + KEYWORD_WEIGHT * keywordHit
+                    + SIMILARITY_WEIGHT * similarity);
+        }
+
+        Set<Course> top = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.stream()
+                .sorted(Comparator.comparingDouble((Course place) -> scores.get(place)).reversed())
+                .limit(maxCandidates)
+                .forEach(top::add);
+
+        return candidates.stream().filter(top::contains).toList();
+    }
+
+    /**
+     * 벡터 검색 상위 max-candidates개의 장소 ID별 유사도. 실패하면 빈 맵 (로컬 점수만 사용)
+     */
+    private Map<Long, Double> similarities(String query) {
+        try {
+            List<Document> documents = vectorStore.similaritySearch(
+                    SearchRequest.builder().query(query).topK(maxCandidates).build());
+
+            Map<Long, Double> result = new HashMap<>();
+            for (Document document : documents) {
+                try {
+                    result.put(Long.parseLong(document.getId()),
+                            document.getScore() != null ? document.getScore() : 0.0);
+                } catch (NumberFormatException e) {
+                    log.warn("잘못된 장소 ID 형식: {}", document.getId());
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("⚠️ 후보 압축용 벡터 검색 실패, 로컬 점수만 사용: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static boolean mentions(Course place, String keyword) {
+        return (place.getName() != null && place.getName().contains(keyword))
+                || (place.getCategory() != null && place.getCategory().contains(keyword))
+                || (place.getDescription() != null && place.getDescription().contains(keyword));
+    }
+
+    private static int firstSentenceEnd(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean boundary = i + 1 == text.length() || Character.isWhitespace(text.charAt(i + 1));
+            if ((c == '.' || c == '!' || c == '?') && boundary) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+}
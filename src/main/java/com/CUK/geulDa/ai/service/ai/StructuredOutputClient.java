@@ -0,0 +1,125 @@
+package com.CUK.geulDa.ai.service.ai;
+
+import com.CUK.geulDa.global.apiResponse.code.ErrorCode;
+import com.CUK.geulDa.global.apiResponse.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON 스키마 기반 구조화 출력 호출
+ * - 응답 타입(record)에서 만든 JSON 스키마를 프롬프트에 붙이고, 모델은 application/json으로만 응답하도록 지정
+ * - 응답은 바로 record로 역직렬화하고, 형식이 깨졌을 때만 깨진 응답을 스키마에 맞게 고치는 짧은 요청을 최대 repair-attempts회 보냄
+ * - 결과는 geulda.ai.structured-output{operation, result=success|repaired|failed}로 기록
+ */
+@Component
+@Slf4j
+public class StructuredOutputClient {
+
+    private static final String JSON_MIME_TYPE = "application/json";
+
+    private final ChatClient chatClient;
+    private final MeterRegistry meterRegistry;
+    private final int maxRepairAttempts;
+
+    private final Map<Class<?>, BeanOutputConverter<?>> converters = new ConcurrentHashMap<>();
+
+    public StructuredOutputClient(
+            ChatClient chatClient,
+            MeterRegistry meterRegistry,
+            @Value("${geulda.ai.structured-output.repair-attempts:1}") int maxRepairAttempts) {
+        this.chatClient = chatClient;
+        this.meterRegistry = meterRegistry;
+        this.maxRepairAttempts = maxRepairAttempts;
+    }
+
+    public <T> T call(String operation, String prompt, Class<T> type) {
+        return call(operation, prompt, type, null);
+    }
+
+    /**
+     * @param operation   메트릭 태그용 호출 이름
+     * @param temperature null이면 모델 기본값
+     * @throws BusinessException 복구 시도 후에도 응답을 해석하지 못한 경우 (AI_RESPONSE_PARSE_ERROR)
+     */
+    public <T> T call(String operation, String prompt, Class<T> type, Double temperature) {
+        BeanOutputConverter<T> converter = converter(type);
+        String text = request(prompt + "\n\n" + converter.getFormat(), temperature);
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                T result = converter.convert(text);
+                if (result == null) {
+                    throw new IllegalStateException("빈 응답");
+                }
+                record(operation, attempt == 0 ? "success" : "repaired");
+                return result;
+            } catch (RuntimeException e) {
+                if (attempt >= maxRepairAttempts) {
+                    record(operation, "failed");
+                    log.warn("⚠️ 구조화 응답 해석 실패 ({}, 복구 {}회): {}", operation, attempt, e.getMessage());
+                    throw new BusinessException(ErrorCode.AI_RESPONSE_PARSE_ERROR,
+                            operation + " 응답을 해석하지 못했습니다.");
+                }
+
+                log.debug("구조화 응답 형식 오류, 복구 요청 ({}): {}", operation, e.getMessage());
+                text = request(repairPrompt(text, e, converter), 0.0);
+            }
+        }
+    }
+
+    private String request(String prompt, Double temperature) {
+        return chatClient
+                .prompt(prompt)
+                .options(GoogleGenAiChatOptions.builder()
+                        .responseMimeType(JSON_MIME_TYPE)
+                        .temperature(temperature)
+                        .build())
+                .call()
+                .content();
+    }
+
+    /**
+     * 원래 프롬프트를 다시 보내지 않고 깨진 응답만 고치게 해 토큰과 시간을 줄임
+     */
+    private String repairPrompt(String brokenText, RuntimeException error, BeanOutputConverter<?> converter) {
+        return String.format("""
+                다음 응답이 JSON 스키마에 맞지 않아 해석하지 못했습니다.
+                내용은 바꾸지 말고 형식만 스키마에 맞게 고친 JSON만 출력하세요.
+
+                [오류]
+                %s
+
+                [응답]
+                %s
+
+                [JSON 스키마]
+                %s
+                """,
+                error.getMessage(),
+                brokenText != null ? brokenText : "(빈 응답)",
+                converter.getJsonSchema());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BeanOutputConverter<T> converter(Class<T> type) {
+        return (BeanOutputConverter<T>) converters.computeIfAbsent(type, BeanOutputConverter::new);
+    }
+
+    private void record(String operation, String result) {
+        Counter.builder("geulda.ai.structured-output")
+                .description("구조화 출력 LLM 호출 결과 (failed = 복구 후에도 해석 실패)")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
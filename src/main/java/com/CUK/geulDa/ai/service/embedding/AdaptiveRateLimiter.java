@@ -0,0 +1,64 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+/**
+ * 처리율이 자동 조정되는 토큰 버킷
+ * - 성공 시 초당 허용량을 조금씩 올리고(additive increase), 실패 시 절반으로 낮춤(multiplicative decrease)
+ * - 고정 sleep 대신 현재 허용량에 맞춰 필요한 만큼만 대기
+ */
+public class AdaptiveRateLimiter {
+
+    private static final double INCREASE_STEP = 0.5;
+
+    private final double minPermitsPerSecond;
+    private final double maxPermitsPerSecond;
+
+    private double permitsPerSecond;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public AdaptiveRateLimiter(double initialPermitsPerSecond, double minPermitsPerSecond,
+                               double maxPermitsPerSecond) {
+        this.minPermitsPerSecond = minPermitsPerSecond;
+        this.maxPermitsPerSecond = maxPermitsPerSecond;
+        this.permitsPerSecond = Math.max(minPermitsPerSecond,
+                Math.min(maxPermitsPerSecond, initialPermitsPerSecond));
+        this.availablePermits = 1.0;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+
+    public synchronized void onSuccess() {
+        permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + INCREASE_STEP);
+    }
+
+    public synchronized void onFailure() {
+        permitsPerSecond = Math.max(minPermitsPerSecond, permitsPerSecond / 2);
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * 토큰 1개를 예약하고, 예약분이 사용 가능해질 때까지의 대기 시간(ns)을 반환
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        double burst = Math.max(1.0, permitsPerSecond);
+        availablePermits = Math.min(burst,
+                availablePermits + (now - lastRefillNanos) / 1e9 * permitsPerSecond);
+        lastRefillNanos = now;
+
+        availablePermits -= 1.0;
+        if (availablePermits >= 0) {
+            return 0;
+        }
+        return (long) (-availablePermits / permitsPerSecond * 1e9);
+    }
+}
@@ -0,0 +1,200 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 임베딩 결과 캐시 (EmbeddingModel 데코레이터)
+ * - 1차: 프로세스 내 LRU (float[])
+ * - 2차: Redis (little-endian float32 바이너리)
+ * - 키: 모델명 + 정규화한 텍스트(NFC, 공백 정리)의 SHA-256
+ * 같은 질문이나 내용이 바뀌지 않은 장소 설명은 외부 임베딩 API를 호출하지 않음
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private static final String KEY_PREFIX = "embedding:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final EmbeddingModel delegate;
+    private final String modelName;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final Duration redisTtl;
+    private final Map<String, float[]> localCache;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public CachingEmbeddingModel(EmbeddingModel delegate, String modelName,
+                                 RedisTemplate<String, byte[]> redisTemplate, Duration redisTtl,
+                                 int maxLocalEntries, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.modelName = modelName;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > maxLocalEntries;
+            }
+        });
+
+        this.localHits = cacheCounter(meterRegistry, "local_hit");
+        this.redisHits = cacheCounter(meterRegistry, "redis_hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+    }
+
+    private Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("geulda.embedding.cache")
+                .description("임베딩 캐시 조회 결과")
+                .tag("model", modelName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        List<String> texts = request.getInstructions();
+        float[][] vectors = new float[texts.size()][];
+        String[] keys = new String[texts.size()];
+
+        // 1차: 로컬 LRU
+        List<Integer> localMisses = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            keys[i] = cacheKey(texts.get(i));
+            float[] cached = localCache.get(keys[i]);
+            if (cached != null) {
+                vectors[i] = cached.clone();
+                localHits.increment();
+            } else {
+                localMisses.add(i);
+            }
+        }
+
+        // 2차: Redis (한 번의 MGET)
+        List<Integer> remoteMisses = new ArrayList<>();
+        List<byte[]> stored = multiGet(localMisses.stream().map(i -> keys[i]).toList());
+        for (int j = 0; j < localMisses.size(); j++) {
+            int i = localMisses.get(j);
+            byte[] bytes = stored != null ? stored.get(j) : null;
+            if (bytes != null) {
+                vectors[i] = decode(bytes);
+                localCache.put(keys[i], vectors[i].clone());
+                redisHits.increment();
+            } else {
+                remoteMisses.add(i);
+            }
+        }
+
+        // 캐시에 없는 텍스트만 모아 한 번에 임베딩
+        if (!remoteMisses.isEmpty()) {
+            misses.increment(remoteMisses.size());
+            List<String> missTexts = remoteMisses.stream().map(texts::get).toList();
+            EmbeddingResponse response = delegate.call(new EmbeddingRequest(missTexts, request.getOptions()));
+
+            Map<String, byte[]> toStore = new HashMap<>();
+            List<Embedding> results = response.getResults();
+            for (int j = 0; j < results.size(); j++) {
+                int i = remoteMisses.get(j);
+                vectors[i] = results.get(j).getOutput();
+                localCache.put(keys[i], vectors[i].clone());
+                toStore.put(keys[i], encode(vectors[i]));
+            }
+            multiSet(toStore);
+        }
+
+        List<Embedding> embeddings = new ArrayList<>(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            embeddings.add(new Embedding(vectors[i], i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return embed(document.getText());
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    private String cacheKey(String text) {
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC))
+                .replaceAll(" ")
+                .trim();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + modelName + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    // Redis 장애 시에는 캐시 없이 동작 (임베딩 자체는 실패시키지 않음)
+    private List<byte[]> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("⚠️ 임베딩 캐시(Redis) 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void multiSet(Map<String, byte[]> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            // SET + TTL을 파이프라인으로 묶어 한 번의 왕복으로 저장
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                    entries.forEach((key, value) -> ops.opsForValue().set(key, value, redisTtl));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ 임베딩 캐시(Redis) 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
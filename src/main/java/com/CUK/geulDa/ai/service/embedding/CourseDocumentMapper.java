@@ -0,0 +1,84 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+import com.CUK.geulDa.domain.course.Course;
+import org.springframework.ai.document.Document;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Course → 벡터 스토어 Document 변환
+ * - 임베딩 본문과 메타데이터를 만들고, 둘을 합친 SHA-256 해시를 contentHash 메타데이터로 기록
+ * - 해시가 같으면 임베딩 결과도 같으므로 증분 동기화에서 재임베딩 여부 판단에 사용
+ */
+@Component
+public class CourseDocumentMapper {
+
+    public static final String CONTENT_HASH_KEY = "contentHash";
+
+    /**
+     * 임베딩 대상 여부 (설명이 없는 장소는 검색 품질이 낮아 제외)
+     */
+    public boolean isEmbeddable(Course course) {
+        return StringUtils.hasText(course.getDescription());
+    }
+
+    public Document toDocument(Course course) {
+        String content = buildContent(course);
+        Map<String, Object> metadata = buildMetadata(course);
+        metadata.put(CONTENT_HASH_KEY, contentHash(content, metadata));
+
+        return new Document(course.getId().toString(), content, metadata);
+    }
+
+    /**
+     * 임베딩 본문 (이름 + 설명 + 카테고리)
+     */
+    public String buildContent(Course course) {
+        StringBuilder content = new StringBuilder();
+        content.append(course.getName()).append(" ");
+
+        if (StringUtils.hasText(course.getDescription())) {
+            content.append(course.getDescription()).append(" ");
+        }
+
+        if (StringUtils.hasText(course.getCategory())) {
+            content.append(course.getCategory()).append(" ");
+        }
+
+        return content.toString().trim();
+    }
+
+    private Map<String, Object> buildMetadata(Course course) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("name", course.getName());
+        metadata.put("category", course.getCategory() != null ? course.getCategory() : "");
+        metadata.put("address", course.getAddress() != null ? course.getAddress() : "");
+
+        return metadata;
+    }
+
+    /**
+     * 본문 + 키 정렬된 메타데이터의 SHA-256 (HashMap 순회 순서와 무관하게 동일한 값)
+     */
+    private String contentHash(String content, Map<String, Object> metadata) {
+        StringBuilder source = new StringBuilder(content);
+        new TreeMap<>(metadata).forEach((key, value) ->
+                source.append('\n').append(key).append('=').append(value));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 벡터 스토어 적재용 임베딩 파이프라인
+ * - 문서를 batch-size 단위로 묶어 한 번의 임베딩 요청으로 처리
+ * - 동시에 진행 중인 배치 수를 max-in-flight로 제한
+ * - 요청 간격은 AdaptiveRateLimiter가 실패/성공에 따라 조정
+ * - 배치 실패 시 지수 백오프로 재시도, 그래도 실패하면 문서 단위로 나눠 재시도
+ */
+@Component
+@Slf4j
+public class EmbeddingPipeline {
+
+    private static final int MAX_RETRIES = 3;
+    private static final long BASE_BACKOFF_MS = 1000;
+
+    private final Executor embeddingExecutor;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final double initialRequestsPerSecond;
+    private final double maxRequestsPerSecond;
+
+    public EmbeddingPipeline(
+            @Qualifier("embeddingExecutor") Executor embeddingExecutor,
+            @Value("${geulda.vector-store.embedding.batch-size:20}") int batchSize,
+            @Value("${geulda.vector-store.embedding.max-in-flight:4}") int maxInFlight,
+            @Value("${geulda.vector-store.embedding.requests-per-second:2}") double initialRequestsPerSecond,
+            @Value("${geulda.vector-store.embedding.max-requests-per-second:10}") double maxRequestsPerSecond) {
+        this.embeddingExecutor = embeddingExecutor;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.initialRequestsPerSecond = initialRequestsPerSecond;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    /**
+     * 대상 벡터 스토어에 대한 적재 세션 시작
+     */
+    public Session start(VectorStore vectorStore) {
+        return new Session(vectorStore);
+    }
+
+    /**
+     * @param failedIds 최종 실패한 문서 ID (증분 동기화에서 다음 실행 때 다시 시도하는 데 사용)
+     */
+    public record Result(int succeeded, int failed, List<String> failedIds, long elapsedMs) {}
+
+    public class Session {
+
+        private final VectorStore vectorStore;
+        private final Semaphore inFlight = new Semaphore(maxInFlight);
+        private final AdaptiveRateLimiter rateLimiter =
+                new AdaptiveRateLimiter(initialRequestsPerSecond, 0.2, maxRequestsPerSecond);
+        private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Queue<String> failedIds = new ConcurrentLinkedQueue<>();
+        private final long startTime = System.currentTimeMillis();
+
+        private Session(VectorStore vectorStore) {
+            this.vectorStore = vectorStore;
+        }
+
+        /**
+         * 문서를 배치로 나눠 비동기 제출. 진행 중인 배치가 가득 차면 자리가 날 때까지 대기
+         */
+        public void submit(List<Document> documents) {
+            for (int from = 0; from < documents.size(); from += batchSize) {
+                List<Document> batch = List.copyOf(
+                        documents.subList(from, Math.min(from + batchSize, documents.size())));
+
+                try {
+                    inFlight.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("⚠️ 배치 제출 대기 중 인터럽트 발생, {}개 문서 건너뜀", batch.size());
+                    markFailed(batch);
+                    return;
+                }
+
+                pending.add(CompletableFuture
+                        .runAsync(() -> processBatch(batch), embeddingExecutor)
+                        .whenComplete((ignored, error) -> inFlight.release()));
+            }
+        }
+
+        /**
+         * 제출된 모든 배치가 끝날 때까지 대기 후 결과 반환
+         */
+        public Result await() {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+            Result result = new Result(succeeded.get(), failed.get(), List.copyOf(failedIds),
+                    System.currentTimeMillis() - startTime);
+            log.info("✓ 임베딩 파이프라인 완료: 성공 {}개, 실패 {}개 ({}ms, 최종 처리율 {}req/s)",
+                    result.succeeded(), result.failed(), result.elapsedMs(),
+                    String.format("%.1f", rateLimiter.getPermitsPerSecond()));
+            return result;
+        }
+
+        private void processBatch(List<Document> batch) {
+            if (addWithRetry(batch)) {
+                succeeded.addAndGet(batch.size());
+                return;
+            }
+
+            if (batch.size() == 1) {
+                markFailed(batch);
+                return;
+            }
+
+            log.warn("⚠️ 배치 {}개 문서 실패, 문서 단위로 재시도", batch.size());
+            for (Document document : batch) {
+                if (addWithRetry(List.of(document))) {
+                    succeeded.incrementAndGet();
+                } else {
+                    markFailed(List.of(document));
+                    log.error("❌ 문서 추가 최종 실패 (ID: {})", document.getId());
+                }
+            }
+        }
+
+        private void markFailed(List<Document> documents) {
+            failed.addAndGet(documents.size());
+            documents.forEach(document -> failedIds.add(document.getId()));
+        }
+
+        private boolean addWithRetry(List<Document> documents) {
+            for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
+                try {
+                    rateLimiter.acquire();
+                    vectorStore.add(documents);
+                    rateLimiter.onSuccess();
+                    return true;
+
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+
+                } catch (Exception e) {
+                    rateLimiter.onFailure();
+                    log.warn("⚠️ 임베딩 요청 실패 ({}/{}): {}개 문서 - {}",
+                            attempt, MAX_RETRIES, documents.size(), e.getMessage());
+
+                    if (attempt < MAX_RETRIES && !sleepBackoff(attempt)) {
+                        return false;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean sleepBackoff(int attempt) {
+            // 지수 백오프 + 지터: 1초, 2초, 4초 ... (최대 +50%)
+            long backoffMs = BASE_BACKOFF_MS << (attempt - 1);
+            backoffMs += ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1);
+            try {
+                Thread.sleep(backoffMs);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+import com.CUK.geulDa.ai.vectorstore.SwappableVectorStore;
+import com.CUK.geulDa.ai.vectorstore.VectorSimilarityKernel;
+import com.CUK.geulDa.ai.vectorstore.VectorStoreFactory;
+import com.CUK.geulDa.domain.course.Course;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 요청 ↔ 장소 관련성을 임베딩 코사인 유사도로 판정
+ * - 장소 벡터는 벡터 스토어에 저장된 것을 그대로 쓰고, 없는 장소만 한 번의 배치 요청으로 임베딩 (임베딩 캐시 경유)
+ * - 요청 임베딩 1회 외에는 API 호출이 없어, 분명한 경우는 LLM 없이 확정/기각
+ * - 임계값은 RelevanceThresholdProperties (카테고리별 보정 가능)
+ */
+@Component
+@Slf4j
+public class EmbeddingRelevanceScorer {
+
+    public enum Verdict { RELEVANT, AMBIGUOUS, IRRELEVANT }
+
+    public record Scored(Course place, double similarity, Verdict verdict) {}
+
+    /**
+     * @param accepted  유사도 1위가 accept 이상이고 2위와 margin 이상 차이나면 확정된 장소, 아니면 null
+     * @param ambiguous 확정되지 않았을 때 LLM이 판단할 장소 (관련 없음 제외, 유사도 순). 비어 있으면 모두 관련 없음
+     */
+    public record Judgement(Course accepted, List<Course> ambiguous) {}
+
+    private final SwappableVectorStore vectorStore;
+    private final EmbeddingModel embeddingModel;
+    private final CourseDocumentMapper documentMapper;
+    private final RelevanceThresholdProperties thresholds;
+
+    public EmbeddingRelevanceScorer(SwappableVectorStore vectorStore,
+                                    VectorStoreFactory vectorStoreFactory,
+                                    CourseDocumentMapper documentMapper,
+                                    RelevanceThresholdProperties thresholds) {
+        this.vectorStore = vectorStore;
+        this.embeddingModel = vectorStoreFactory.getEmbeddingModel();
+        this.documentMapper = documentMapper;
+        this.thresholds = thresholds;
+    }
+
+    public Judgement judge(String request, List<Course> places) {
+        List<Scored> scored = score(request, places);
+        if (scored.isEmpty()) {
+            return new Judgement(null, List.of());
+        }
+
+        Scored top = scored.get(0);
+        double runnerUp = scored.size() > 1 ? scored.get(1).similarity() : Double.NEGATIVE_INFINITY;
+        if (top.verdict() == Verdict.RELEVANT && top.similarity() - runnerUp >= thresholds.getMargin()) {
+            return new Judgement(top.place(), List.of());
+        }
+
+        List<Course> ambiguous = scored.stream()
+                .filter(candidate -> candidate.verdict() != Verdict.IRRELEVANT)
+                .map(Scored::place)
+                .toList();
+        return new Judgement(null, ambiguous);
+    }
+
+    /**
+     * @return 유사도 내림차순
+     */
+    public List<Scored> score(String request, List<Course> places) {
+        if (places.isEmpty()) {
+            return List.of();
+        }
+
+        float[] query = embeddingModel.embed(request).clone();
+        VectorSimilarityKernel.normalize(query);
+
+        float[][] vectors = new float[places.size()][];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < places.size(); i++) {
+            Course place = places.get(i);
+            vectors[i] = place.getId() != null
+                    ? vectorStore.findEmbedding(place.getId().toString()).orElse(null)
+                    : null;
+            if (vectors[i] == null) {
+                missing.add(i);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<float[]> embedded = embeddingModel.embed(missing.stream()
+                    .map(i -> documentMapper.buildContent(places.get(i)))
+                    .toList());
+            for (int m = 0; m < missing.size(); m++) {
+                float[] vector = embedded.get(m).clone();
+                VectorSimilarityKernel.normalize(vector);
+                vectors[missing.get(m)] = vector;
+            }
+        }
+        log.debug("관련성 임베딩 점수 계산: {}개 장소 (저장된 벡터 {}개, 새로 임베딩 {}개)",
+                places.size(), places.size() - missing.size(), missing.size());
+
+        List<Scored> result = new ArrayList<>(places.size());
+        for (int i = 0; i < places.size(); i++) {
+            Course place = places.get(i);
+            if (vectors[i].length != query.length) {
+                // 임베딩 모델이 바뀐 뒤 재생성 전인 벡터: 점수를 믿을 수 없으므로 LLM 판단으로 넘김
+                result.add(new Scored(place, 0.0, Verdict.AMBIGUOUS));
+                continue;
+            }
+
+            double similarity = VectorSimilarityKernel.dot(vectors[i], 0, query, query.length);
+            result.add(new Scored(place, similarity, verdict(place, similarity)));
+        }
+
+        result.sort(Comparator.comparingDouble(Scored::similarity).reversed());
+        return result;
+    }
+
+    private Verdict verdict(Course place, double similarity) {
+        if (similarity >= thresholds.acceptFor(place.getCategory())) {
+            return Verdict.RELEVANT;
+        }
+        if (similarity < thresholds.rejectFor(place.getCategory())) {
+            return Verdict.IRRELEVANT;
+        }
+        return Verdict.AMBIGUOUS;
+    }
+}
@@ -0,0 +1,47 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 임베딩 관련성 판정 임계값 (요청 임베딩 ↔ 장소 임베딩 코사인 유사도)
+ * - accept 이상: 관련 있음, reject 미만: 관련 없음, 그 사이: 애매 (LLM 판정)
+ * - 카테고리마다 설명 길이/어휘가 달라 유사도 분포가 다르므로 카테고리별로 덮어쓸 수 있음
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "geulda.ai.relevance")
+public class RelevanceThresholdProperties {
+
+    private double accept = 0.72;
+    private double reject = 0.5;
+
+    // 1위와 2위 유사도 차이가 이보다 작으면 애매한 것으로 봄
+    private double margin = 0.03;
+
+    // key: Course.category
+    private Map<String, Band> categories = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Band {
+        private Double accept;
+        private Double reject;
+    }
+
+    public double acceptFor(String category) {
+        Band band = category != null ? categories.get(category) : null;
+        return band != null && band.getAccept() != null ? band.getAccept() : accept;
+    }
+
+    public double rejectFor(String category) {
+        Band band = category != null ? categories.get(category) : null;
+        return band != null && band.getReject() != null ? band.getReject() : reject;
+    }
+}
@@ -0,0 +1,243 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+import com.CUK.geulDa.ai.vectorstore.SwappableVectorStore;
+import com.CUK.geulDa.ai.vectorstore.VectorStoreFactory;
+import com.CUK.geulDa.domain.course.service.CourseService;
+import com.CUK.geulDa.global.apiResponse.code.ErrorCode;
+import com.CUK.geulDa.global.apiResponse.exception.BusinessException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 벡터 스토어 ↔ Course 테이블 동기화
+ * - 전체 재생성(rebuild): 공개 장소를 모두 다시 임베딩
+ * - 증분 동기화(syncIncremental): 문서별 contentHash를 해시 목록 파일(<path>.hashes)과 비교해
+ *   신규/변경 장소만 임베딩하고 삭제·숨김 처리된 장소는 스토어에서 제거
+ * - 전체 재생성은 shadow 스토어에 만든 뒤 교체, 증분 동기화는 기존 문서를 덮어쓰는 방식이라
+ *   어느 쪽이든 동기화 중에도 검색은 계속 동작
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VectorStoreSyncService {
+
+    private static final int PAGE_SIZE = 100;  // DB 조회 단위 (임베딩 배치 크기는 EmbeddingPipeline 설정)
+    private static final String HASHES_SUFFIX = ".hashes";
+
+    private final SwappableVectorStore vectorStore;
+    private final VectorStoreFactory vectorStoreFactory;
+    private final CourseService courseService;
+    private final EmbeddingPipeline embeddingPipeline;
+    private final CourseDocumentMapper documentMapper;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    @Value("${geulda.vector-store.path:vector-store.bin}")
+    private String vectorStorePath;
+
+    public record SyncResult(int added, int updated, int deleted, int unchanged, int failed, long elapsedMs) {
+
+        public int embedded() {
+            return added + updated - failed;
+        }
+    }
+
+    /**
+     * 공개 장소 전체를 새 shadow 스토어에 임베딩한 뒤 파일 저장 → 참조 교체 순으로 반영
+     * 재생성 중에는 기존 스토어로 검색이 계속 동작하며, 성공한 문서 수를 반환
+     */
+    public int rebuild() {
+        acquireLock();
+        try {
+            long startTime = System.currentTimeMillis();
+            Map<String, String> hashes = new HashMap<>();
+            VectorStore shadowStore = vectorStoreFactory.create();
+
+            EmbeddingPipeline.Session session = embeddingPipeline.start(shadowStore);
+            courseService.processCoursesInBatches(PAGE_SIZE, courses -> {
+                List<Document> documents = courses.stream()
+                        .filter(documentMapper::isEmbeddable)
+                        .map(documentMapper::toDocument)
+                        .toList();
+
+                documents.forEach(document -> hashes.put(document.getId(), contentHashOf(document)));
+                if (!documents.isEmpty()) {
+                    session.submit(documents);
+                }
+            });
+
+            EmbeddingPipeline.Result result = session.await();
+            if (result.succeeded() == 0) {
+                log.warn("⚠️ 새 스토어에 적재된 문서가 없어 기존 스토어를 유지합니다");
+                return 0;
+            }
+            if (result.failed() > 0) {
+                // 실패 문서는 해시 목록에서 빠지므로 다음 증분 동기화에서 다시 임베딩됨
+                log.warn("⚠️ 임베딩 실패 문서 {}개 (성공 {}개), 다음 증분 동기화에서 재시도",
+                        result.failed(), result.succeeded());
+                result.failedIds().forEach(hashes::remove);
+            }
+
+            // 파일을 먼저 교체한 뒤 메모리 참조를 교체 (검색 중인 요청은 이전 스토어로 끝까지 처리)
+            saveVectorStore(shadowStore, startTime);
+            saveHashes(hashes);
+            vectorStore.swap(shadowStore);
+            return result.succeeded();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 장소만 반영하는 증분 동기화
+     * - 해시 목록 파일이 없으면(최초 실행) 모든 장소를 신규로 간주
+     * - 임베딩에 실패한 문서는 해시를 갱신하지 않아 다음 동기화에서 다시 시도
+     */
+    public SyncResult syncIncremental() {
+        acquireLock();
+        try {
+            long startTime = System.currentTimeMillis();
+            Map<String, String> previousHashes = loadHashes();
+            Map<String, String> hashes = new HashMap<>();
+            int[] counts = new int[3];  // added, updated, unchanged
+
+            EmbeddingPipeline.Session session = embeddingPipeline.start(vectorStore);
+            courseService.processCoursesInBatches(PAGE_SIZE, courses -> {
+                List<Document> changed = new ArrayList<>();
+
+                for (var course : courses) {
+                    if (!documentMapper.isEmbeddable(course)) {
+                        continue;
+                    }
+                    Document document = documentMapper.toDocument(course);
+                    String hash = contentHashOf(document);
+                    String previousHash = previousHashes.get(document.getId());
+                    hashes.put(document.getId(), hash);
+
+                    if (hash.equals(previousHash)) {
+                        counts[2]++;
+                        continue;
+                    }
+                    counts[previousHash == null ? 0 : 1]++;
+                    changed.add(document);
+                }
+
+                if (!changed.isEmpty()) {
+                    session.submit(changed);
+                }
+            });
+
+            EmbeddingPipeline.Result result = session.await();
+
+            // 실패한 문서는 이전 해시를 유지 (신규였다면 목록에서 제외)
+            for (String failedId : result.failedIds()) {
+                String previousHash = previousHashes.get(failedId);
+                if (previousHash != null) {
+                    hashes.put(failedId, previousHash);
+                } else {
+                    hashes.remove(failedId);
+                }
+            }
+
+            List<String> removedIds = previousHashes.keySet().stream()
+                    .filter(id -> !hashes.containsKey(id))
+                    .toList();
+            if (!removedIds.isEmpty()) {
+                vectorStore.delete(removedIds);
+            }
+
+            SyncResult syncResult = new SyncResult(counts[0], counts[1], removedIds.size(), counts[2],
+                    result.failed(), System.currentTimeMillis() - startTime);
+
+            if (syncResult.embedded() > 0 || syncResult.deleted() > 0) {
+                persist(hashes, startTime);
+            }
+
+            log.info("✅ 벡터 스토어 증분 동기화 완료: 신규 {}개, 변경 {}개, 삭제 {}개, 유지 {}개, 실패 {}개 ({}ms)",
+                    syncResult.added(), syncResult.updated(), syncResult.deleted(),
+                    syncResult.unchanged(), syncResult.failed(), syncResult.elapsedMs());
+            return syncResult;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 재생성이나 증분 동기화가 진행 중인지 (관리자 API에서 작업을 넘기기 전에 확인)
+     */
+    public boolean isSyncInProgress() {
+        return syncLock.isLocked();
+    }
+
+    private void acquireLock() {
+        if (!syncLock.tryLock()) {
+            throw new BusinessException(ErrorCode.VECTOR_STORE_SYNC_IN_PROGRESS,
+                    "다른 벡터 스토어 동기화 작업이 진행 중입니다.");
+        }
+    }
+
+    private String contentHashOf(Document document) {
+        return String.valueOf(document.getMetadata().get(CourseDocumentMapper.CONTENT_HASH_KEY));
+    }
+
+    private void persist(Map<String, String> hashes, long startTime) {
+        saveVectorStore(vectorStore, startTime);
+        saveHashes(hashes);
+    }
+
+    private void saveVectorStore(VectorStore store, long startTime) {
+        File vectorFile = new File(vectorStorePath);
+        if (!SwappableVectorStore.saveSnapshot(store, vectorFile)) {
+            log.warn("⚠️ 파일 저장을 지원하지 않는 벡터 스토어: {}", store.getClass().getSimpleName());
+            return;
+        }
+
+        long elapsed = (System.currentTimeMillis() - startTime) / 1000;
+        log.info("💾 벡터 데이터 저장 완료: {} ({}초 소요, {}KB)",
+                vectorStorePath, elapsed, vectorFile.length() / 1024);
+    }
+
+    private Map<String, String> loadHashes() {
+        File hashesFile = new File(vectorStorePath + HASHES_SUFFIX);
+        if (!hashesFile.exists()) {
+            log.info("📁 해시 목록 파일 없음, 모든 장소를 신규로 처리: {}", hashesFile.getPath());
+            return Map.of();
+        }
+
+        try {
+            return objectMapper.readValue(hashesFile, new TypeReference<Map<String, String>>() {});
+        } catch (IOException e) {
+            log.warn("⚠️ 해시 목록 파일 읽기 실패, 모든 장소를 신규로 처리: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체해 저장 도중 중단되어도 이전 목록이 유지되도록 함
+     */
+    private void saveHashes(Map<String, String> hashes) {
+        Path target = new File(vectorStorePath + HASHES_SUFFIX).toPath().toAbsolutePath();
+        try {
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), new TreeMap<>(hashes));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.VECTOR_STORE_ERROR,
+                    "해시 목록 파일 저장 실패: " + e.getMessage());
+        }
+    }
+}
@@ -4,60 +4,221 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * 사용자 요청 문장 해석 (추천 필수 방문지, 복수 장소 검색, 챗봇 키워드 추출 공용)
+ * - 공백 단위로 한 번만 토큰화하고, 토큰 끝에 붙은 표지(빼고/개/들/조사 등)만 규칙 표대로 떼어냄
+ * - 문자열 전체에 replace를 걸지 않으므로 "만화박물관"의 '만', "들꽃"의 '들'처럼 이름 안의 글자는 건드리지 않음
+ */
 @Component
 public class NaturalLanguageParser {
 
+    private static final int DEFAULT_PLACE_COUNT = 4;
+    private static final int MANY_PLACE_COUNT = 10;
+    private static final int MAX_PLACE_COUNT = 20;
+
+    private static final Pattern PLACE_COUNT = Pattern.compile("(\\d+)개(만)?");
+
+    // 규칙 표: 토큰 끝에서 찾는 표지는 긴 것부터 (제외하고 → 제외)
+    private static final String[] EXCLUDE_MARKERS = {"제외하고", "빼고", "뺴고", "제외", "말고"};
+    private static final String[] MANY_MARKERS = {"많이"};
+    private static final String[] MULTIPLE_MARKERS = {"모두", "전부", "모든", "전체"};
+    private static final String[] COMMAND_SUFFIXES = {"추천해줘", "알려줘", "보여줘", "찾아줘"};
+    private static final String[] OBJECT_PARTICLES = {"은", "는", "을", "를"};
+    private static final String[] PLURAL_SUFFIXES = {"만", "들", "시설"};
+    private static final String[] PARTICLES = {"에서", "으로", "은", "는", "이", "가", "을", "를", "에", "의", "로"};
+
+    private static final Set<String> KEYWORD_FILLERS = Set.of("관련", "시설");
+    private static final Set<String> QUESTION_WORDS = Set.of(
+            "어디", "뭐", "무엇", "있어", "있나요", "추천", "알려줘", "추천해줘");
+
     public ParsedRequest parseUserRequest(String input) {
         if (input == null || input.isBlank()) {
-            return new ParsedRequest("", List.of(), 4);
+            return new ParsedRequest("", List.of(), DEFAULT_PLACE_COUNT);
         }
 
-        String cleaned = input;
+        List<String> kept = new ArrayList<>();
         List<String> excludeCategories = new ArrayList<>();
-        int placeCount = 4;
-
-        String[] excludePatterns = {"제외하고", "빼고", "제외", "뺴고", "말고"};
-        for (String pattern : excludePatterns) {
-            if (cleaned.contains(pattern)) {
-                int idx = cleaned.indexOf(pattern);
-                String before = cleaned.substring(0, idx).trim();
-
-                String[] words = before.split("\\s+");
-                if (words.length > 0) {
-                    String category = words[words.length - 1]
-                            .replace("은", "").replace("는", "")
-                            .replace("을", "").replace("를", "").trim();
-                    if (!category.isEmpty()) {
-                        excludeCategories.add(category);
-                    }
+        boolean many = false;
+        Integer explicitCount = null;
+
+        for (String token : tokenize(input)) {
+            String excludeMarker = suffixOf(token, EXCLUDE_MARKERS);
+            if (excludeMarker != null) {
+                // "카페 빼고" / "카페빼고" 모두 지원. 제외 표지 앞의 내용은 필수 방문지에서 버림
+                String target = token.substring(0, token.length() - excludeMarker.length());
+                if (target.isEmpty() && !kept.isEmpty()) {
+                    target = kept.get(kept.size() - 1);
+                }
+                String category = stripSuffix(target, OBJECT_PARTICLES, 2);
+                if (!category.isEmpty()) {
+                    excludeCategories.add(category);
+                }
+                kept.clear();
+                continue;
+            }
+
+            String manyMarker = suffixOf(token, MANY_MARKERS);
+            if (manyMarker != null) {
+                many = true;
+                token = token.substring(0, token.length() - manyMarker.length());
+            }
+
+            Matcher count = PLACE_COUNT.matcher(token);
+            if (count.find()) {
+                if (explicitCount == null) {
+                    explicitCount = parseCount(count.group(1));
+                }
+                token = token.substring(0, count.start()) + token.substring(count.end());
+            }
+
+            token = stripSuffix(token, COMMAND_SUFFIXES, 0);
+            if (!token.isEmpty()) {
+                kept.add(token);
+            }
+        }
+
+        int placeCount = many ? MANY_PLACE_COUNT
+                : explicitCount != null ? explicitCount
+                : DEFAULT_PLACE_COUNT;
+        placeCount = Math.max(1, Math.min(MAX_PLACE_COUNT, placeCount));
+
+        return new ParsedRequest(String.join(" ", kept), excludeCategories, placeCount);
+    }
+
+    /**
+     * "박물관 모두", "카페 전부", "박물관모두", "공원들"처럼 여러 장소를 원하는 요청인지
+     * 복수 표지(모두/전부/모든/전체)는 기존과 같이 토큰 안 어디에 있어도 인정
+     */
+    public boolean isMultiplePlaceRequest(String input) {
+        if (input == null || input.isBlank()) {
+            return false;
+        }
+
+        // 표지에 공백이 없으므로 토큰으로 나누지 않고 원문에서 바로 확인 (마지막 토큰 = 뒤 공백을 뗀 원문의 끝)
+        return containsMultipleMarker(input) || input.stripTrailing().endsWith("들");
+    }
+
+    /**
+     * 복수 장소 요청에서 이름 검색용 키워드 ("박물관들 전부 알려줘" → "박물관", "교육 관련 시설 모두" → "교육")
+     */
+    public String extractPlaceKeyword(String input) {
+        if (input == null || input.isBlank()) {
+            return "";
+        }
+
+        List<String> keywords = new ArrayList<>();
+        for (String token : tokenize(input)) {
+            token = stripMultipleMarker(stripSuffix(token, COMMAND_SUFFIXES, 0));
+            if (token.isEmpty() || KEYWORD_FILLERS.contains(token)) {
+                continue;
+            }
+            // "카페들만" → "카페", "교육시설들" → "교육"
+            String stripped = token;
+            String previous;
+            do {
+                previous = stripped;
+                stripped = stripSuffix(stripped, PLURAL_SUFFIXES, 2);
+            } while (!stripped.equals(previous));
+            keywords.add(stripped);
+        }
+        return String.join(" ", keywords);
+    }
+
+    /**
+     * 챗봇 질문에서 장소 검색용 첫 키워드 ("원미산은 어디야?" → "원미산"). 없으면 빈 문자열
+     */
+    public String extractSearchKeyword(String query) {
+        if (query == null || query.isBlank()) {
+            return "";
+        }
+
+        for (String token : tokenize(query)) {
+            String word = stripSuffix(stripPunctuation(token), PARTICLES, 2);
+            if (!word.isEmpty() && !QUESTION_WORDS.contains(word)) {
+                return word;
+            }
+        }
+        return "";
+    }
+
+    private static List<String> tokenize(String input) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < input.length(); i++) {
+            if (Character.isWhitespace(input.charAt(i))) {
+                if (start >= 0) {
+                    tokens.add(input.substring(start, i));
+                    start = -1;
                 }
-                cleaned = cleaned.substring(idx + pattern.length()).trim();
+            } else if (start < 0) {
+                start = i;
             }
         }
+        if (start >= 0) {
+            tokens.add(input.substring(start));
+        }
+        return tokens;
+    }
 
-        if (cleaned.contains("많이")) {
-            placeCount = 10;
-            cleaned = cleaned.replace("많이", "").trim();
-        } else if (cleaned.matches(".*\\d+개.*")) {
-            Pattern pattern = Pattern.compile("(\\d+)개");
-            Matcher matcher = pattern.matcher(cleaned);
-            if (matcher.find()) {
-                placeCount = Integer.parseInt(matcher.group(1));
-                cleaned = cleaned.replaceAll("\\d+개(만)?", "").trim();
+    private static String suffixOf(String token, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (token.endsWith(suffix)) {
+                return suffix;
             }
         }
+        return null;
+    }
 
-        placeCount = Math.max(1, Math.min(20, placeCount));
+    /**
+     * 접미사 하나를 뗌. 남는 글자가 minLength보다 짧아지면 떼지 않음 ("놀이"의 '이'는 그대로)
+     */
+    private static String stripSuffix(String token, String[] suffixes, int minLength) {
+        String suffix = suffixOf(token, suffixes);
+        if (suffix == null || token.length() - suffix.length() < minLength) {
+            return token;
+        }
+        return token.substring(0, token.length() - suffix.length());
+    }
 
-        cleaned = cleaned.replace("추천해줘", "")
-                .replace("알려줘", "")
-                .replace("보여줘", "")
-                .replace("찾아줘", "").trim();
+    private static String stripPunctuation(String token) {
+        int end = token.length();
+        while (end > 0 && !Character.isLetterOrDigit(token.charAt(end - 1))) {
+            end--;
+        }
+        return token.substring(0, end);
+    }
+
+    private static boolean containsMultipleMarker(String text) {
+        for (String marker : MULTIPLE_MARKERS) {
+            if (text.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 앞뒤에 붙은 복수 표지만 뗌 ("박물관모두" → "박물관", "모든박물관" → "박물관", "전부" → "")
+     */
+    private static String stripMultipleMarker(String token) {
+        for (String marker : MULTIPLE_MARKERS) {
+            if (token.startsWith(marker)) {
+                return token.substring(marker.length());
+            }
+            if (token.endsWith(marker)) {
+                return token.substring(0, token.length() - marker.length());
+            }
+        }
+        return token;
+    }
 
-        return new ParsedRequest(cleaned, excludeCategories, placeCount);
+    private static int parseCount(String digits) {
+        // 자릿수가 많으면 어차피 최대 개수로 잘리므로 int 범위를 넘는 입력도 안전하게 처리
+        return digits.length() > 2 ? MAX_PLACE_COUNT : Integer.parseInt(digits);
     }
 
     public record ParsedRequest(
@@ -0,0 +1,137 @@
+package com.CUK.geulDa.ai.service.planner;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.index.CourseDistanceMatrix;
+import com.CUK.geulDa.domain.course.service.CourseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * LLM 없이 동작하는 결정적 코스 플래너
+ * - 선택: 인기도 + 목적 태그/선호 카테고리 일치 + 카테고리 다양성 - 이동 거리 점수로 한 곳씩 탐욕 선택
+ * - 순서: RouteOptimizer로 출발지 기준 총 이동 거리 최소화
+ * 같은 입력이면 항상 같은 코스를 반환 (동점은 ID 오름차순)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocalCoursePlanner {
+
+    private static final double POPULARITY_WEIGHT = 0.35;
+    private static final double PURPOSE_WEIGHT = 0.30;
+    private static final double DIVERSITY_WEIGHT = 0.20;
+    private static final double DISTANCE_WEIGHT = 0.15;
+    private static final double MAX_DISTANCE_PENALTY = 2.0;  // 반경의 2배 이상은 같은 감점
+
+    private static final Map<String, List<String>> PREFERRED_CATEGORIES = Map.of(
+            "dating", List.of("카페", "자연", "문화시설"),
+            "family", List.of("자연", "문화시설"),
+            "friendship", List.of("음식점", "카페", "쇼핑"),
+            "foodie", List.of("음식점", "카페")
+    );
+
+    private static final Map<String, String> KOREAN_PURPOSE = Map.of(
+            "dating", "데이트",
+            "family", "가족",
+            "friendship", "친구",
+            "foodie", "식도락"
+    );
+
+    private final CourseDistanceMatrix courseDistanceMatrix;
+    private final CourseService courseService;
+    private final RouteOptimizer routeOptimizer;
+
+    /**
+     * @param purpose   정규화된 여행 목적 (dating, family, friendship, foodie)
+     * @param radiusKm  교통수단별 검색 반경 (거리 감점 기준)
+     * @return 방문 순서대로 정렬된 장소 (필수 방문지 포함)
+     */
+    public List<Course> plan(List<Course> candidates, List<Course> mustVisitPlaces, String purpose,
+                             double radiusKm, double startLat, double startLon, int targetCount) {
+        long startTime = System.nanoTime();
+
+        List<Course> selected = new ArrayList<>(mustVisitPlaces.subList(0, Math.min(mustVisitPlaces.size(), targetCount)));
+        Set<Long> selectedIds = new HashSet<>();
+        Map<String, Integer> categoryCounts = new HashMap<>();
+        selected.forEach(place -> {
+            selectedIds.add(place.getId());
+            categoryCounts.merge(categoryOf(place), 1, Integer::sum);
+        });
+
+        List<Course> pool = candidates.stream()
+                .filter(LocalCoursePlanner::hasLocation)
+                .filter(place -> !selectedIds.contains(place.getId()))
+                .sorted(Comparator.comparing(Course::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        while (selected.size() < targetCount) {
+            Course best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+
+            for (Course place : pool) {
+                if (selectedIds.contains(place.getId())) {
+                    continue;
+                }
+                double score = score(place, selected, categoryCounts, purpose, radiusKm, startLat, startLon);
+                if (score > bestScore) {
+                    best = place;
+                    bestScore = score;
+                }
+            }
+
+            if (best == null) {
+                break;
+            }
+            selected.add(best);
+            selectedIds.add(best.getId());
+            categoryCounts.merge(categoryOf(best), 1, Integer::sum);
+        }
+
+        // 좌표가 없는 장소(필수 방문지 등)는 경로 최적화 대상에서 빠지고 마지막에 붙음
+        List<Course> route = routeOptimizer.reorderCourses(selected, startLat, startLon);
+        log.debug("로컬 플래너 코스 생성: {}개 장소 ({}μs)", route.size(), (System.nanoTime() - startTime) / 1000);
+        return route;
+    }
+
+    private double score(Course place, List<Course> selected, Map<String, Integer> categoryCounts,
+                         String purpose, double radiusKm, double startLat, double startLon) {
+        double popularity = (place.getPopularityScore() != null ? place.getPopularityScore() : 50) / 100.0;
+
+        double purposeMatch = 0.0;
+        List<String> tags = courseService.getTourPurposeTags(place);
+        if (tags.contains(purpose) || tags.contains(KOREAN_PURPOSE.getOrDefault(purpose, purpose))) {
+            purposeMatch += 1.0;
+        }
+        if (PREFERRED_CATEGORIES.getOrDefault(purpose, List.of()).contains(categoryOf(place))) {
+            purposeMatch += 0.5;
+        }
+
+        double diversity = 1.0 / (1 + categoryCounts.getOrDefault(categoryOf(place), 0));
+
+        // 출발지 또는 이미 고른 장소 중 가장 가까운 곳까지의 거리 (동선이 한 곳에 모이도록)
+        double nearestKm = courseDistanceMatrix.distanceFrom(startLat, startLon, place);
+        for (Course other : selected) {
+            if (!hasLocation(other)) {
+                continue;
+            }
+            nearestKm = Math.min(nearestKm, courseDistanceMatrix.distance(other, place));
+        }
+        double distancePenalty = Math.min(nearestKm / Math.max(radiusKm, 0.1), MAX_DISTANCE_PENALTY);
+
+        return POPULARITY_WEIGHT * popularity
+                + PURPOSE_WEIGHT * purposeMatch
+                + DIVERSITY_WEIGHT * diversity
+                - DISTANCE_WEIGHT * distancePenalty;
+    }
+
+    private static boolean hasLocation(Course place) {
+        return place.getLatitude() != null && place.getLongitude() != null;
+    }
+
+    private static String categoryOf(Course place) {
+        return place.getCategory() != null ? place.getCategory() : "기타";
+    }
+}
@@ -0,0 +1,283 @@
+package com.CUK.geulDa.ai.service.planner;
+
+import com.CUK.geulDa.ai.service.util.DistanceCalculator;
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.index.CourseDistanceMatrix;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 방문 순서 최적화 (출발지 고정, 도착지 자유인 열린 경로)
+ * - 장소 {@value #EXACT_LIMIT}개 이하: Held-Karp 동적 계획법으로 최적 순서
+ * - 그 이상: 최근접 이웃으로 초기 경로 → 2-opt(구간 뒤집기) + Or-opt(1~3개 구간 이동) 반복
+ * 거리 행렬은 (n+1)×(n+1) 1차원 double 배열 (0번 = 출발지)
+ * 저장된 장소는 CourseDistanceMatrix의 캐시된 거리를, 그 외는 좌표로 직접 계산한 거리를 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteOptimizer {
+
+    static final int EXACT_LIMIT = 12;
+    private static final double EPSILON = 1e-9;
+
+    private final DistanceCalculator distanceCalculator;
+    private final CourseDistanceMatrix courseDistanceMatrix;
+
+    /**
+     * 좌표 기준으로 목록을 재정렬. 좌표가 없는 항목은 원래 순서대로 마지막에 붙임
+     */
+    public <T> List<T> reorder(List<T> items, Function<T, Double> latitude, Function<T, Double> longitude,
+                               double startLat, double startLon) {
+        return reorder(items, item -> latitude.apply(item) != null && longitude.apply(item) != null,
+                routable -> {
+                    double[] lats = new double[routable.size()];
+                    double[] lons = new double[routable.size()];
+                    for (int i = 0; i < routable.size(); i++) {
+                        lats[i] = latitude.apply(routable.get(i));
+                        lons[i] = longitude.apply(routable.get(i));
+                    }
+                    return distanceMatrix(lats, lons, startLat, startLon);
+                });
+    }
+
+    /**
+     * 저장된 장소 재정렬. 장소 쌍 거리는 CourseDistanceMatrix에서 읽음
+     */
+    public List<Course> reorderCourses(List<Course> places, double startLat, double startLon) {
+        return reorder(places, place -> place.getLatitude() != null && place.getLongitude() != null,
+                routable -> {
+                    int size = routable.size() + 1;
+                    double[] dist = new double[size * size];
+                    for (int i = 1; i < size; i++) {
+                        Course from = routable.get(i - 1);
+                        double d = courseDistanceMatrix.distanceFrom(startLat, startLon, from);
+                        dist[i] = d;
+                        dist[i * size] = d;
+                        for (int j = i + 1; j < size; j++) {
+                            d = courseDistanceMatrix.distance(from, routable.get(j - 1));
+                            dist[i * size + j] = d;
+                            dist[j * size + i] = d;
+                        }
+                    }
+                    return dist;
+                });
+    }
+
+    private <T> List<T> reorder(List<T> items, Predicate<T> hasLocation, Function<List<T>, double[]> matrix) {
+        List<T> routable = new ArrayList<>(items.size());
+        List<T> unroutable = new ArrayList<>();
+        for (T item : items) {
+            if (hasLocation.test(item)) {
+                routable.add(item);
+            } else {
+                unroutable.add(item);
+            }
+        }
+
+        int n = routable.size();
+        List<T> result = new ArrayList<>(items.size());
+        if (n <= 1) {
+            result.addAll(routable);
+        } else {
+            double[] dist = matrix.apply(routable);
+            int[] tour = n <= EXACT_LIMIT ? heldKarp(dist, n) : localSearch(dist, n);
+            for (int node : tour) {
+                result.add(routable.get(node - 1));
+            }
+        }
+        result.addAll(unroutable);
+        return result;
+    }
+
+    private double[] distanceMatrix(double[] lats, double[] lons, double startLat, double startLon) {
+        int size = lats.length + 1;
+        double[] dist = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            double lat1 = i == 0 ? startLat : lats[i - 1];
+            double lon1 = i == 0 ? startLon : lons[i - 1];
+            for (int j = i + 1; j < size; j++) {
+                double d = distanceCalculator.calculateDistance(lat1, lon1, lats[j - 1], lons[j - 1]);
+                dist[i * size + j] = d;
+                dist[j * size + i] = d;
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * dp[mask][j] = 출발지에서 mask 집합을 모두 방문하고 j에서 끝나는 최소 거리 (O(2^n · n²))
+     */
+    int[] heldKarp(double[] dist, int n) {
+        int size = n + 1;
+        int full = 1 << n;
+        double[] dp = new double[full * n];
+        int[] parent = new int[full * n];
+        Arrays.fill(dp, Double.MAX_VALUE);
+
+        for (int j = 0; j < n; j++) {
+            dp[(1 << j) * n + j] = dist[j + 1];  // 출발지(0) → j
+            parent[(1 << j) * n + j] = -1;
+        }
+
+        for (int mask = 1; mask < full; mask++) {
+            for (int j = 0; j < n; j++) {
+                double current = dp[mask * n + j];
+                if ((mask & (1 << j)) == 0 || current == Double.MAX_VALUE) {
+                    continue;
+                }
+                for (int k = 0; k < n; k++) {
+                    if ((mask & (1 << k)) != 0) {
+                        continue;
+                    }
+                    int nextMask = mask | (1 << k);
+                    double candidate = current + dist[(j + 1) * size + (k + 1)];
+                    if (candidate < dp[nextMask * n + k]) {
+                        dp[nextMask * n + k] = candidate;
+                        parent[nextMask * n + k] = j;
+                    }
+                }
+            }
+        }
+
+        int last = 0;
+        for (int j = 1; j < n; j++) {
+            if (dp[(full - 1) * n + j] < dp[(full - 1) * n + last]) {
+                last = j;
+            }
+        }
+
+        int[] tour = new int[n];
+        int mask = full - 1;
+        for (int position = n - 1; position >= 0; position--) {
+            tour[position] = last + 1;
+            int previous = parent[mask * n + last];
+            mask &= ~(1 << last);
+            last = previous;
+        }
+        return tour;
+    }
+
+    int[] localSearch(double[] dist, int n) {
+        int size = n + 1;
+
+        // path[0] = 출발지(0), path[1..n] = 방문 순서
+        int[] path = new int[size];
+        boolean[] visited = new boolean[size];
+        visited[0] = true;
+        for (int step = 1; step <= n; step++) {
+            int from = path[step - 1];
+            int next = -1;
+            for (int j = 1; j <= n; j++) {
+                if (!visited[j] && (next == -1 || dist[from * size + j] < dist[from * size + next])) {
+                    next = j;
+                }
+            }
+            path[step] = next;
+            visited[next] = true;
+        }
+
+        boolean improved = true;
+        while (improved) {
+            improved = twoOpt(dist, path, n) | orOpt(dist, path, n);
+        }
+        return Arrays.copyOfRange(path, 1, size);
+    }
+
+    /**
+     * 구간 [i, k]를 뒤집어 거리가 줄면 적용
+     */
+    boolean twoOpt(double[] dist, int[] path, int n) {
+        int size = n + 1;
+        boolean improved = false;
+        for (int i = 1; i < n; i++) {
+            for (int k = i + 1; k <= n; k++) {
+                double before = dist[path[i - 1] * size + path[i]]
+                        + (k < n ? dist[path[k] * size + path[k + 1]] : 0);
+                double after = dist[path[i - 1] * size + path[k]]
+                        + (k < n ? dist[path[i] * size + path[k + 1]] : 0);
+                if (after + EPSILON < before) {
+                    reverse(path, i, k);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * 길이 1~3 구간 [i, i+len)을 떼어 다른 간선 사이(정방향/역방향)에 끼워 거리가 줄면 적용
+     */
+    boolean orOpt(double[] dist, int[] path, int n) {
+        int size = n + 1;
+        boolean improved = false;
+
+        for (int len = 1; len <= 3; len++) {
+            for (int i = 1; i + len - 1 <= n; i++) {
+                int first = path[i];
+                int last = path[i + len - 1];
+                int prev = path[i - 1];
+                boolean hasNext = i + len <= n;
+                int next = hasNext ? path[i + len] : -1;
+
+                double removeGain = dist[prev * size + first]
+                        + (hasNext ? dist[last * size + next] - dist[prev * size + next] : 0);
+
+                for (int j = 0; j <= n; j++) {
+                    if (j >= i - 1 && j <= i + len - 1) {
+                        continue;  // 구간 자신 또는 바로 앞 간선
+                    }
+                    int a = path[j];
+                    boolean hasB = j + 1 <= n;
+                    int b = hasB ? path[j + 1] : -1;
+
+                    double baseEdge = hasB ? dist[a * size + b] : 0;
+                    double forward = dist[a * size + first] + (hasB ? dist[last * size + b] : 0) - baseEdge;
+                    double backward = dist[a * size + last] + (hasB ? dist[first * size + b] : 0) - baseEdge;
+                    boolean reversed = backward < forward;
+                    double insertCost = Math.min(forward, backward);
+
+                    if (insertCost + EPSILON < removeGain) {
+                        moveSegment(path, i, len, j, reversed);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * path[i, i+len) 구간을 path[j] 뒤로 이동
+     */
+    void moveSegment(int[] path, int i, int len, int j, boolean reversed) {
+        int[] segment = Arrays.copyOfRange(path, i, i + len);
+        if (reversed) {
+            reverse(segment, 0, len - 1);
+        }
+
+        if (j < i) {
+            // [j+1, i) 를 오른쪽으로 len만큼 밀고 j+1 위치에 삽입
+            System.arraycopy(path, j + 1, path, j + 1 + len, i - j - 1);
+            System.arraycopy(segment, 0, path, j + 1, len);
+        } else {
+            // [i+len, j] 를 왼쪽으로 len만큼 당기고 j-len+1 위치에 삽입
+            System.arraycopy(path, i + len, path, i, j - i - len + 1);
+            System.arraycopy(segment, 0, path, j - len + 1, len);
+        }
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        for (int a = from, b = to; a < b; a++, b--) {
+            int tmp = array[a];
+            array[a] = array[b];
+            array[b] = tmp;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.CUK.geulDa.ai.service.search;
 
 import com.CUK.geulDa.ai.mcp.BucheonTourMcpServer;
+import com.CUK.geulDa.ai.service.parser.NaturalLanguageParser;
 import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.index.CourseDistanceMatrix;
 import com.CUK.geulDa.domain.course.service.CourseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,8 @@ public class CourseSearchService {
 
     private final BucheonTourMcpServer mcpServer;
     private final CourseService courseService;
+    private final CourseDistanceMatrix courseDistanceMatrix;
+    private final NaturalLanguageParser naturalLanguageParser;
 
     public List<Course> searchPlaces(double latitude, double longitude, double radius, String purpose) {
         Map<String, Object> searchParams = Map.of(
@@ -74,12 +78,18 @@ public class CourseSearchService {
             return new ArrayList<>(places2);
         }
 
-        log.debug("부천 전체 장소 검색");
+        log.debug("부천 전체 장소 중 가까운 순 검색");
+        if (courseDistanceMatrix.isLoaded()) {
+            return new ArrayList<>(courseDistanceMatrix.nearestTo(lat, lon, 10));
+        }
         List<Course> allPlaces = courseService.getAllVisibleCourses();
         return allPlaces.stream().limit(10).collect(Collectors.toCollection(ArrayList::new));
     }
 
-    public Optional<Course> searchBySemanticSimilarity(String query) {
+    /**
+     * 벡터 스토어 의미론적 검색 결과 전체 (유사도 순). 실패 시 빈 목록
+     */
+    public List<Course> searchSemanticCandidates(String query) {
         try {
             @SuppressWarnings("unchecked")
             Map<String, Object> searchResult = (Map<String, Object>)
@@ -87,21 +97,18 @@ public class CourseSearchService {
 
             if (searchResult.containsKey("error")) {
                 log.warn("벡터 검색 실패: {}", searchResult.get("error"));
-                return Optional.empty();
+                return List.of();
             }
 
             @SuppressWarnings("unchecked")
             List<Course> places = (List<Course>) searchResult.get("places");
-
-            if (places != null && !places.isEmpty()) {
-                return Optional.of(places.get(0));
-            }
+            return places != null ? places : List.of();
 
         } catch (Exception e) {
             log.error("벡터 스토어 검색 실패", e);
         }
 
-        return Optional.empty();
+        return List.of();
     }
 
     public MustVisitResult findMustVisitPlaces(List<Course> candidates, String mustVisitPlace) {
@@ -111,13 +118,7 @@ public class CourseSearchService {
 
         log.debug("필수 방문지 요청: '{}'", mustVisitPlace);
 
-        boolean isMultipleRequest = mustVisitPlace.contains("모두") ||
-                mustVisitPlace.contains("전부") ||
-                mustVisitPlace.contains("모든") ||
-                mustVisitPlace.contains("전체") ||
-                mustVisitPlace.endsWith("들");
-
-        if (isMultipleRequest) {
+        if (naturalLanguageParser.isMultiplePlaceRequest(mustVisitPlace)) {
             log.debug("복수 장소 검색 모드 활성화");
             return findMultiplePlaces(candidates, mustVisitPlace);
         }
@@ -126,26 +127,13 @@ public class CourseSearchService {
     }
 
     private MustVisitResult findMultiplePlaces(List<Course> candidates, String request) {
-        String keyword = request
-                .replace("만", "")
-                .replace("모두", "")
-                .replace("전부", "")
-                .replace("모든", "")
-                .replace("전체", "")
-                .replace("들", "")
-                .replace("알려줘", "")
-                .replace("보여줘", "")
-                .replace("찾아줘", "")
-                .replace("관련", "")
-                .replace("시설", "")
-                .trim();
+        String keyword = naturalLanguageParser.extractPlaceKeyword(request);
 
         log.debug("추출된 키워드: '{}'", keyword);
 
-        List<Course> allPlaces = courseService.getAllVisibleCourses();
-        List<Course> matchedPlaces = allPlaces.stream()
-                .filter(place -> place.getName().contains(keyword))
-                .toList();
+        List<Course> matchedPlaces = keyword.isEmpty()
+                ? List.of()
+                : courseService.findByKeyword(keyword);
 
         if (!matchedPlaces.isEmpty()) {
             log.debug("키워드 '{}' 매칭 성공: {}개 장소 발견", keyword, matchedPlaces.size());
@@ -190,10 +178,7 @@ public class CourseSearchService {
             return new MustVisitResult(List.of(mustVisit), others);
         }
 
-        List<Course> allPlaces = courseService.getAllVisibleCourses();
-        Optional<Course> exactMatchInDb = allPlaces.stream()
-                .filter(place -> place.getName().equals(mustVisitPlace))
-                .findFirst();
+        Optional<Course> exactMatchInDb = courseService.findByName(mustVisitPlace).stream().findFirst();
 
         if (exactMatchInDb.isPresent()) {
             Course mustVisit = exactMatchInDb.get();
@@ -201,6 +186,17 @@ public class CourseSearchService {
             return new MustVisitResult(List.of(mustVisit), candidates);
         }
 
+        // 오타 허용 매칭은 허용 거리 안에 장소가 하나뿐일 때만 채택
+        List<Course> similarInDb = courseService.findBySimilarName(mustVisitPlace, 2);
+        if (similarInDb.size() == 1) {
+            Course mustVisit = similarInDb.get(0);
+            log.debug("전체 DB에서 유사 이름 매칭 성공: '{}' → {}", mustVisitPlace, mustVisit.getName());
+            List<Course> others = candidates.stream()
+                    .filter(p -> !p.getId().equals(mustVisit.getId()))
+                    .toList();
+            return new MustVisitResult(List.of(mustVisit), others);
+        }
+
         log.debug("모든 전략 실패: '{}'", mustVisitPlace);
         return new MustVisitResult(List.of(), candidates);
     }
@@ -0,0 +1,633 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 벡터 스토어
+ * - m: 노드당 연결 수 (0층은 2m), efConstruction: 삽입 시 탐색 폭, efSearch: 검색 시 탐색 폭
+ * - 벡터는 L2 정규화 후 보관하므로 거리 = 1 - 내적
+ * - 삭제는 소프트 삭제(그래프 연결은 유지, 결과에서만 제외), 같은 id 재삽입 시 기존 노드를 삭제 처리
+ *   검색 폭은 삭제된 노드 수만큼 넓혀 topK를 채우고, 삭제 비율이 COMPACTION_RATIO 이상이면 save() 때 살아 있는 노드로 그래프를 다시 구성
+ * - 필터 검색은 그래프를 타지 않고 필터를 통과한 노드만 정확(brute-force) 검색 (필터가 좁으면 그래프 탐색으로는 topK를 못 채움)
+ * - 그래프와 문서 정보(JSON)를 파일 하나에 저장 (version 1 파일은 .meta 사이드카에서 문서 정보를 읽음)
+ */
+@Slf4j
+public class HnswVectorStore implements PersistentVectorStore {
+
+    private static final int MAGIC = 0x47444853; // "GDHS"
+    private static final int VERSION = 2; // 2: 문서 정보를 같은 파일 끝에 저장
+    private static final int LEGACY_SIDECAR_VERSION = 1;
+    private static final double COMPACTION_RATIO = 0.2;
+    private static final String META_SUFFIX = ".meta";
+
+    private final EmbeddingModel embeddingModel;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+
+    private int dimensions;
+    private final List<float[]> vectors = new ArrayList<>();
+    private final List<int[][]> links = new ArrayList<>(); // links[node][layer] = {count, neighbor...}
+    private final List<VectorDocumentEntry> entries = new ArrayList<>();
+    private final Map<String, Integer> nodeById = new HashMap<>();
+    private final BitSet deletedNodes = new BitSet();
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswVectorStore(EmbeddingModel embeddingModel, int m, int efConstruction, int efSearch) {
+        if (m < 2 || efConstruction < 1 || efSearch < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "잘못된 HNSW 파라미터: m=%d, efConstruction=%d, efSearch=%d", m, efConstruction, efSearch));
+        }
+        this.embeddingModel = embeddingModel;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.levelMultiplier = 1.0 / Math.log(m);
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<float[]> embeddings = embeddingModel.embed(
+                documents.stream().map(Document::getText).toList());
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < documents.size(); i++) {
+                Document document = documents.get(i);
+                float[] vector = embeddings.get(i).clone();
+
+                if (dimensions == 0) {
+                    dimensions = vector.length;
+                } else if (vector.length != dimensions) {
+                    throw new IllegalArgumentException(String.format(
+                            "임베딩 차원 불일치: expected=%d, actual=%d", dimensions, vector.length));
+                }
+                VectorSimilarityKernel.normalize(vector);
+
+                Integer previousNode = nodeById.get(document.getId());
+                if (previousNode != null) {
+                    deletedNodes.set(previousNode);
+                }
+
+                int node = insert(vector);
+                entries.add(new VectorDocumentEntry(document.getId(), document.getText(),
+                        new HashMap<>(document.getMetadata())));
+                nodeById.put(document.getId(), node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        lock.writeLock().lock();
+        try {
+            for (String id : idList) {
+                Integer node = nodeById.remove(id);
+                if (node != null) {
+                    deletedNodes.set(node);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        VectorMetadataFilter filter = VectorMetadataFilter.of(filterExpression);
+
+        lock.writeLock().lock();
+        try {
+            for (int node = deletedNodes.nextClearBit(0); node < vectors.size();
+                 node = deletedNodes.nextClearBit(node + 1)) {
+                VectorDocumentEntry entry = entries.get(node);
+                if (filter.matches(entry)) {
+                    deletedNodes.set(node);
+                    nodeById.remove(entry.id());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        VectorMetadataFilter filter = request.hasFilterExpression()
+                ? VectorMetadataFilter.of(request.getFilterExpression())
+                : null;
+
+        float[] query = embeddingModel.embed(request.getQuery()).clone();
+        VectorSimilarityKernel.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0) {
+                return List.of();
+            }
+            if (query.length != dimensions) {
+                throw new IllegalArgumentException(String.format(
+                        "쿼리 임베딩 차원 불일치: expected=%d, actual=%d", dimensions, query.length));
+            }
+
+            int topK = request.getTopK();
+            if (filter != null) {
+                return filteredSearch(query, topK, request.getSimilarityThreshold(), filter);
+            }
+
+            // 삭제된 노드도 후보에 섞여 나오므로 그만큼 탐색 폭을 넓힘
+            int ef = Math.min(vectors.size(), Math.max(efSearch, topK) + deletedNodes.cardinality());
+            PriorityQueue<Candidate> nearest = searchKnn(query, ef);
+
+            List<Candidate> sorted = new ArrayList<>(nearest);
+            sorted.sort(Comparator.comparingDouble(Candidate::distance));
+
+            List<Document> documents = new ArrayList<>(topK);
+            for (Candidate candidate : sorted) {
+                if (documents.size() >= topK) {
+                    break;
+                }
+                double similarity = 1.0 - candidate.distance();
+                if (deletedNodes.get(candidate.node()) || similarity < request.getSimilarityThreshold()) {
+                    continue;
+                }
+                documents.add(toDocument(candidate.node(), similarity));
+            }
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Document> filteredSearch(float[] query, int topK, double threshold, VectorMetadataFilter filter) {
+        if (topK <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(Candidate::distance).reversed());
+        for (int node = deletedNodes.nextClearBit(0); node < vectors.size();
+             node = deletedNodes.nextClearBit(node + 1)) {
+            double d = distance(query, node);
+            if (1.0 - d < threshold || (nearest.size() >= topK && d >= nearest.peek().distance())
+                    || !filter.matches(entries.get(node))) {
+                continue;
+            }
+            nearest.add(new Candidate(node, d));
+            if (nearest.size() > topK) {
+                nearest.poll();
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(nearest);
+        sorted.sort(Comparator.comparingDouble(Candidate::distance));
+        List<Document> documents = new ArrayList<>(sorted.size());
+        for (Candidate candidate : sorted) {
+            documents.add(toDocument(candidate.node(), 1.0 - candidate.distance()));
+        }
+        return documents;
+    }
+
+    @Override
+    public Optional<float[]> findEmbedding(String id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node != null ? Optional.of(vectors.get(node).clone()) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 비율이 높으면 먼저 그래프를 압축한 뒤, 그래프와 문서 정보를 임시 파일 하나에 써서 원자적으로 교체
+     */
+    @Override
+    public void save(File file) {
+        lock.writeLock().lock();
+        try {
+            if (!vectors.isEmpty() && deletedNodes.cardinality() >= vectors.size() * COMPACTION_RATIO) {
+                int before = vectors.size();
+                rebuildGraph(new ArrayList<>(vectors), new ArrayList<>(entries), (BitSet) deletedNodes.clone());
+                log.info("HNSW 그래프 압축: {}개 → {}개 노드", before, vectors.size());
+            }
+            // 쓰기 락을 읽기 락으로 낮춰 파일을 쓰는 동안에도 검색은 허용
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Path target = file.toPath().toAbsolutePath();
+            Path tempFile = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(dimensions);
+                out.writeInt(m);
+                out.writeInt(vectors.size());
+                out.writeInt(entryPoint);
+                out.writeInt(maxLevel);
+
+                for (int node = 0; node < vectors.size(); node++) {
+                    out.writeBoolean(deletedNodes.get(node));
+                    for (float value : vectors.get(node)) {
+                        out.writeFloat(value);
+                    }
+
+                    int[][] nodeLinks = links.get(node);
+                    out.writeInt(nodeLinks.length);
+                    for (int[] layer : nodeLinks) {
+                        out.writeInt(layer[0]);
+                        for (int i = 1; i <= layer[0]; i++) {
+                            out.writeInt(layer[i]);
+                        }
+                    }
+                }
+
+                out.write(objectMapper.writeValueAsBytes(entries));
+            }
+
+            Files.move(tempFile, target,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // version 1에서 쓰던 사이드카는 더 이상 읽지 않음
+            Files.deleteIfExists(metaFile(target.toFile()).toPath());
+
+            log.debug("HNSW 인덱스 저장 완료: {} ({}개 노드, 삭제 {}개)",
+                    target, vectors.size(), deletedNodes.cardinality());
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("HNSW 인덱스 저장 실패: " + file, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 그래프를 읽음. 저장 당시 m이 현재 설정과 다르면 링크 배열 크기가 맞지 않으므로
+     * 링크는 버리고 저장된 벡터로 그래프를 다시 구성 (임베딩 재호출 없음)
+     */
+    public void load(File file) {
+        lock.writeLock().lock();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            int magic = in.readInt();
+            int version = in.readInt();
+            if (magic != MAGIC || (version != VERSION && version != LEGACY_SIDECAR_VERSION)) {
+                throw new IllegalStateException("지원하지 않는 HNSW 파일 형식: " + file);
+            }
+
+            int fileDimensions = in.readInt();
+            int fileM = in.readInt();
+            int count = in.readInt();
+            int fileEntryPoint = in.readInt();
+            int fileMaxLevel = in.readInt();
+
+            List<float[]> loadedVectors = new ArrayList<>(count);
+            List<int[][]> loadedLinks = new ArrayList<>(count);
+            BitSet loadedDeleted = new BitSet(count);
+
+            for (int node = 0; node < count; node++) {
+                if (in.readBoolean()) {
+                    loadedDeleted.set(node);
+                }
+
+                float[] vector = new float[fileDimensions];
+                for (int d = 0; d < fileDimensions; d++) {
+                    vector[d] = in.readFloat();
+                }
+                loadedVectors.add(vector);
+
+                int layers = in.readInt();
+                int[][] nodeLinks = new int[layers][];
+                for (int layer = 0; layer < layers; layer++) {
+                    int linkCount = in.readInt();
+                    nodeLinks[layer] = new int[Math.max(linkCount, maxLinks(layer)) + 1];
+                    nodeLinks[layer][0] = linkCount;
+                    for (int i = 1; i <= linkCount; i++) {
+                        nodeLinks[layer][i] = in.readInt();
+                    }
+                }
+                loadedLinks.add(nodeLinks);
+            }
+
+            List<VectorDocumentEntry> loadedEntries = version == VERSION
+                    ? objectMapper.readValue(in.readAllBytes(), new TypeReference<List<VectorDocumentEntry>>() {})
+                    : objectMapper.readValue(metaFile(file), new TypeReference<List<VectorDocumentEntry>>() {});
+            if (loadedEntries.size() != count) {
+                throw new IllegalStateException(String.format(
+                        "그래프(%d)와 문서 정보(%d)의 노드 수 불일치: %s", count, loadedEntries.size(), file));
+            }
+
+            this.dimensions = fileDimensions;
+
+            if (fileM != m) {
+                log.warn("⚠️ 저장된 HNSW m({})이 설정값({})과 다릅니다. 저장된 벡터로 그래프를 다시 구성", fileM, m);
+                rebuildGraph(loadedVectors, loadedEntries, loadedDeleted);
+                return;
+            }
+
+            vectors.clear();
+            links.clear();
+            entries.clear();
+            nodeById.clear();
+            deletedNodes.clear();
+
+            vectors.addAll(loadedVectors);
+            links.addAll(loadedLinks);
+            entries.addAll(loadedEntries);
+            deletedNodes.or(loadedDeleted);
+            for (int node = 0; node < count; node++) {
+                if (!deletedNodes.get(node)) {
+                    nodeById.put(entries.get(node).id(), node);
+                }
+            }
+
+            this.entryPoint = fileEntryPoint;
+            this.maxLevel = fileMaxLevel;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("HNSW 인덱스 로드 실패: " + file, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제되지 않은 노드만 현재 m으로 다시 삽입해 그래프를 새로 구성
+     */
+    private void rebuildGraph(List<float[]> sourceVectors, List<VectorDocumentEntry> sourceEntries,
+                              BitSet sourceDeleted) {
+        vectors.clear();
+        links.clear();
+        entries.clear();
+        nodeById.clear();
+        deletedNodes.clear();
+        entryPoint = -1;
+        maxLevel = -1;
+
+        for (int source = sourceDeleted.nextClearBit(0); source < sourceVectors.size();
+             source = sourceDeleted.nextClearBit(source + 1)) {
+            VectorDocumentEntry entry = sourceEntries.get(source);
+            int node = insert(sourceVectors.get(source));
+            entries.add(entry);
+            nodeById.put(entry.id(), node);
+        }
+    }
+
+    private int insert(float[] vector) {
+        int node = vectors.size();
+        int level = randomLevel();
+
+        int[][] nodeLinks = new int[level + 1][];
+        for (int layer = 0; layer <= level; layer++) {
+            nodeLinks[layer] = new int[maxLinks(layer) + 1];
+        }
+        vectors.add(vector);
+        links.add(nodeLinks);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = greedyClosest(vector, current, layer);
+        }
+
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            PriorityQueue<Candidate> candidates = searchLayer(vector, current, efConstruction, layer);
+            List<Candidate> neighbors = selectNeighbors(candidates, m);
+
+            for (Candidate neighbor : neighbors) {
+                addLink(node, neighbor.node(), layer);
+                addLink(neighbor.node(), node, layer);
+            }
+
+            current = closest(candidates).node();
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+        return node;
+    }
+
+    private PriorityQueue<Candidate> searchKnn(float[] query, int ef) {
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > 0; layer--) {
+            current = greedyClosest(query, current, layer);
+        }
+        return searchLayer(query, current, ef, 0);
+    }
+
+    private int greedyClosest(float[] query, int start, int layer) {
+        int current = start;
+        double currentDistance = distance(query, current);
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+            int[] neighbors = links.get(current)[layer];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                double d = distance(query, neighbor);
+                if (d < currentDistance) {
+                    currentDistance = d;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층에서 ef개의 최근접 후보를 탐색 (반환 큐는 거리 기준 최대 힙)
+     */
+    private PriorityQueue<Candidate> searchLayer(float[] query, int entry, int ef, int layer) {
+        BitSet visited = new BitSet(vectors.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance));
+        PriorityQueue<Candidate> results = new PriorityQueue<>(
+                Comparator.comparingDouble(Candidate::distance).reversed());
+
+        Candidate start = new Candidate(entry, distance(query, entry));
+        visited.set(entry);
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            Candidate nearest = candidates.poll();
+            if (nearest.distance() > results.peek().distance() && results.size() >= ef) {
+                break;
+            }
+
+            int[][] nodeLinks = links.get(nearest.node());
+            if (layer >= nodeLinks.length) {
+                continue;
+            }
+            int[] neighbors = nodeLinks[layer];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+
+                double d = distance(query, neighbor);
+                if (results.size() < ef || d < results.peek().distance()) {
+                    Candidate candidate = new Candidate(neighbor, d);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 휴리스틱 이웃 선택: 이미 선택된 이웃보다 기준점에 더 가까운 후보만 채택해 다양한 방향으로 연결
+     */
+    private List<Candidate> selectNeighbors(Collection<Candidate> candidates, int maxCount) {
+        List<Candidate> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparingDouble(Candidate::distance));
+
+        List<Candidate> selected = new ArrayList<>(maxCount);
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate candidate : sorted) {
+            if (selected.size() >= maxCount) {
+                break;
+            }
+
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (distance(vectors.get(candidate.node()), chosen.node()) < candidate.distance()) {
+                    diverse = false;
+                    break;
+                }
+            }
+
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+
+        // 연결 수가 모자라면 가까운 순으로 보충
+        for (Candidate candidate : skipped) {
+            if (selected.size() >= maxCount) {
+                break;
+            }
+            selected.add(candidate);
+        }
+        return selected;
+    }
+
+    private void addLink(int from, int to, int layer) {
+        int[] neighbors = links.get(from)[layer];
+        int count = neighbors[0];
+        int maxCount = maxLinks(layer);
+
+        if (count < maxCount) {
+            neighbors[count + 1] = to;
+            neighbors[0] = count + 1;
+            return;
+        }
+
+        // 연결이 가득 차면 기존 이웃 + 새 이웃 중에서 다시 선택
+        float[] base = vectors.get(from);
+        List<Candidate> candidates = new ArrayList<>(count + 1);
+        for (int i = 1; i <= count; i++) {
+            candidates.add(new Candidate(neighbors[i], distance(base, neighbors[i])));
+        }
+        candidates.add(new Candidate(to, distance(base, to)));
+
+        List<Candidate> selected = selectNeighbors(candidates, maxCount);
+        neighbors[0] = selected.size();
+        for (int i = 0; i < selected.size(); i++) {
+            neighbors[i + 1] = selected.get(i).node();
+        }
+    }
+
+    private int randomLevel() {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return (int) Math.floor(-Math.log(random) * levelMultiplier);
+    }
+
+    private int maxLinks(int layer) {
+        return layer == 0 ? maxM0 : m;
+    }
+
+    private double distance(float[] query, int node) {
+        return 1.0 - VectorSimilarityKernel.dot(vectors.get(node), 0, query, dimensions);
+    }
+
+    private static Candidate closest(Collection<Candidate> candidates) {
+        return candidates.stream()
+                .min(Comparator.comparingDouble(Candidate::distance))
+                .orElseThrow();
+    }
+
+    private Document toDocument(int node, double score) {
+        VectorDocumentEntry entry = entries.get(node);
+        return Document.builder()
+                .id(entry.id())
+                .text(entry.text())
+                .metadata(entry.metadata() != null ? entry.metadata() : Map.of())
+                .score(score)
+                .build();
+    }
+
+    private static File metaFile(File graphFile) {
+        return new File(graphFile.getPath() + META_SUFFIX);
+    }
+
+    private record Candidate(int node, double distance) {}
+}
@@ -0,0 +1,350 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 맵 기반 벡터 스토어
+ * - 임베딩은 L2 정규화 후 고정 폭 float32 바이너리 파일로 저장하고 mmap 하여 힙 밖에서 읽음
+ * - id/본문/메타데이터는 같은 파일의 벡터 영역 뒤에 JSON으로 붙여 저장 (파일 하나만 교체하므로 저장이 원자적)
+ * - 새로 추가된 문서는 save() 전까지 힙의 연속 배열에 보관하고, save() 시 하나의 파일로 합쳐서 다시 매핑
+ * - 검색은 VectorSimilarityKernel(내적 + 상위 K 힙)로 수행
+ *
+ * 파일 형식: [magic(int) | version(int) | dimensions(int) | count(int)] + count * dimensions * float32 (little-endian)
+ *           + 문서 정보 JSON (파일 끝까지)
+ * version 2 파일(문서 정보를 .meta 사이드카에 둔 형식)도 읽을 수 있고, 다음 save() 때 version 3으로 바뀜
+ */
+@Slf4j
+public class MappedVectorStore implements PersistentVectorStore {
+
+    private static final int MAGIC = 0x47445643; // "GDVC"
+    private static final int VERSION = 3; // 3: 문서 정보를 같은 파일에 저장
+    private static final int LEGACY_SIDECAR_VERSION = 2; // 2: 정규화된 벡터 + .meta 사이드카
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final String META_SUFFIX = ".meta";
+
+    private final EmbeddingModel embeddingModel;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int dimensions;
+
+    // 매핑된 행 [0, mappedCount)
+    private FloatBuffer mappedVectors;
+    private int mappedCount;
+
+    // save() 전까지 힙에 보관되는 행 [mappedCount, mappedCount + pendingCount), 행 단위로 연속 저장
+    private float[] pendingVectors = new float[0];
+    private int pendingCount;
+
+    // 전체 행 메타 정보 (행 번호 순서)
+    private final List<VectorDocumentEntry> entries = new ArrayList<>();
+    private final Map<String, Integer> rowById = new HashMap<>();
+    private final BitSet deletedRows = new BitSet();
+
+    public MappedVectorStore(EmbeddingModel embeddingModel) {
+        this.embeddingModel = embeddingModel;
+    }
+
+    /**
+     * 기존 스냅샷 파일을 매핑. 임베딩은 읽지 않으므로 문서 수와 무관하게 즉시 열림
+     */
+    public void load(File file) {
+        lock.writeLock().lock();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            int version = buffer.getInt(4);
+            if (buffer.getInt(0) != MAGIC || (version != VERSION && version != LEGACY_SIDECAR_VERSION)) {
+                throw new IllegalStateException("지원하지 않는 벡터 파일 형식: " + file);
+            }
+
+            int fileDimensions = buffer.getInt(8);
+            int count = buffer.getInt(12);
+            long vectorBytes = (long) count * fileDimensions * Float.BYTES;
+            if (HEADER_BYTES + vectorBytes > channel.size()) {
+                throw new IllegalStateException("벡터 파일이 잘려 있습니다: " + file);
+            }
+
+            List<VectorDocumentEntry> loadedEntries = version == VERSION
+                    ? readEntries(buffer, HEADER_BYTES + (int) vectorBytes)
+                    : objectMapper.readValue(metaFile(file), new TypeReference<List<VectorDocumentEntry>>() {});
+            if (loadedEntries.size() != count) {
+                throw new IllegalStateException(String.format(
+                        "벡터(%d)와 문서 정보(%d)의 문서 수 불일치: %s", count, loadedEntries.size(), file));
+            }
+
+            buffer.position(HEADER_BYTES).limit(HEADER_BYTES + (int) vectorBytes);
+            this.mappedVectors = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            this.mappedCount = count;
+            this.dimensions = fileDimensions;
+
+            pendingVectors = new float[0];
+            pendingCount = 0;
+            entries.clear();
+            rowById.clear();
+            deletedRows.clear();
+            for (int row = 0; row < loadedEntries.size(); row++) {
+                entries.add(loadedEntries.get(row));
+                rowById.put(loadedEntries.get(row).id(), row);
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("벡터 파일 로드 실패: " + file, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<float[]> embeddings = embeddingModel.embed(
+                documents.stream().map(Document::getText).toList());
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < documents.size(); i++) {
+                Document document = documents.get(i);
+                float[] embedding = embeddings.get(i);
+
+                if (dimensions == 0) {
+                    dimensions = embedding.length;
+                } else if (embedding.length != dimensions) {
+                    throw new IllegalArgumentException(String.format(
+                            "임베딩 차원 불일치: expected=%d, actual=%d", dimensions, embedding.length));
+                }
+
+                // 같은 id가 있으면 기존 행을 지우고 새 행으로 교체
+                Integer previousRow = rowById.get(document.getId());
+                if (previousRow != null) {
+                    deletedRows.set(previousRow);
+                }
+
+                int row = mappedCount + pendingCount;
+                appendPending(embedding);
+                entries.add(new VectorDocumentEntry(document.getId(), document.getText(),
+                        new HashMap<>(document.getMetadata())));
+                rowById.put(document.getId(), row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        lock.writeLock().lock();
+        try {
+            for (String id : idList) {
+                Integer row = rowById.remove(id);
+                if (row != null) {
+                    deletedRows.set(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        VectorMetadataFilter filter = VectorMetadataFilter.of(filterExpression);
+
+        lock.writeLock().lock();
+        try {
+            int totalRows = mappedCount + pendingCount;
+            for (int row = deletedRows.nextClearBit(0); row < totalRows; row = deletedRows.nextClearBit(row + 1)) {
+                VectorDocumentEntry entry = entries.get(row);
+                if (filter.matches(entry)) {
+                    deletedRows.set(row);
+                    rowById.remove(entry.id());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        VectorMetadataFilter filter = request.hasFilterExpression()
+                ? VectorMetadataFilter.of(request.getFilterExpression())
+                : null;
+
+        float[] query = embeddingModel.embed(request.getQuery()).clone();
+        VectorSimilarityKernel.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (dimensions == 0 || mappedCount + pendingCount == 0) {
+                return List.of();
+            }
+            if (query.length != dimensions) {
+                throw new IllegalArgumentException(String.format(
+                        "쿼리 임베딩 차원 불일치: expected=%d, actual=%d", dimensions, query.length));
+            }
+
+            // 필터가 있으면 메타데이터가 맞지 않는 행도 삭제된 행처럼 건너뜀
+            BitSet excludedRows = filter != null ? excludedRows(filter) : deletedRows;
+
+            VectorSimilarityKernel.VectorMatrix matrix = new VectorSimilarityKernel.VectorMatrix(
+                    mappedVectors, mappedCount, pendingVectors, pendingCount, dimensions);
+            VectorSimilarityKernel.Hits hits = VectorSimilarityKernel.search(matrix, query,
+                    request.getTopK(), (float) request.getSimilarityThreshold(), excludedRows).sorted();
+
+            List<Document> documents = new ArrayList<>(hits.size());
+            for (int i = 0; i < hits.size(); i++) {
+                documents.add(toDocument(hits.rows()[i], hits.scores()[i]));
+            }
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<float[]> findEmbedding(String id) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            if (row == null) {
+                return Optional.empty();
+            }
+
+            float[] vector = new float[dimensions];
+            for (int d = 0; d < dimensions; d++) {
+                vector[d] = vectorValue(row, d);
+            }
+            return Optional.of(vector);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 행을 제외하고 벡터와 문서 정보를 하나의 파일로 합쳐 저장한 뒤 다시 매핑
+     * 임시 파일에 쓴 뒤 한 번의 원자적 이동으로 교체하므로 중간에 중단되어도 이전 파일 또는 새 파일 중 하나만 남음
+     */
+    @Override
+    public void save(File file) {
+        lock.writeLock().lock();
+        try {
+            Path target = file.toPath().toAbsolutePath();
+            Path tempFile = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+
+            int totalRows = mappedCount + pendingCount;
+            List<VectorDocumentEntry> liveEntries = new ArrayList<>(totalRows);
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(dimensions)
+                        .putInt(totalRows - deletedRows.cardinality());
+                out.write(header.array());
+
+                ByteBuffer rowBuffer = ByteBuffer.allocate(dimensions * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                for (int row = 0; row < totalRows; row++) {
+                    if (deletedRows.get(row)) {
+                        continue;
+                    }
+
+                    rowBuffer.clear();
+                    for (int d = 0; d < dimensions; d++) {
+                        rowBuffer.putFloat(vectorValue(row, d));
+                    }
+                    out.write(rowBuffer.array());
+                    liveEntries.add(entries.get(row));
+                }
+
+                out.write(objectMapper.writeValueAsBytes(liveEntries));
+            }
+
+            Files.move(tempFile, target,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // version 2에서 쓰던 사이드카는 더 이상 읽지 않음
+            Files.deleteIfExists(metaFile(target.toFile()).toPath());
+
+            load(target.toFile());
+            log.debug("벡터 파일 저장 완료: {} ({}개 문서)", target, liveEntries.size());
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("벡터 파일 저장 실패: " + file, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<VectorDocumentEntry> readEntries(MappedByteBuffer buffer, int offset) throws IOException {
+        byte[] json = new byte[buffer.capacity() - offset];
+        buffer.get(offset, json);
+        return objectMapper.readValue(json, new TypeReference<List<VectorDocumentEntry>>() {});
+    }
+
+    private BitSet excludedRows(VectorMetadataFilter filter) {
+        int totalRows = mappedCount + pendingCount;
+        BitSet excluded = (BitSet) deletedRows.clone();
+        for (int row = excluded.nextClearBit(0); row < totalRows; row = excluded.nextClearBit(row + 1)) {
+            if (!filter.matches(entries.get(row))) {
+                excluded.set(row);
+            }
+        }
+        return excluded;
+    }
+
+    private void appendPending(float[] embedding) {
+        float[] normalized = embedding.clone();
+        VectorSimilarityKernel.normalize(normalized);
+
+        int required = (pendingCount + 1) * dimensions;
+        if (pendingVectors.length < required) {
+            pendingVectors = Arrays.copyOf(pendingVectors, Math.max(required, pendingVectors.length * 2));
+        }
+        System.arraycopy(normalized, 0, pendingVectors, pendingCount * dimensions, dimensions);
+        pendingCount++;
+    }
+
+    private float vectorValue(int row, int dimension) {
+        if (row < mappedCount) {
+            return mappedVectors.get(row * dimensions + dimension);
+        }
+        return pendingVectors[(row - mappedCount) * dimensions + dimension];
+    }
+
+    private Document toDocument(int row, double score) {
+        VectorDocumentEntry entry = entries.get(row);
+        return Document.builder()
+                .id(entry.id())
+                .text(entry.text())
+                .metadata(entry.metadata() != null ? entry.metadata() : Map.of())
+                .score(score)
+                .build();
+    }
+
+    private static File metaFile(File vectorFile) {
+        return new File(vectorFile.getPath() + META_SUFFIX);
+    }
+}
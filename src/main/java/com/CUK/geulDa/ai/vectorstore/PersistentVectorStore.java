@@ -0,0 +1,21 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.io.File;
+import java.util.Optional;
+
+/**
+ * 파일 스냅샷으로 저장 가능한 벡터 스토어
+ */
+public interface PersistentVectorStore extends VectorStore {
+
+    void save(File file);
+
+    /**
+     * 저장된 문서 벡터 (L2 정규화됨). 문서가 없거나 벡터를 꺼낼 수 없는 스토어면 empty
+     */
+    default Optional<float[]> findEmbedding(String id) {
+        return Optional.empty();
+    }
+}
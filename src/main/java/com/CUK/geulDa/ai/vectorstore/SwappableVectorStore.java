@@ -0,0 +1,108 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 교체 가능한 벡터 스토어 (블루/그린 재생성용)
+ * - 검색/추가/삭제는 현재 스토어에 위임
+ * - 전체 재생성 시 새 스토어(shadow)를 따로 만든 뒤 swap()으로 참조만 원자적으로 교체하므로
+ *   재생성 중에도 기존 인덱스로 검색이 계속 동작
+ */
+@Slf4j
+public class SwappableVectorStore implements PersistentVectorStore {
+
+    private final AtomicReference<VectorStore> delegate;
+
+    public SwappableVectorStore(VectorStore initial) {
+        this.delegate = new AtomicReference<>(initial);
+    }
+
+    public VectorStore current() {
+        return delegate.get();
+    }
+
+    /**
+     * 새 스토어로 교체하고 이전 스토어를 반환
+     */
+    public VectorStore swap(VectorStore next) {
+        VectorStore previous = delegate.getAndSet(next);
+        log.info("🔁 벡터 스토어 교체 완료: {} → {}",
+                previous.getClass().getSimpleName(), next.getClass().getSimpleName());
+        return previous;
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        delegate.get().add(documents);
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        delegate.get().delete(idList);
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        delegate.get().delete(filterExpression);
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        return delegate.get().similaritySearch(request);
+    }
+
+    @Override
+    public void save(File file) {
+        saveSnapshot(delegate.get(), file);
+    }
+
+    @Override
+    public Optional<float[]> findEmbedding(String id) {
+        return delegate.get() instanceof PersistentVectorStore persistentStore
+                ? persistentStore.findEmbedding(id)
+                : Optional.empty();
+    }
+
+    /**
+     * 스토어를 파일로 저장. 저장 도중 실패해도 기존 파일이 깨지지 않도록 임시 파일에 쓴 뒤 교체
+     * (MappedVectorStore/HnswVectorStore는 자체적으로 임시 파일 + rename 방식으로 저장)
+     *
+     * @return 저장 지원 여부
+     */
+    public static boolean saveSnapshot(VectorStore vectorStore, File file) {
+        if (vectorStore instanceof SwappableVectorStore swappable) {
+            return saveSnapshot(swappable.current(), file);
+        }
+        if (vectorStore instanceof PersistentVectorStore persistentStore) {
+            persistentStore.save(file);
+            return true;
+        }
+        if (vectorStore instanceof SimpleVectorStore simpleStore) {
+            Path target = file.toPath().toAbsolutePath();
+            try {
+                Path temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+                simpleStore.save(temp.toFile());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("벡터 스토어 저장 실패: " + file, e);
+            }
+        }
+        return false;
+    }
+}
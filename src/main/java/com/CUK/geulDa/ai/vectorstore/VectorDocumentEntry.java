@@ -0,0 +1,10 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import java.util.Map;
+
+/**
+ * 벡터 스토어 파일에 벡터와 함께 JSON으로 저장되는 문서 정보 (임베딩 제외)
+ * .meta 사이드카는 이전 형식 파일(MappedVectorStore version 2, HnswVectorStore version 1)을 읽을 때만 사용
+ */
+public record VectorDocumentEntry(String id, String text, Map<String, Object> metadata) {
+}
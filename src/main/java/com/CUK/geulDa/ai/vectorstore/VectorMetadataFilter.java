@@ -0,0 +1,36 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.converter.SimpleVectorStoreFilterExpressionConverter;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.Map;
+
+/**
+ * 필터 표현식을 문서 메타데이터에 대해 평가 (SimpleVectorStore와 같은 방식)
+ * - Filter.Expression → SpEL로 한 번만 변환해 두고 문서마다 #metadata 변수로 평가
+ */
+final class VectorMetadataFilter {
+
+    private static final SimpleVectorStoreFilterExpressionConverter CONVERTER =
+            new SimpleVectorStoreFilterExpressionConverter();
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+    private final Expression expression;
+
+    private VectorMetadataFilter(Expression expression) {
+        this.expression = expression;
+    }
+
+    static VectorMetadataFilter of(Filter.Expression filterExpression) {
+        return new VectorMetadataFilter(PARSER.parseExpression(CONVERTER.convertExpression(filterExpression)));
+    }
+
+    boolean matches(VectorDocumentEntry entry) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("metadata", entry.metadata() != null ? entry.metadata() : Map.of());
+        return Boolean.TRUE.equals(expression.getValue(context, Boolean.class));
+    }
+}
@@ -0,0 +1,257 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 정규화된 벡터 대상 brute-force 유사도 검색 커널
+ * - 모든 벡터는 저장 시점에 L2 정규화 → 코사인 유사도 = 내적
+ * - 내적은 float[] 위의 단순 루프로 작성해 JIT 자동 벡터화(SIMD) 대상이 되도록 유지
+ * - 전체 정렬 대신 크기 K의 최소 힙으로 상위 K개만 유지
+ * - 행 수가 PARALLEL_THRESHOLD를 넘으면 ForkJoin으로 구간을 나눠 병렬 스캔 후 힙 병합
+ */
+public final class VectorSimilarityKernel {
+
+    static final int PARALLEL_THRESHOLD = 16_384;
+    private static final int LEAF_ROWS = 4_096;
+
+    private VectorSimilarityKernel() {
+    }
+
+    public static void normalize(float[] vector) {
+        double sum = 0.0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        if (sum == 0.0) {
+            return;
+        }
+
+        float inverse = (float) (1.0 / Math.sqrt(sum));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverse;
+        }
+    }
+
+    public static float dot(float[] a, int aOffset, float[] b, int length) {
+        float sum = 0.0f;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOffset + i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 쿼리(정규화 완료)와 가장 유사한 상위 K개 행을 반환
+     */
+    public static TopK search(VectorMatrix matrix, float[] query, int k,
+                              float threshold, BitSet deletedRows) {
+        int rows = matrix.rows();
+        if (rows == 0 || k <= 0) {
+            return new TopK(Math.max(k, 0));
+        }
+
+        if (rows < PARALLEL_THRESHOLD) {
+            return scan(matrix, 0, rows, query, k, threshold, deletedRows);
+        }
+
+        return ForkJoinPool.commonPool().invoke(
+                new SearchTask(matrix, 0, rows, query, k, threshold, deletedRows));
+    }
+
+    private static TopK scan(VectorMatrix matrix, int from, int to, float[] query,
+                             int k, float threshold, BitSet deletedRows) {
+        TopK topK = new TopK(k);
+        int dimensions = matrix.dimensions();
+
+        // 매핑 구간: 행 단위로 힙 배열에 bulk 복사 후 내적 (복사는 intrinsic, 내적 루프는 벡터화)
+        int mappedEnd = Math.min(to, matrix.mappedRows());
+        if (from < mappedEnd) {
+            float[] scratch = new float[dimensions];
+            for (int row = from; row < mappedEnd; row++) {
+                if (deletedRows.get(row)) {
+                    continue;
+                }
+                matrix.mapped().get(row * dimensions, scratch, 0, dimensions);
+                float score = dot(scratch, 0, query, dimensions);
+                if (score >= threshold) {
+                    topK.offer(row, score);
+                }
+            }
+        }
+
+        // 힙 구간: 하나의 연속 배열에서 바로 내적
+        float[] heapData = matrix.heapData();
+        for (int row = Math.max(from, matrix.mappedRows()); row < to; row++) {
+            if (deletedRows.get(row)) {
+                continue;
+            }
+            float score = dot(heapData, (row - matrix.mappedRows()) * dimensions, query, dimensions);
+            if (score >= threshold) {
+                topK.offer(row, score);
+            }
+        }
+
+        return topK;
+    }
+
+    /**
+     * 행 번호 [0, mappedRows)는 mmap 버퍼, [mappedRows, mappedRows + heapRows)는 힙 배열에 위치
+     */
+    public record VectorMatrix(FloatBuffer mapped, int mappedRows,
+                               float[] heapData, int heapRows, int dimensions) {
+
+        public int rows() {
+            return mappedRows + heapRows;
+        }
+    }
+
+    public record Hits(int[] rows, float[] scores) {
+
+        public int size() {
+            return rows.length;
+        }
+    }
+
+    /**
+     * 점수 기준 최소 힙 (크기 K 고정, 박싱 없는 원시 배열)
+     */
+    public static final class TopK {
+
+        private final int capacity;
+        private final int[] rows;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            this.rows = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void offer(int row, float score) {
+            if (size < capacity) {
+                rows[size] = row;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (capacity > 0 && score > scores[0]) {
+                rows[0] = row;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        void merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.rows[i], other.scores[i]);
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 점수 내림차순으로 정렬된 결과 (힙 자체는 변경하지 않음)
+         */
+        public Hits sorted() {
+            int[] heapRows = Arrays.copyOf(rows, size);
+            float[] heapScores = Arrays.copyOf(scores, size);
+            int[] sortedRows = new int[size];
+            float[] sortedScores = new float[size];
+
+            // 최소값을 하나씩 꺼내 뒤에서부터 채움
+            for (int n = size; n > 0; n--) {
+                sortedRows[n - 1] = heapRows[0];
+                sortedScores[n - 1] = heapScores[0];
+                heapRows[0] = heapRows[n - 1];
+                heapScores[0] = heapScores[n - 1];
+                siftDown(heapRows, heapScores, n - 1, 0);
+            }
+            return new Hits(sortedRows, sortedScores);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (scores[parent] <= scores[index]) {
+                    break;
+                }
+                swap(rows, scores, parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            siftDown(rows, scores, size, index);
+        }
+
+        private static void siftDown(int[] rows, float[] scores, int size, int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left;
+                int right = left + 1;
+                if (right < size && scores[right] < scores[left]) {
+                    smallest = right;
+                }
+                if (scores[index] <= scores[smallest]) {
+                    return;
+                }
+                swap(rows, scores, index, smallest);
+                index = smallest;
+            }
+        }
+
+        private static void swap(int[] rows, float[] scores, int i, int j) {
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+
+    private static final class SearchTask extends RecursiveTask<TopK> {
+
+        private final VectorMatrix matrix;
+        private final int from;
+        private final int to;
+        private final float[] query;
+        private final int k;
+        private final float threshold;
+        private final BitSet deletedRows;
+
+        SearchTask(VectorMatrix matrix, int from, int to, float[] query,
+                   int k, float threshold, BitSet deletedRows) {
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+            this.query = query;
+            this.k = k;
+            this.threshold = threshold;
+            this.deletedRows = deletedRows;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= LEAF_ROWS) {
+                return scan(matrix, from, to, query, k, threshold, deletedRows);
+            }
+
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(matrix, from, middle, query, k, threshold, deletedRows);
+            SearchTask right = new SearchTask(matrix, middle, to, query, k, threshold, deletedRows);
+            left.fork();
+            TopK result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.io.File;
+
+/**
+ * 설정된 타입(geulda.vector-store.type)의 벡터 스토어 생성
+ * - 서버 기동 시 파일 로드와 전체 재생성 시 빈 shadow 스토어 생성에 공통으로 사용
+ */
+@Slf4j
+public class VectorStoreFactory {
+
+    private final EmbeddingModel embeddingModel;
+    private final String type;
+    private final int hnswM;
+    private final int hnswEfConstruction;
+    private final int hnswEfSearch;
+
+    public VectorStoreFactory(EmbeddingModel embeddingModel, String type,
+                              int hnswM, int hnswEfConstruction, int hnswEfSearch) {
+        this.embeddingModel = embeddingModel;
+        this.type = type;
+        this.hnswM = hnswM;
+        this.hnswEfConstruction = hnswEfConstruction;
+        this.hnswEfSearch = hnswEfSearch;
+    }
+
+    /**
+     * 스토어가 사용하는 임베딩 모델 (캐시 데코레이터 포함)
+     */
+    public EmbeddingModel getEmbeddingModel() {
+        return embeddingModel;
+    }
+
+    /**
+     * 비어 있는 새 스토어 생성
+     */
+    public VectorStore create() {
+        if ("simple".equals(type)) {
+            return SimpleVectorStore.builder(embeddingModel).build();
+        }
+        if ("hnsw".equals(type)) {
+            return new HnswVectorStore(embeddingModel, hnswM, hnswEfConstruction, hnswEfSearch);
+        }
+        return new MappedVectorStore(embeddingModel);
+    }
+
+    /**
+     * 스토어 생성 후 파일이 있으면 로드
+     */
+    public VectorStore load(File vectorFile) {
+        VectorStore vectorStore = create();
+
+        if (!vectorFile.exists()) {
+            log.info("🆕 새로운 벡터 스토어 생성 (파일 없음: {}, type={})", vectorFile.getPath(), type);
+            return vectorStore;
+        }
+
+        long startTime = System.currentTimeMillis();
+        if (vectorStore instanceof MappedVectorStore mappedStore) {
+            mappedStore.load(vectorFile);
+            log.info("✅ 기존 벡터 스토어 매핑 완료: {} ({}KB, {}ms)",
+                    vectorFile.getPath(), vectorFile.length() / 1024, System.currentTimeMillis() - startTime);
+        } else if (vectorStore instanceof HnswVectorStore hnswStore) {
+            hnswStore.load(vectorFile);
+            log.info("✅ 기존 HNSW 인덱스 로드 완료: {} ({}개 문서, {}ms)",
+                    vectorFile.getPath(), hnswStore.size(), System.currentTimeMillis() - startTime);
+        } else if (vectorStore instanceof SimpleVectorStore simpleStore) {
+            simpleStore.load(vectorFile);
+            log.info("✅ 기존 벡터 스토어 로드 완료: {} ({}KB)",
+                    vectorFile.getPath(), vectorFile.length() / 1024);
+        }
+
+        return vectorStore;
+    }
+}
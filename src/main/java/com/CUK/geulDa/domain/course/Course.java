@@ -6,14 +6,31 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLDelete;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
 
 @Entity
+@Table(indexes = {
+        // 반경 검색 경계 박스 사전 필터용 (is_hidden = false AND latitude BETWEEN ...)
+        @Index(name = "idx_course_hidden_lat_lon", columnList = "is_hidden, latitude, longitude")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_course_dedup_key", columnNames = "dedup_key")
+})
+// 삭제된 장소가 같은 이름+주소의 재등록을 막지 않도록 중복 키도 비움
+@SQLDelete(sql = "UPDATE {h-schema}course SET deleted_at = NOW(), dedup_key = NULL WHERE id = ?")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Course extends BaseEntity {
 
+    // IDENTITY는 INSERT마다 생성 키를 받아야 해서 JDBC 배치가 꺼지므로 테이블 시퀀스(course_seq)에서 50개씩 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -63,6 +80,10 @@ public class Course extends BaseEntity {
     @Column(name = "data_source")
     private String dataSource = "manual";
 
+    // 중복 판정 키: 정규화한 이름 + 주소의 SHA-256 (V3 마이그레이션에서 기존 행 채움)
+    @Column(name = "dedup_key", length = 64)
+    private String dedupKey;
+
     @Builder
     public Course(String name, String description, String address,
                   Double latitude, Double longitude, Boolean isHidden,
@@ -83,6 +104,63 @@ public class Course extends BaseEntity {
         this.recommendedDuration = recommendedDuration;
         this.popularityScore = popularityScore != null ? popularityScore : 50;
         this.dataSource = dataSource != null ? dataSource : "manual";
+        this.dedupKey = dedupKey(name, address);
+    }
+
+    /**
+     * 공백 제거 + 소문자화한 "이름|주소"의 SHA-256 hex
+     * 기존 행의 키도 SQL이 아닌 이 메서드로 채움 (CourseService.fillMissingDedupKeys)
+     */
+    public static String dedupKey(String name, String address) {
+        String source = normalizeForDedup(name) + "|" + normalizeForDedup(address);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String normalizeForDedup(String value) {
+        return value == null ? "" : value.replaceAll("(?U)\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 키가 비어 있는 기존 행에 현재 이름/주소로 키를 채움
+     */
+    public void fillDedupKey() {
+        this.dedupKey = dedupKey(name, address);
+    }
+
+    /**
+     * 소프트 삭제 시 @SQLDelete와 마찬가지로 키를 비워 같은 장소를 다시 등록할 수 있게 함
+     */
+    @Override
+    public void delete() {
+        super.delete();
+        this.dedupKey = null;
+    }
+
+    /**
+     * 같은 내용의 저장 전 엔티티 (INSERT가 롤백되어 ID만 할당된 엔티티를 다시 저장할 때)
+     */
+    public Course unsavedCopy() {
+        return Course.builder()
+                .name(name)
+                .description(description)
+                .address(address)
+                .latitude(latitude)
+                .longitude(longitude)
+                .isHidden(isHidden)
+                .video(video)
+                .placeImg(placeImg)
+                .systemMessage(systemMessage)
+                .category(category)
+                .tourPurposeTags(tourPurposeTags)
+                .recommendedDuration(recommendedDuration)
+                .popularityScore(popularityScore)
+                .dataSource(dataSource)
+                .build();
     }
 
     public void updatePlaceImage(String imageUrl) {
@@ -0,0 +1,25 @@
+package com.CUK.geulDa.domain.course.event;
+
+import com.CUK.geulDa.domain.course.Course;
+
+import java.util.List;
+
+/**
+ * Course 저장/수정 후 발행되는 이벤트
+ * 메모리 인덱스들이 트랜잭션 커밋 이후 변경분만 반영하는 데 사용
+ * imageOnly: 대표 이미지 URL만 바뀐 경우 (텍스트 답변 캐시처럼 이미지와 무관한 구독자는 무시)
+ */
+public record CourseChangedEvent(List<Course> courses, boolean imageOnly) {
+
+    public CourseChangedEvent {
+        courses = List.copyOf(courses);
+    }
+
+    public CourseChangedEvent(List<Course> courses) {
+        this(courses, false);
+    }
+
+    public static CourseChangedEvent imageUpdated(Course course) {
+        return new CourseChangedEvent(List.of(course), true);
+    }
+}
@@ -0,0 +1,347 @@
+package com.CUK.geulDa.domain.course.index;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 공개 장소 간 거리 행렬
+ * - 장소별 위/경도 라디안과 cos(위도)를 primitive 배열로 미리 계산해 두고 Haversine에서 재사용
+ * - 장소 쌍 거리는 float32 상삼각 행렬에 처음 조회될 때 채움 (장소 수가 max-courses를 넘으면 행렬 없이 바로 계산)
+ * - 장소별 최근접 이웃(k개) 목록도 처음 조회될 때 계산해 보관
+ * - CourseChangedEvent가 오면 스냅샷을 버리고 다음 조회 때 다시 구성 (DB 재조회 없음), 이미지만 바뀐 경우는 유지
+ */
+@Component
+@Slf4j
+public class CourseDistanceMatrix {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    private final CourseRepository courseRepository;
+    private final int maxCourses;
+    private final int knnSize;
+
+    private final Map<Long, Course> courses = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();  // 장소 변경 횟수
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded = false;
+
+    public CourseDistanceMatrix(
+            CourseRepository courseRepository,
+            @Value("${geulda.course.distance-matrix.max-courses:5000}") int maxCourses,
+            @Value("${geulda.course.distance-matrix.knn-size:10}") int knnSize) {
+        this.courseRepository = courseRepository;
+        this.maxCourses = maxCourses;
+        this.knnSize = knnSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long startTime = System.currentTimeMillis();
+            courses.clear();
+            courseRepository.findByIsHiddenFalse().forEach(this::upsert);
+            version.incrementAndGet();
+
+            Snapshot built = snapshot();
+            loaded = true;
+            log.info("장소 거리 행렬 준비 완료: {}개 장소, 행렬 {} ({}ms)", built.size(),
+                    built.pairs != null ? (built.pairs.length * 4L / 1024) + "KB" : "미사용",
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("장소 거리 행렬 준비 실패, 좌표로 직접 거리 계산", e);
+            loaded = false;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        event.courses().forEach(this::upsert);
+        Snapshot current = snapshot;
+        if (event.imageOnly() && current != null && stillIndexed(event)) {
+            // 좌표가 그대로이므로 행렬은 유지하고 반환용 Course 참조만 교체
+            event.courses().forEach(current::replace);
+            return;
+        }
+
+        // upsert 후에 버전 증가 (순서가 바뀌면 새 버전 행렬에서 변경분이 빠질 수 있음)
+        version.incrementAndGet();
+        log.debug("장소 거리 행렬 무효화: {}개 장소 변경", event.courses().size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 두 장소 간 거리 (km). 행렬에 없는 장소(아직 저장 전인 AI 생성 장소 등)는 좌표로 직접 계산
+     */
+    public double distance(Course from, Course to) {
+        Snapshot current = snapshot();
+        int i = current.indexOf(from);
+        int j = current.indexOf(to);
+        if (i >= 0 && j >= 0) {
+            return current.pairDistance(i, j);
+        }
+        return haversine(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+
+    /**
+     * 임의 좌표(사용자 위치 등)에서 장소까지 거리 (km)
+     */
+    public double distanceFrom(double lat, double lon, Course to) {
+        Snapshot current = snapshot();
+        int j = current.indexOf(to);
+        if (j < 0) {
+            return haversine(lat, lon, to.getLatitude(), to.getLongitude());
+        }
+        double latRad = Math.toRadians(lat);
+        return haversine(latRad, Math.toRadians(lon), Math.cos(latRad),
+                current.latRad[j], current.lonRad[j], current.cosLat[j]);
+    }
+
+    /**
+     * 장소에서 가까운 공개 장소 최대 knn-size개 (가까운 순, 자기 자신 제외)
+     */
+    public List<Course> nearestNeighbors(Course course) {
+        Snapshot current = snapshot();
+        int i = current.indexOf(course);
+        if (i < 0) {
+            return course.getLatitude() != null && course.getLongitude() != null
+                    ? nearestTo(course.getLatitude(), course.getLongitude(), knnSize)
+                    : List.of();
+        }
+
+        int[] neighbors = current.neighbors(i, knnSize);
+        List<Course> result = new ArrayList<>(neighbors.length);
+        for (int neighbor : neighbors) {
+            result.add(current.courses[neighbor]);
+        }
+        return result;
+    }
+
+    /**
+     * 임의 좌표에서 가까운 공개 장소 limit개 (가까운 순)
+     */
+    public List<Course> nearestTo(double lat, double lon, int limit) {
+        Snapshot current = snapshot();
+        double latRad = Math.toRadians(lat);
+        double lonRad = Math.toRadians(lon);
+        double cosLat = Math.cos(latRad);
+
+        int n = current.size();
+        double[] distances = new double[n];
+        for (int j = 0; j < n; j++) {
+            distances[j] = haversine(latRad, lonRad, cosLat, current.latRad[j], current.lonRad[j], current.cosLat[j]);
+        }
+
+        int[] nearest = smallest(distances, -1, limit);
+        List<Course> result = new ArrayList<>(nearest.length);
+        for (int index : nearest) {
+            result.add(current.courses[index]);
+        }
+        return result;
+    }
+
+    /**
+     * 버전이 맞는 행렬을 반환하고, 장소 변경으로 버전이 올라갔으면 새로 구성
+     * 행렬을 만드는 동안 들어온 변경은 버전만 올리므로 완성된 행렬은 다음 조회에서 다시 구성됨 (쓰는 쪽은 대기하지 않음)
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            long buildVersion = version.get();
+            current = snapshot;
+            if (current == null || current.version != buildVersion) {
+                current = new Snapshot(courses.values(), maxCourses, buildVersion);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 이벤트의 장소가 모두 upsert 후에도 남아 있는지 (숨김/삭제되었으면 행렬을 다시 구성해야 함)
+     */
+    private boolean stillIndexed(CourseChangedEvent event) {
+        return event.courses().stream()
+                .allMatch(course -> course.getId() != null && courses.containsKey(course.getId()));
+    }
+
+    private void upsert(Course course) {
+        if (course.getId() == null) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(course.getIsHidden()) || course.isDeleted()
+                || course.getLatitude() == null || course.getLongitude() == null) {
+            courses.remove(course.getId());
+            return;
+        }
+        courses.put(course.getId(), course);
+    }
+
+    /**
+     * 거리가 가장 작은 인덱스 최대 k개 (삽입 정렬, O(n·k))
+     */
+    private static int[] smallest(double[] distances, int exclude, int k) {
+        int[] best = new int[Math.min(k, distances.length)];
+        double[] bestDistances = new double[best.length];
+        int count = 0;
+
+        for (int j = 0; j < distances.length; j++) {
+            if (j == exclude) {
+                continue;
+            }
+            double d = distances[j];
+            if (count == best.length && (count == 0 || d >= bestDistances[count - 1])) {
+                continue;
+            }
+
+            int position = count < best.length ? count++ : count - 1;
+            while (position > 0 && bestDistances[position - 1] > d) {
+                best[position] = best[position - 1];
+                bestDistances[position] = bestDistances[position - 1];
+                position--;
+            }
+            best[position] = j;
+            bestDistances[position] = d;
+        }
+        return Arrays.copyOf(best, count);
+    }
+
+    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double latRad1 = Math.toRadians(lat1);
+        double latRad2 = Math.toRadians(lat2);
+        return haversine(latRad1, Math.toRadians(lon1), Math.cos(latRad1),
+                latRad2, Math.toRadians(lon2), Math.cos(latRad2));
+    }
+
+    private static double haversine(double latRad1, double lonRad1, double cosLat1,
+                                    double latRad2, double lonRad2, double cosLat2) {
+        double sinLat = Math.sin((latRad2 - latRad1) / 2);
+        double sinLon = Math.sin((lonRad2 - lonRad1) / 2);
+        double a = sinLat * sinLat + cosLat1 * cosLat2 * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 특정 시점의 장소 목록으로 만든 불변 좌표 배열 + 지연 계산 캐시
+     * 지연 계산 값은 같은 입력이면 항상 같으므로 동시에 채워도 결과가 같음
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final Course[] courses;
+        private final Map<Long, Integer> indexById;
+        private final double[] latRad;
+        private final double[] lonRad;
+        private final double[] cosLat;
+        private final float[] pairs;  // i < j 쌍을 j*(j-1)/2 + i 위치에 저장, NaN = 미계산
+        private final AtomicReferenceArray<int[]> neighbors;
+
+        private Snapshot(Collection<Course> source, int maxCourses, long version) {
+            this.version = version;
+            this.courses = source.stream()
+                    .sorted(Comparator.comparing(Course::getId))
+                    .toArray(Course[]::new);
+
+            int n = courses.length;
+            this.indexById = new HashMap<>(n * 2);
+            this.latRad = new double[n];
+            this.lonRad = new double[n];
+            this.cosLat = new double[n];
+            for (int i = 0; i < n; i++) {
+                indexById.put(courses[i].getId(), i);
+                latRad[i] = Math.toRadians(courses[i].getLatitude());
+                lonRad[i] = Math.toRadians(courses[i].getLongitude());
+                cosLat[i] = Math.cos(latRad[i]);
+            }
+
+            if (n <= maxCourses) {
+                this.pairs = new float[(int) ((long) n * (n - 1) / 2)];
+                Arrays.fill(pairs, Float.NaN);
+            } else {
+                this.pairs = null;
+            }
+            this.neighbors = new AtomicReferenceArray<>(n);
+        }
+
+        private int size() {
+            return courses.length;
+        }
+
+        private int indexOf(Course course) {
+            if (course.getId() == null) {
+                return -1;
+            }
+            Integer index = indexById.get(course.getId());
+            return index != null ? index : -1;
+        }
+
+        /**
+         * 같은 ID 장소의 Course 참조만 교체 (좌표 배열과 거리 캐시는 그대로)
+         */
+        private void replace(Course course) {
+            int index = indexOf(course);
+            if (index >= 0) {
+                courses[index] = course;
+            }
+        }
+
+        private double pairDistance(int i, int j) {
+            if (i == j) {
+                return 0.0;
+            }
+            if (pairs == null) {
+                return compute(i, j);
+            }
+
+            int low = Math.min(i, j);
+            int high = Math.max(i, j);
+            int slot = (int) ((long) high * (high - 1) / 2) + low;
+
+            float cached = pairs[slot];
+            if (!Float.isNaN(cached)) {
+                return cached;
+            }
+            float computed = (float) compute(i, j);
+            pairs[slot] = computed;
+            return computed;
+        }
+
+        private int[] neighbors(int i, int k) {
+            int[] cached = neighbors.get(i);
+            if (cached != null) {
+                return cached;
+            }
+
+            double[] distances = new double[courses.length];
+            for (int j = 0; j < courses.length; j++) {
+                distances[j] = pairDistance(i, j);
+            }
+            int[] computed = smallest(distances, i, k);
+            neighbors.compareAndSet(i, null, computed);
+            return computed;
+        }
+
+        private double compute(int i, int j) {
+            return haversine(latRad[i], lonRad[i], cosLat[i], latRad[j], lonRad[j], cosLat[j]);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.CUK.geulDa.domain.course.index;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 장소 이름 메모리 인덱스
+ * - 이름은 NFKC + 소문자 + 공백/기호 제거로 정규화 ("부천 자유시장" = "부천자유시장")
+ * - 정확/접두사 검색: 정규화된 이름 사전순 트라이 (노드마다 하위 이름의 정렬 범위를 보관)
+ * - 부분 문자열 검색: 글자 bigram 포스팅 교집합 후 contains 확인
+ * - 오타 허용 검색: 자모 단위 편집 거리 ("한옥" ↔ "한욱" = 1)
+ * - CourseChangedEvent가 오면 스냅샷을 버리고 다음 조회 때 다시 구성 (DB 재조회 없음). 이미지만 바뀌면 스냅샷 유지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CourseNameIndex {
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+
+    private final CourseRepository courseRepository;
+
+    private final Map<Long, Course> courses = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();  // 장소가 바뀔 때마다 증가
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long startTime = System.currentTimeMillis();
+            courses.clear();
+            courseRepository.findByIsHiddenFalse().forEach(this::upsert);
+            version.incrementAndGet();
+
+            Snapshot built = snapshot();
+            loaded = true;
+            log.info("장소 이름 인덱스 적재 완료: {}개 장소, bigram {}개 ({}ms)",
+                    built.size(), built.bigrams.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("장소 이름 인덱스 적재 실패, DB 이름 검색 사용", e);
+            loaded = false;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        event.courses().forEach(this::upsert);
+        Snapshot current = snapshot;
+        if (event.imageOnly() && current != null && stillIndexed(event)) {
+            // 이름이 그대로이므로 트라이와 bigram은 재사용하고 Course 참조만 교체
+            event.courses().forEach(current::replace);
+            return;
+        }
+
+        // 반영한 뒤에 버전을 올려야 새 버전으로 만든 스냅샷에 변경분이 항상 포함됨
+        version.incrementAndGet();
+        log.debug("장소 이름 인덱스 무효화: {}개 장소 변경", event.courses().size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 정규화된 이름이 같은 장소
+     */
+    public List<Course> findExact(String name) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot();
+        Node node = current.find(key);
+        return node != null ? current.slice(node.from, node.from + node.terminals) : List.of();
+    }
+
+    /**
+     * 정규화된 이름이 prefix로 시작하는 장소 최대 limit개 (이름 사전순)
+     */
+    public List<Course> findByPrefix(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot();
+        Node node = current.find(key);
+        return node != null ? current.slice(node.from, Math.min(node.to, node.from + limit)) : List.of();
+    }
+
+    /**
+     * 정규화된 이름에 keyword가 포함된 장소 (이름 사전순)
+     */
+    public List<Course> findContaining(String keyword) {
+        String key = normalize(keyword);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot();
+        if (key.length() == 1) {
+            List<Course> result = new ArrayList<>();
+            for (int i = 0; i < current.size(); i++) {
+                if (current.names[i].indexOf(key.charAt(0)) >= 0) {
+                    result.add(current.courses[i]);
+                }
+            }
+            return result;
+        }
+
+        int[][] postings = new int[key.length() - 1][];
+        for (int i = 0; i + 1 < key.length(); i++) {
+            postings[i] = current.bigrams.get(bigram(key.charAt(i), key.charAt(i + 1)));
+            if (postings[i] == null) {
+                return List.of();
+            }
+        }
+        Arrays.sort(postings, Comparator.comparingInt(posting -> posting.length));
+
+        List<Course> result = new ArrayList<>();
+        for (int ordinal : postings[0]) {
+            if (containsAll(postings, ordinal) && current.names[ordinal].contains(key)) {
+                result.add(current.courses[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 자모 편집 거리가 허용 범위 안인 장소 최대 limit개 (거리 → 이름 순)
+     * 허용 거리는 자모 길이에 비례 (6자모 미만 0, 12자모 미만 1, 그 이상 2). 짧은 이름은 오타 허용 없이 정확히 일치해야 함
+     */
+    public List<Course> findSimilar(String query, int limit) {
+        String jamoQuery = toJamo(normalize(query));
+        if (jamoQuery.isEmpty()) {
+            return List.of();
+        }
+        int maxDistance = jamoQuery.length() < 6 ? 0 : jamoQuery.length() < 12 ? 1 : 2;
+
+        Snapshot current = snapshot();
+        List<int[]> matches = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            String candidate = current.jamo[i];
+            if (Math.abs(candidate.length() - jamoQuery.length()) > maxDistance) {
+                continue;
+            }
+            int distance = boundedEditDistance(jamoQuery, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                matches.add(new int[]{distance, i});
+            }
+        }
+
+        return matches.stream()
+                .sorted(Comparator.<int[]>comparingInt(match -> match[0]).thenComparingInt(match -> match[1]))
+                .limit(limit)
+                .map(match -> current.courses[match[1]])
+                .toList();
+    }
+
+    /**
+     * 현재 버전의 스냅샷 (버전이 올라갔으면 다시 구성)
+     * 구성 도중 장소가 바뀌면 그 스냅샷은 이전 버전으로 남아 다음 조회에서 버려지므로 무효화가 덮어써지지 않음
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            long buildVersion = version.get();
+            current = snapshot;
+            if (current == null || current.version != buildVersion) {
+                current = new Snapshot(courses.values(), buildVersion);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean stillIndexed(CourseChangedEvent event) {
+        return event.courses().stream()
+                .allMatch(course -> course.getId() != null && courses.containsKey(course.getId()));
+    }
+
+    private void upsert(Course course) {
+        if (course.getId() == null) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(course.getIsHidden()) || course.isDeleted()
+                || normalize(course.getName()).isEmpty()) {
+            courses.remove(course.getId());
+            return;
+        }
+        courses.put(course.getId(), course);
+    }
+
+    /**
+     * 호환 문자/전각 통일(NFKC), 소문자화, 글자와 숫자 외 제거
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 자모로 분해 (그 밖의 문자는 그대로)
+     */
+    static String toJamo(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < HANGUL_BASE || c > HANGUL_LAST) {
+                jamo.append(c);
+                continue;
+            }
+
+            int syllable = c - HANGUL_BASE;
+            jamo.append((char) (0x1100 + syllable / 588));
+            jamo.append((char) (0x1161 + (syllable % 588) / 28));
+            if (syllable % 28 != 0) {
+                jamo.append((char) (0x11A7 + syllable % 28));
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 편집 거리. max를 넘는 것이 확실해지면 max + 1을 바로 반환
+     */
+    static int boundedEditDistance(String a, String b, int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static boolean containsAll(int[][] postings, int ordinal) {
+        for (int i = 1; i < postings.length; i++) {
+            if (Arrays.binarySearch(postings[i], ordinal) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 정규화된 이름 사전순으로 정렬한 불변 배열 + 트라이 + bigram 포스팅
+     * 사전순으로 넣기 때문에 트라이 노드 하나의 하위 이름들은 정렬 배열에서 연속 구간 [from, to)가 됨
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final Course[] courses;
+        private final String[] names;
+        private final String[] jamo;
+        private final Node root = new Node();
+        private final Map<Integer, int[]> bigrams;
+
+        private Snapshot(Collection<Course> source, long version) {
+            this.version = version;
+            List<Map.Entry<String, Course>> entries = source.stream()
+                    .map(course -> Map.entry(normalize(course.getName()), course))
+                    .sorted(Map.Entry.<String, Course>comparingByKey()
+                            .thenComparing(entry -> entry.getValue().getId()))
+                    .toList();
+
+            int n = entries.size();
+            this.courses = new Course[n];
+            this.names = new String[n];
+            this.jamo = new String[n];
+            Map<Integer, List<Integer>> postings = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                courses[i] = entries.get(i).getValue();
+                names[i] = entries.get(i).getKey();
+                jamo[i] = toJamo(names[i]);
+                insert(names[i], i);
+
+                for (int c = 0; c + 1 < names[i].length(); c++) {
+                    int key = bigram(names[i].charAt(c), names[i].charAt(c + 1));
+                    List<Integer> posting = postings.computeIfAbsent(key, k -> new ArrayList<>());
+                    // 같은 이름에 같은 bigram이 여러 번 나와도 한 번만
+                    if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+                        posting.add(i);
+                    }
+                }
+            }
+
+            this.bigrams = new HashMap<>(postings.size() * 2);
+            postings.forEach((key, posting) ->
+                    bigrams.put(key, posting.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        private int size() {
+            return courses.length;
+        }
+
+        private void insert(String name, int ordinal) {
+            Node node = root;
+            node.cover(ordinal);
+            for (int i = 0; i < name.length(); i++) {
+                node = node.childOrAppend(name.charAt(i));
+                node.cover(ordinal);
+            }
+            node.terminals++;
+        }
+
+        private Node find(String key) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            return node;
+        }
+
+        /**
+         * 같은 ID 장소의 Course 참조만 교체. 이름이 같으므로 트라이에서 찾은 구간 안에 있음
+         */
+        private void replace(Course course) {
+            Node node = find(normalize(course.getName()));
+            if (node == null) {
+                return;
+            }
+            for (int i = node.from; i < node.from + node.terminals; i++) {
+                if (courses[i].getId().equals(course.getId())) {
+                    courses[i] = course;
+                }
+            }
+        }
+
+        private List<Course> slice(int from, int to) {
+            return from < to ? List.of(Arrays.copyOfRange(courses, from, to)) : List.of();
+        }
+    }
+
+    /**
+     * 트라이 노드. 자식은 사전순으로만 추가되므로 정렬된 배열에 뒤로 붙이고 이진 탐색으로 찾음
+     */
+    private static final class Node {
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int from = -1;
+        private int to = -1;
+        private int terminals;
+
+        private void cover(int ordinal) {
+            if (from < 0) {
+                from = ordinal;
+            }
+            to = ordinal + 1;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrAppend(char key) {
+            int last = keys.length - 1;
+            if (last >= 0 && keys[last] == key) {
+                return children[last];
+            }
+
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[last + 1] = key;
+            children[last + 1] = new Node();
+            return children[last + 1];
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.CUK.geulDa.domain.course.index;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 장소의 카테고리/관광 목적 태그 역색인
+ * - 장소마다 정수 번호를 매기고 카테고리별, 태그별로 BitSet을 둠 (번호는 인기도 내림차순이라 비트 순회 = 인기도 순)
+ * - 태그 문자열은 스냅샷을 만들 때 한 번만 분리해 보관
+ * - CourseChangedEvent가 오면 버전만 올리고, 다음 조회 때 스냅샷을 다시 구성 (DB 재조회 없음)
+ * - 대표 이미지만 바뀐 경우는 버전을 올리지 않고 스냅샷의 Course 참조만 바꿈
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoursePurposeIndex {
+
+    public static final String DEFAULT_CATEGORY = "기타";
+
+    private final CourseRepository courseRepository;
+
+    private final Map<Long, Course> courses = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long startTime = System.currentTimeMillis();
+            courses.clear();
+            courseRepository.findByIsHiddenFalse().forEach(this::upsert);
+            version.incrementAndGet();
+
+            Snapshot built = snapshot();
+            loaded = true;
+            log.info("장소 목적 인덱스 적재 완료: {}개 장소, 카테고리 {}개, 태그 {}개 ({}ms)",
+                    built.size(), built.byCategory.size(), built.byTag.size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("장소 목적 인덱스 적재 실패, 태그 문자열 직접 비교", e);
+            loaded = false;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        event.courses().forEach(this::upsert);
+        Snapshot current = snapshot;
+        if (event.imageOnly() && current != null && stillIndexed(event)) {
+            // 카테고리/태그/인기도가 그대로이므로 역색인은 두고 Course 참조만 교체
+            event.courses().forEach(current::replace);
+            return;
+        }
+
+        // 장소를 먼저 반영하고 버전을 올림
+        version.incrementAndGet();
+        log.debug("장소 목적 인덱스 무효화: {}개 장소 변경", event.courses().size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 색인된 장소면 미리 분리해 둔 태그, 아니면 null
+     */
+    public List<String> tagsOf(Course course) {
+        Snapshot current = snapshot();
+        int ordinal = current.indexOf(course);
+        return ordinal >= 0 ? current.tags[ordinal] : null;
+    }
+
+    /**
+     * courses 중 purposeTags 가운데 하나라도 가진 장소를 카테고리별로 최대 limit개씩 (인기도 순)
+     * 색인되지 않은 장소(아직 반영 전인 장소 등)는 태그를 직접 분리해 각 카테고리 뒤에 붙임
+     */
+    public Map<String, List<Course>> groupByCategory(List<Course> courses, Collection<String> purposeTags,
+                                                     Collection<String> categories, int limit) {
+        Snapshot current = snapshot();
+
+        BitSet candidates = new BitSet(current.size());
+        List<Course> unindexed = new ArrayList<>();
+        for (Course course : courses) {
+            int ordinal = current.indexOf(course);
+            if (ordinal >= 0) {
+                candidates.set(ordinal);
+            } else {
+                unindexed.add(course);
+            }
+        }
+
+        BitSet purposeMatches = new BitSet(current.size());
+        for (String tag : purposeTags) {
+            BitSet tagged = current.byTag.get(tag);
+            if (tagged != null) {
+                purposeMatches.or(tagged);
+            }
+        }
+        candidates.and(purposeMatches);
+
+        Map<String, List<Course>> result = new LinkedHashMap<>();
+        for (String category : categories) {
+            List<Course> matched = new ArrayList<>(limit);
+
+            BitSet inCategory = current.byCategory.get(category);
+            if (inCategory != null) {
+                BitSet hits = (BitSet) candidates.clone();
+                hits.and(inCategory);
+                for (int i = hits.nextSetBit(0); i >= 0 && matched.size() < limit; i = hits.nextSetBit(i + 1)) {
+                    matched.add(current.courses[i]);
+                }
+            }
+
+            for (Course course : unindexed) {
+                if (matched.size() >= limit) {
+                    break;
+                }
+                if (categoryOf(course).equals(category)
+                        && parseTags(course.getTourPurposeTags()).stream().anyMatch(purposeTags::contains)) {
+                    matched.add(course);
+                }
+            }
+            result.put(category, matched);
+        }
+        return result;
+    }
+
+    /**
+     * "데이트,가족" → [데이트, 가족] (앞뒤 공백 제거, 빈 항목 제외)
+     */
+    public static List<String> parseTags(String tourPurposeTags) {
+        if (tourPurposeTags == null || tourPurposeTags.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tags = new ArrayList<>();
+        for (String tag : tourPurposeTags.split(",")) {
+            String trimmed = tag.strip();
+            if (!trimmed.isEmpty()) {
+                tags.add(trimmed);
+            }
+        }
+        return List.copyOf(tags);
+    }
+
+    private static String categoryOf(Course course) {
+        return course.getCategory() != null ? course.getCategory() : DEFAULT_CATEGORY;
+    }
+
+    /**
+     * 버전이 뒤처진 스냅샷은 버리고 다시 구성 (구성 중에 바뀐 장소는 다음 조회 때 반영)
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            long buildVersion = version.get();
+            current = snapshot;
+            if (current == null || current.version != buildVersion) {
+                current = new Snapshot(courses.values(), buildVersion);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean stillIndexed(CourseChangedEvent event) {
+        return event.courses().stream()
+                .allMatch(course -> course.getId() != null && courses.containsKey(course.getId()));
+    }
+
+    private void upsert(Course course) {
+        if (course.getId() == null) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(course.getIsHidden()) || course.isDeleted()) {
+            courses.remove(course.getId());
+            return;
+        }
+        courses.put(course.getId(), course);
+    }
+
+    /**
+     * 특정 시점의 장소 목록으로 만든 불변 역색인
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final Course[] courses;
+        private final Map<Long, Integer> indexById;
+        private final List<String>[] tags;
+        private final Map<String, BitSet> byCategory = new HashMap<>();
+        private final Map<String, BitSet> byTag = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private Snapshot(Collection<Course> source, long version) {
+            this.version = version;
+            this.courses = source.stream()
+                    .sorted(Comparator.comparing(Course::getPopularityScore,
+                                    Comparator.nullsLast(Comparator.reverseOrder()))
+                            .thenComparing(Course::getId))
+                    .toArray(Course[]::new);
+
+            int n = courses.length;
+            this.indexById = new HashMap<>(n * 2);
+            this.tags = new List[n];
+            for (int i = 0; i < n; i++) {
+                Course course = courses[i];
+                indexById.put(course.getId(), i);
+                byCategory.computeIfAbsent(categoryOf(course), key -> new BitSet(n)).set(i);
+
+                tags[i] = parseTags(course.getTourPurposeTags());
+                for (String tag : tags[i]) {
+                    byTag.computeIfAbsent(tag, key -> new BitSet(n)).set(i);
+                }
+            }
+        }
+
+        private int size() {
+            return courses.length;
+        }
+
+        private void replace(Course course) {
+            int ordinal = indexOf(course);
+            if (ordinal >= 0) {
+                courses[ordinal] = course;
+            }
+        }
+
+        private int indexOf(Course course) {
+            if (course.getId() == null) {
+                return -1;
+            }
+            Integer index = indexById.get(course.getId());
+            return index != null ? index : -1;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.CUK.geulDa.domain.course.index;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import com.CUK.geulDa.global.util.GpsUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공개(Course.isHidden = false) 장소의 격자 기반 메모리 공간 인덱스
+ * - 위/경도를 CELL_SIZE_DEGREES 단위 격자로 나누어 보관
+ * - 반경 검색은 경계 박스에 걸치는 격자만 훑은 뒤 Haversine으로 정확히 거름
+ * - 서버 시작 시 1회 적재, 이후 CourseChangedEvent로 변경분만 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CourseSpatialIndex {
+
+    // 약 1.1km (위도 기준) 격자
+    private static final double CELL_SIZE_DEGREES = 0.01;
+
+    private final CourseRepository courseRepository;
+
+    private final Map<Long, Map<Long, Course>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Long> cellKeyByCourseId = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long startTime = System.currentTimeMillis();
+            List<Course> courses = courseRepository.findByIsHiddenFalse();
+
+            cells.clear();
+            cellKeyByCourseId.clear();
+            courses.forEach(this::upsert);
+
+            loaded = true;
+            log.info("장소 공간 인덱스 적재 완료: {}개 장소, {}개 격자 ({}ms)",
+                    cellKeyByCourseId.size(), cells.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("장소 공간 인덱스 적재 실패, DB 반경 검색 사용", e);
+            loaded = false;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        event.courses().forEach(this::upsert);
+        log.debug("장소 공간 인덱스 갱신: {}개 장소", event.courses().size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return cellKeyByCourseId.size();
+    }
+
+    /**
+     * 반경 내 공개 장소를 인기도 내림차순으로 반환
+     */
+    public List<Course> findWithinRadius(double lat, double lon, double radiusKm) {
+        double radiusMeters = radiusKm * 1000;
+        GpsUtils.BoundingBox box = GpsUtils.boundingBox(lat, lon, radiusMeters);
+
+        int minLatCell = toCell(box.minLat());
+        int maxLatCell = toCell(box.maxLat());
+        int minLonCell = toCell(box.minLon());
+        int maxLonCell = toCell(box.maxLon());
+
+        List<Course> result = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                Map<Long, Course> cell = cells.get(cellKey(latCell, lonCell));
+                if (cell == null) {
+                    continue;
+                }
+
+                for (Course course : cell.values()) {
+                    double courseLat = course.getLatitude();
+                    double courseLon = course.getLongitude();
+                    if (box.contains(courseLat, courseLon)
+                            && GpsUtils.isWithinRadius(lat, lon, courseLat, courseLon, radiusMeters)) {
+                        result.add(course);
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparing(Course::getPopularityScore,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return result;
+    }
+
+    private void upsert(Course course) {
+        if (course.getId() == null) {
+            return;
+        }
+
+        remove(course.getId());
+
+        if (Boolean.TRUE.equals(course.getIsHidden()) || course.isDeleted()
+                || course.getLatitude() == null || course.getLongitude() == null) {
+            return;
+        }
+
+        long key = cellKey(toCell(course.getLatitude()), toCell(course.getLongitude()));
+        cells.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(course.getId(), course);
+        cellKeyByCourseId.put(course.getId(), key);
+    }
+
+    private void remove(Long courseId) {
+        Long previousKey = cellKeyByCourseId.remove(courseId);
+        if (previousKey == null) {
+            return;
+        }
+
+        cells.computeIfPresent(previousKey, (k, cell) -> {
+            cell.remove(courseId);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private static int toCell(double degrees) {
+        return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
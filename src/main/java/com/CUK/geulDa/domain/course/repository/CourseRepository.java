@@ -1,12 +1,14 @@
 package com.CUK.geulDa.domain.course.repository;
 
 import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.global.util.GpsUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -23,8 +25,59 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
                                   @Param("lon") double lon,
                                   @Param("radiusKm") double radiusKm);
 
+    /**
+     * 경계 박스로 먼저 좁힌 뒤 박스 안의 행만 정확한 거리 계산/인기도 정렬
+     * (is_hidden, latitude, longitude) 복합 인덱스를 탈 수 있도록 BETWEEN 조건을 앞에 둠
+     */
+    @Query("""
+        SELECT c FROM Course c
+        WHERE c.isHidden = false
+        AND c.latitude BETWEEN :minLat AND :maxLat
+        AND c.longitude BETWEEN :minLon AND :maxLon
+        AND (6371 * acos(cos(radians(:lat)) * cos(radians(c.latitude)) *
+             cos(radians(c.longitude) - radians(:lon)) +
+             sin(radians(:lat)) * sin(radians(c.latitude)))) <= :radiusKm
+        ORDER BY c.popularityScore DESC
+        """)
+    List<Course> findWithinBoundingBox(@Param("lat") double lat,
+                                       @Param("lon") double lon,
+                                       @Param("radiusKm") double radiusKm,
+                                       @Param("minLat") double minLat,
+                                       @Param("maxLat") double maxLat,
+                                       @Param("minLon") double minLon,
+                                       @Param("maxLon") double maxLon);
+
+    default List<Course> findWithinRadiusBounded(double lat, double lon, double radiusKm) {
+        GpsUtils.BoundingBox box = GpsUtils.boundingBox(lat, lon, radiusKm * 1000);
+        return findWithinBoundingBox(lat, lon, radiusKm,
+                box.minLat(), box.maxLat(), box.minLon(), box.maxLon());
+    }
+
     List<Course> findByNameContainingAndIsHiddenFalse(String keyword);
 
+    List<Course> findByNameAndIsHiddenFalse(String name);
+
+    List<Course> findByDedupKeyIn(Collection<String> dedupKeys);
+
+    List<Course> findByDedupKeyIsNullOrderByIdAsc();
+
+    /**
+     * ngram FULLTEXT 인덱스(ft_course_name_description_category) 기반 키워드 검색
+     * 이름에 키워드가 그대로 들어간 장소 → FULLTEXT 관련도 → 인기도 순
+     * 네이티브 쿼리라 @SQLRestriction이 적용되지 않으므로 deleted_at 조건을 직접 둠
+     */
+    @Query(value = """
+        SELECT * FROM course c
+        WHERE MATCH(c.name, c.description, c.category) AGAINST (:keyword IN NATURAL LANGUAGE MODE)
+        AND c.is_hidden = false
+        AND c.deleted_at IS NULL
+        ORDER BY (c.name LIKE CONCAT('%', :keyword, '%')) DESC,
+                 MATCH(c.name, c.description, c.category) AGAINST (:keyword IN NATURAL LANGUAGE MODE) DESC,
+                 c.popularity_score DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Course> searchByFullText(@Param("keyword") String keyword, @Param("limit") int limit);
+
     List<Course> findByIsHiddenFalse();
 
     Page<Course> findByIsHiddenFalse(Pageable pageable);
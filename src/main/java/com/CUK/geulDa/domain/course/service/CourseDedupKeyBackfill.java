@@ -0,0 +1,32 @@
+package com.CUK.geulDa.domain.course.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 dedup_key가 비어 있는 장소(V3 마이그레이션 이전 행)에 키를 채움
+ * 실패해도 기동은 계속하고, 키가 없는 장소는 다음 기동 때 다시 시도
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CourseDedupKeyBackfill {
+
+    private final CourseService courseService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            CourseService.DedupKeyBackfillResult result = courseService.fillMissingDedupKeys();
+            if (result.filled() > 0 || result.duplicates() > 0) {
+                log.info("장소 중복 판정 키 채움: {}개 (중복이라 비워 둔 장소 {}개)",
+                        result.filled(), result.duplicates());
+            }
+        } catch (Exception e) {
+            log.error("⚠️ 장소 중복 판정 키 채우기 실패, 키가 없는 장소는 중복 검사에서 제외됨", e);
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.CUK.geulDa.domain.course.service;
 
 import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.index.CourseNameIndex;
+import com.CUK.geulDa.domain.course.index.CoursePurposeIndex;
+import com.CUK.geulDa.domain.course.index.CourseSpatialIndex;
 import com.CUK.geulDa.domain.course.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -13,26 +22,90 @@ import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class CourseService {
 
+    // 카테고리별 샘플링 후보 수
+    private static final int CANDIDATES_PER_CATEGORY = 10;
+
+    // MySQL ngram 파서 기본 토큰 길이 (ngram_token_size). 이보다 짧은 키워드는 FULLTEXT로 찾을 수 없음
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    // 일괄 저장 중 유니크 키 충돌 시 재조회 + 재시도 횟수
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
     private final CourseRepository courseRepository;
+    private final CourseSpatialIndex courseSpatialIndex;
+    private final CourseNameIndex courseNameIndex;
+    private final CoursePurposeIndex coursePurposeIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // fulltext: ngram FULLTEXT 인덱스 검색 (V2 마이그레이션 필요), like: 이름 LIKE 검색
+    @Value("${geulda.course.keyword-search.mode:like}")
+    private String keywordSearchMode;
 
     public List<String> getTourPurposeTags(Course course) {
-        if (course.getTourPurposeTags() == null || course.getTourPurposeTags().isBlank()) {
-            return List.of();
-        }
-        return List.of(course.getTourPurposeTags().split(","));
+        // 색인된 장소는 적재 시 한 번 분리해 둔 태그 재사용
+        List<String> indexed = coursePurposeIndex.isLoaded() ? coursePurposeIndex.tagsOf(course) : null;
+        return indexed != null ? indexed : CoursePurposeIndex.parseTags(course.getTourPurposeTags());
     }
 
     public List<Course> findPlacesWithinRadius(double lat, double lon, double radius) {
-        return courseRepository.findWithinRadius(lat, lon, radius);
+        // 메모리 인덱스 적재 전(또는 적재 실패 시)에만 DB 반경 검색 사용
+        if (courseSpatialIndex.isLoaded()) {
+            return courseSpatialIndex.findWithinRadius(lat, lon, radius);
+        }
+        return courseRepository.findWithinRadiusBounded(lat, lon, radius);
     }
 
     public List<Course> findByKeyword(String keyword) {
+        // 메모리 이름 인덱스 적재 전(또는 적재 실패 시)에만 DB LIKE 검색 사용
+        if (courseNameIndex.isLoaded()) {
+            return courseNameIndex.findContaining(keyword);
+        }
         return courseRepository.findByNameContainingAndIsHiddenFalse(keyword);
     }
 
+    /**
+     * 이름/설명/카테고리 키워드 검색 (관련도 순 최대 limit개)
+     * fulltext 모드에서 인덱스가 없거나 검색에 실패하면 이름 검색으로 폴백.
+     * 실패한 네이티브 쿼리가 호출자 트랜잭션을 rollback-only로 만들지 않도록 트랜잭션 밖에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Course> searchByKeyword(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+
+        String trimmed = keyword.strip();
+        if ("fulltext".equals(keywordSearchMode) && trimmed.length() >= NGRAM_TOKEN_SIZE) {
+            try {
+                return courseRepository.searchByFullText(trimmed, limit);
+            } catch (Exception e) {
+                log.warn("⚠️ FULLTEXT 검색 실패, 이름 검색으로 폴백 (V2 마이그레이션 적용 여부 확인): {}", e.getMessage());
+            }
+        }
+        return findByKeyword(trimmed).stream().limit(limit).toList();
+    }
+
+    /**
+     * 이름이 같은 공개 장소 (인덱스 사용 시 공백/대소문자 차이 무시)
+     */
+    public List<Course> findByName(String name) {
+        if (courseNameIndex.isLoaded()) {
+            return courseNameIndex.findExact(name);
+        }
+        return courseRepository.findByNameAndIsHiddenFalse(name);
+    }
+
+    /**
+     * 오타를 허용한 이름 검색 (자모 편집 거리). 이름 인덱스가 없으면 빈 목록
+     */
+    public List<Course> findBySimilarName(String name, int limit) {
+        return courseNameIndex.isLoaded() ? courseNameIndex.findSimilar(name, limit) : List.of();
+    }
+
     public List<Course> filterByPurpose(List<Course> courses, String purpose) {
         // 영어 → 한글 매핑
         String koreanPurpose = switch (purpose) {
@@ -51,27 +124,41 @@ public class CourseService {
         List<Course> result = new ArrayList<>(18); // 6 카테고리 × 3개 = 18
         Random random = new Random();
 
-        // 카테고리별로 직접 필터링 (Map 생성 없이)
+        // 목적 태그 ∩ 카테고리 역색인으로 카테고리별 후보를 한 번에 구함 (인덱스 적재 전에는 직접 비교)
+        Map<String, List<Course>> candidatesByCategory = coursePurposeIndex.isLoaded()
+                // 매핑되지 않은 목적("healing" 등)은 purpose == koreanPurpose 이므로 중복을 허용하는 Set으로
+                ? coursePurposeIndex.groupByCategory(courses, new HashSet<>(List.of(purpose, koreanPurpose)),
+                        categoryPriority, CANDIDATES_PER_CATEGORY)
+                : groupByCategory(courses, purpose, koreanPurpose, categoryPriority);
+
         for (String category : categoryPriority) {
-            List<Course> categoryCourses = new ArrayList<>(10);
+            List<Course> sampled = weightedRandomSample(candidatesByCategory.get(category), 3, random);
+            result.addAll(sampled);
+        }
+
+        return result;
+    }
+
+    private Map<String, List<Course>> groupByCategory(List<Course> courses, String purpose, String koreanPurpose,
+                                                      List<String> categories) {
+        Map<String, List<Course>> result = new LinkedHashMap<>();
+        for (String category : categories) {
+            List<Course> categoryCourses = new ArrayList<>(CANDIDATES_PER_CATEGORY);
 
             for (Course course : courses) {
                 if (matchesPurposeAndCategory(course, purpose, koreanPurpose, category)) {
                     categoryCourses.add(course);
-                    if (categoryCourses.size() >= 10) break; // 조기 종료
+                    if (categoryCourses.size() >= CANDIDATES_PER_CATEGORY) break; // 조기 종료
                 }
             }
-
-            List<Course> sampled = weightedRandomSample(categoryCourses, 3, random);
-            result.addAll(sampled);
+            result.put(category, categoryCourses);
         }
-
         return result;
     }
 
     private boolean matchesPurposeAndCategory(Course course, String purpose, String koreanPurpose, String category) {
         // 카테고리 체크
-        String courseCategory = course.getCategory() != null ? course.getCategory() : "기타";
+        String courseCategory = course.getCategory() != null ? course.getCategory() : CoursePurposeIndex.DEFAULT_CATEGORY;
         if (!courseCategory.equals(category)) {
             return false;
         }
@@ -82,10 +169,11 @@ public class CourseService {
     }
 
     /**
-     * 인기도 기반 가중치 랜덤 샘플링
+     * 인기도 기반 가중치 랜덤 샘플링 (비복원)
      * 인기도가 높을수록 선택될 확률이 높지만, 매번 다른 결과 반환
+     * 누적 가중치를 펜윅 트리로 두고 이진 탐색으로 뽑은 뒤 뽑힌 장소의 가중치만 0으로 갱신 (뽑을 때마다 O(log n))
      */
-    private List<Course> weightedRandomSample(List<Course> courses, int count, Random random) {
+    static List<Course> weightedRandomSample(List<Course> courses, int count, Random random) {
         if (courses.isEmpty()) {
             return List.of();
         }
@@ -94,48 +182,59 @@ public class CourseService {
             return new ArrayList<>(courses);
         }
 
-        // 가중치 계산 (인기도를 확률로 변환)
-        List<WeightedCourse> weighted = courses.stream()
-                .map(course -> {
-                    int score = course.getPopularityScore() != null ? course.getPopularityScore() : 50;
-                    // 인기도 40점 이하는 최소 가중치, 70점 이상은 높은 가중치
-                    double weight = score < 40 ? 0.5 : (score >= 70 ? 3.0 : 1.0);
-                    return new WeightedCourse(course, weight);
-                })
-                .toList();
-
-        double totalWeight = weighted.stream().mapToDouble(w -> w.weight).sum();
-
-        // 가중치 기반 랜덤 샘플링
-        List<Course> result = new ArrayList<>();
-        List<WeightedCourse> remaining = new ArrayList<>(weighted);
-
-        for (int i = 0; i < count && !remaining.isEmpty(); i++) {
-            double randomValue = random.nextDouble() * totalWeight;
-            double cumulative = 0.0;
-
-            WeightedCourse selected = null;
-            for (WeightedCourse wp : remaining) {
-                cumulative += wp.weight;
-                if (randomValue <= cumulative) {
-                    selected = wp;
-                    break;
-                }
+        int n = courses.size();
+        double[] weights = new double[n];
+        double[] tree = new double[n + 1];
+        double totalWeight = 0.0;
+        for (int i = 0; i < n; i++) {
+            int score = courses.get(i).getPopularityScore() != null ? courses.get(i).getPopularityScore() : 50;
+            // 인기도 40점 이하는 최소 가중치, 70점 이상은 높은 가중치
+            weights[i] = score < 40 ? 0.5 : (score >= 70 ? 3.0 : 1.0);
+            totalWeight += weights[i];
+            for (int node = i + 1; node <= n; node += node & -node) {
+                tree[node] += weights[i];
             }
+        }
 
-            if (selected == null) {
-                selected = remaining.get(remaining.size() - 1);
+        int highestBit = Integer.highestOneBit(n);
+        List<Course> result = new ArrayList<>(count);
+        for (int picked = 0; picked < count; picked++) {
+            double target = random.nextDouble() * totalWeight;
+
+            // 누적 가중치가 target을 넘는 첫 위치 탐색
+            int position = 0;
+            for (int step = highestBit; step > 0; step >>= 1) {
+                int next = position + step;
+                if (next <= n && tree[next] <= target) {
+                    position = next;
+                    target -= tree[next];
+                }
+            }
+            // 부동소수점 오차로 끝을 넘거나 이미 뽑힌(가중치 0) 자리에 걸리면 앞쪽의 남은 장소로
+            int selected = Math.min(position, n - 1);
+            while (weights[selected] == 0.0) {
+                selected = selected > 0 ? selected - 1 : nextRemaining(weights);
             }
 
-            result.add(selected.course);
-            remaining.remove(selected);
-            totalWeight -= selected.weight;
+            result.add(courses.get(selected));
+            totalWeight -= weights[selected];
+            for (int node = selected + 1; node <= n; node += node & -node) {
+                tree[node] -= weights[selected];
+            }
+            weights[selected] = 0.0;
         }
 
         return result;
     }
 
-    private record WeightedCourse(Course course, double weight) {}
+    private static int nextRemaining(double[] weights) {
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0.0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("남은 장소가 없습니다");
+    }
 
     public List<Course> findByIds(List<Long> courseIds) {
         return courseRepository.findAllById(courseIds);
@@ -162,51 +261,112 @@ public class CourseService {
         } while (coursePage.hasNext());
     }
 
-    @Transactional
-    public Course saveCourse(Course course) {
-        // 중복 체크 (이름 + 주소)
-        List<Course> existing = courseRepository.findByNameContainingAndIsHiddenFalse(course.getName());
-        for (Course existingCourse : existing) {
-            if (existingCourse.getAddress() != null &&
-                existingCourse.getAddress().equals(course.getAddress())) {
-                return existingCourse;  // 이미 존재하면 기존 장소 반환
+    /**
+     * 한 건 upsert (saveAllCourses와 같은 규칙)
+     * 이미 있는 장소면 기존 장소, 숨김 처리된 장소와 겹치면 저장하지 않고 empty
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<Course> saveCourse(Course course) {
+        return saveAllCourses(List.of(course)).stream().findFirst();
+    }
+
+    /**
+     * 이름+주소 기준 일괄 upsert
+     * - 기존 장소는 dedup_key IN 조회 1회로 확인, 새 장소는 JDBC 배치 INSERT (ID는 course_seq에서 미리 할당)
+     * - 조회와 INSERT 사이에 다른 요청이 같은 장소를 먼저 저장하면 유니크 키 위반으로 배치 전체가 롤백되므로,
+     *   다시 조회해 먼저 저장된 장소를 결과에 합치고 나머지만 새 엔티티로 재시도
+     * - 입력 순서대로 반환하며 같은 요청 안의 중복은 하나로 합침
+     * - 이미 숨김 처리된 장소와 겹치는 장소는 저장도 반환도 하지 않음
+     * 실패한 배치가 호출자 트랜잭션을 rollback-only로 만들지 않고, 재조회가 새 스냅샷을 보도록 트랜잭션 밖에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Course> saveAllCourses(List<Course> courses) {
+        Map<String, Course> incomingByKey = new LinkedHashMap<>();
+        for (Course course : courses) {
+            incomingByKey.putIfAbsent(course.getDedupKey(), course);
+        }
+        if (incomingByKey.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Course> existingByKey = new HashMap<>();
+        Map<String, Course> savedByKey = new HashMap<>();
+        Map<String, Course> pendingByKey = new LinkedHashMap<>(incomingByKey);
+
+        for (int attempt = 1; !pendingByKey.isEmpty(); attempt++) {
+            for (Course existing : courseRepository.findByDedupKeyIn(pendingByKey.keySet())) {
+                existingByKey.put(existing.getDedupKey(), existing);
+                pendingByKey.remove(existing.getDedupKey());
+            }
+            if (pendingByKey.isEmpty()) {
+                break;
+            }
+
+            try {
+                List<Course> saved = courseRepository.saveAll(pendingByKey.values());
+                saved.forEach(course -> savedByKey.put(course.getDedupKey(), course));
+                eventPublisher.publishEvent(new CourseChangedEvent(saved));
+                break;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("⚠️ 장소 동시 저장 충돌, 다시 조회 후 재시도 ({}/{}): {}개",
+                        attempt, MAX_SAVE_ATTEMPTS, pendingByKey.size());
+                // 롤백된 엔티티는 이미 시퀀스 ID를 받아 다시 persist할 수 없으므로 사본으로 교체
+                pendingByKey.replaceAll((key, course) -> course.unsavedCopy());
             }
         }
 
-        // 새 장소 저장
-        return courseRepository.save(course);
+        List<Course> finalCourses = new ArrayList<>(incomingByKey.size());
+        for (String key : incomingByKey.keySet()) {
+            Course existing = existingByKey.get(key);
+            if (existing == null) {
+                finalCourses.add(savedByKey.get(key));
+            } else if (!Boolean.TRUE.equals(existing.getIsHidden())) {
+                finalCourses.add(existing);
+            }
+        }
+        return finalCourses;
     }
 
-    @Transactional
-    public List<Course> saveAllCourses(List<Course> courses) {
-        List<Course> coursesToSave = new ArrayList<>();
-        List<Course> finalCourses = new ArrayList<>();
+    public record DedupKeyBackfillResult(int filled, int duplicates) {}
 
-        for (Course course : courses) {
-            // 중복 체크 (이름 + 주소)
-            List<Course> existing = courseRepository.findByNameContainingAndIsHiddenFalse(course.getName());
-            boolean isDuplicate = existing.stream()
-                    .anyMatch(existingCourse -> existingCourse.getAddress() != null &&
-                            existingCourse.getAddress().equals(course.getAddress()));
-
-            if (isDuplicate) {
-                finalCourses.add(existing.get(0));
-            } else {
-                coursesToSave.add(course);
-            }
+    /**
+     * dedup_key가 빈 장소에 Course.dedupKey()로 키를 채움 (SQL로 계산하면 정규화 규칙이 어긋날 수 있음)
+     * 같은 키를 가진 장소가 여럿이면 이미 키를 가진 장소, 없으면 ID가 가장 작은 장소만 키를 갖고 나머지는 비워 둠
+     */
+    @Transactional
+    public DedupKeyBackfillResult fillMissingDedupKeys() {
+        List<Course> missing = courseRepository.findByDedupKeyIsNullOrderByIdAsc();
+        if (missing.isEmpty()) {
+            return new DedupKeyBackfillResult(0, 0);
         }
 
-        if (!coursesToSave.isEmpty()) {
-            finalCourses.addAll(courseRepository.saveAll(coursesToSave));
+        Map<String, Course> firstByKey = new LinkedHashMap<>();
+        for (Course course : missing) {
+            firstByKey.putIfAbsent(Course.dedupKey(course.getName(), course.getAddress()), course);
         }
 
-        return finalCourses;
+        Set<String> takenKeys = new HashSet<>();
+        courseRepository.findByDedupKeyIn(firstByKey.keySet())
+                .forEach(course -> takenKeys.add(course.getDedupKey()));
+
+        int filled = 0;
+        for (Map.Entry<String, Course> entry : firstByKey.entrySet()) {
+            if (!takenKeys.contains(entry.getKey())) {
+                entry.getValue().fillDedupKey();
+                filled++;
+            }
+        }
+        return new DedupKeyBackfillResult(filled, missing.size() - filled);
     }
 
     @Transactional
     public void updatePlaceImage(Long courseId, String imageUrl) {
         courseRepository.findById(courseId).ifPresent(course -> {
             course.updatePlaceImage(imageUrl);
+            eventPublisher.publishEvent(CourseChangedEvent.imageUpdated(course));
         });
     }
 }
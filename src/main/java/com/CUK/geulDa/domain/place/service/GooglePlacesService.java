@@ -12,15 +12,18 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 
 @Service
 @Slf4j
@@ -38,7 +41,14 @@ public class GooglePlacesService {
     private static final String PLACES_DETAILS_URL = "https://places.googleapis.com/v1/";
 
     public GooglePlacesService() {
-        this.restTemplate = new RestTemplate();
+        // JDK HttpClient 기반 (가상 스레드에서 블로킹 I/O 시 캐리어 스레드를 점유하지 않음)
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(10));
+        this.restTemplate = new RestTemplate(requestFactory);
         this.objectMapper = new ObjectMapper();
 
         // Rate Limiting: 분당 최대 50회 API 호출
@@ -46,6 +46,8 @@ public enum ErrorCode {
     AI_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "E603", "AI 요청 형식이 올바르지 않습니다."),
     AI_NO_PLACES_FOUND(HttpStatus.NOT_FOUND, "E604", "검색된 장소가 없습니다."),
     VECTOR_STORE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E605", "벡터 스토어 처리 중 오류가 발생했습니다."),
+    VECTOR_STORE_SYNC_IN_PROGRESS(HttpStatus.CONFLICT, "E606", "벡터 스토어 동기화가 이미 진행 중입니다."),
+    AI_RESPONSE_PARSE_ERROR(HttpStatus.BAD_GATEWAY, "E607", "AI 응답 형식이 올바르지 않습니다."),
 
     // Google Places API 오류 (E700~E799)
     GOOGLE_PLACES_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "E700", "Google Places API 할당량이 초과되었습니다."),
@@ -3,29 +3,63 @@ package com.CUK.geulDa.global.config;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * 비동기 실행기 설정
+ * - 작업 대부분이 임베딩/LLM API 응답 대기라 가상 스레드로 실행하고, 동시 실행 수만 제한
+ * - 제한을 넘으면 큐에 쌓지 않고 제출한 쪽이 자리가 날 때까지 대기
+ */
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final long TERMINATION_TIMEOUT_MS = 60_000;
+
     @Bean(name = "vectorStoreExecutor")
     public Executor vectorStoreExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("vector-store-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
-        executor.initialize();
-        log.info("Vector Store Executor 초기화 완료 - core: {}, max: {}, queue: {}",
-                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+        SimpleAsyncTaskExecutor executor = virtualThreadExecutor("vector-store-", 4);
+        log.info("Vector Store Executor 초기화 완료 - virtual threads, concurrency: {}",
+                executor.getConcurrencyLimit());
+
+        return executor;
+    }
+
+    /**
+     * 임베딩 배치 요청 전용 (동시 진행 배치 수는 EmbeddingPipeline에서 제한)
+     */
+    @Bean(name = "embeddingExecutor")
+    public Executor embeddingExecutor() {
+        SimpleAsyncTaskExecutor executor = virtualThreadExecutor("embedding-", 4);
+        log.info("Embedding Executor 초기화 완료 - virtual threads, concurrency: {}",
+                executor.getConcurrencyLimit());
+
+        return executor;
+    }
+
+    /**
+     * 코스 추천 파이프라인 단계 병렬 실행용 (후보 검색, 필수 방문지 탐색 등 LLM 대기 위주)
+     * 단계끼리 서로의 결과를 기다리므로 동시 실행 수를 제한하면 교착될 수 있어 제한하지 않음
+     * (전체 동시성은 요청 단위에서 제한됨)
+     */
+    @Bean(name = "recommendExecutor")
+    public Executor recommendExecutor() {
+        SimpleAsyncTaskExecutor executor = virtualThreadExecutor(
+                "recommend-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        log.info("Recommend Executor 초기화 완료 - virtual threads, concurrency: unbounded");
+
+        return executor;
+    }
 
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(TERMINATION_TIMEOUT_MS);
         return executor;
     }
 }
@@ -40,4 +40,29 @@ public class GpsUtils {
         double distance = calculateDistance(lat1, lon1, lat2, lon2);
         return distance <= radiusMeters;
     }
+
+    /**
+     * 중심 좌표에서 반경을 감싸는 위/경도 경계 박스를 계산합니다.
+     * 정확한 거리 계산 전에 후보를 좁히는 사전 필터 용도입니다.
+     *
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param radiusMeters 반경 (미터)
+     * @return 반경을 포함하는 경계 박스
+     */
+    public static BoundingBox boundingBox(double lat, double lon, double radiusMeters) {
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cosLat = Math.cos(Math.toRadians(lat));
+        // 극지방 근처에서는 경도 범위가 무한대로 커지므로 전체 경도를 허용
+        double lonDelta = cosLat < 1e-6 ? 180.0 : Math.min(180.0, latDelta / cosLat);
+
+        return new BoundingBox(lat - latDelta, lat + latDelta, lon - lonDelta, lon + lonDelta);
+    }
+
+    public record BoundingBox(double minLat, double maxLat, double minLon, double maxLon) {
+
+        public boolean contains(double lat, double lon) {
+            return lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon;
+        }
+    }
 }
\ No newline at end of file
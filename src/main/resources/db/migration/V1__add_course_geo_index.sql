@@ -0,0 +1,3 @@
+-- 반경 검색 경계 박스 사전 필터용 복합 인덱스
+-- prod는 ddl-auto: validate 이므로 배포 전 수동 적용 필요
+CREATE INDEX idx_course_hidden_lat_lon ON course (is_hidden, latitude, longitude);
@@ -0,0 +1,4 @@
+-- 키워드 검색용 ngram FULLTEXT 인덱스 (한글은 공백 단위 토큰화가 안 되므로 ngram 파서 사용, 기본 토큰 길이 2)
+-- prod는 ddl-auto: validate 이므로 배포 전 수동 적용 필요
+ALTER TABLE course
+    ADD FULLTEXT INDEX ft_course_name_description_category (name, description, category) WITH PARSER ngram;
@@ -0,0 +1,14 @@
+-- 장소 중복 판정 키(이름+주소) + 배치 INSERT용 테이블 시퀀스
+-- prod는 ddl-auto: validate 이므로 배포 전 수동 적용 필요
+-- local(ddl-auto: update)도 애플리케이션 기동 전에 적용해야 함 (course_seq가 1부터 생성되면 기존 ID와 충돌)
+
+ALTER TABLE course ADD COLUMN dedup_key VARCHAR(64) NULL;
+
+-- 기존 행의 키는 SQL로 계산하지 않음 (REGEXP_REPLACE/LOWER는 Java의 공백·소문자 규칙과 미묘하게 다름)
+-- 애플리케이션 기동 시 CourseDedupKeyBackfill이 Course.dedupKey()로 채우고, 중복 행은 가장 먼저 등록된 것만 키를 가짐 (CourseService.fillMissingDedupKeys)
+
+CREATE UNIQUE INDEX uk_course_dedup_key ON course (dedup_key);
+
+-- Hibernate 테이블 시퀀스 (allocationSize 50). 기존 최대 ID + 한 블록 이후부터 할당
+CREATE TABLE course_seq (next_val BIGINT);
+INSERT INTO course_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM course;
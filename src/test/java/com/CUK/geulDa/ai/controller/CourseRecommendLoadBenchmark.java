@@ -0,0 +1,213 @@
+package com.CUK.geulDa.ai.controller;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /api/courses/recommend 동시 처리량: Tomcat 플랫폼 스레드 30개(prod server.tomcat.threads.max) vs 가상 스레드
+ * - 추천 요청은 거의 전부 LLM 응답 대기이므로, 지연을 넣은 스텁 LLM을 호출하는 서블릿으로 대신함
+ * - 서블릿의 외부 호출은 GooglePlacesService와 같은 JDK HttpClient 기반 RestTemplate
+ * - BENCHMARK_CONCURRENCY (기본 300), BENCHMARK_LLM_LATENCY_MS (기본 1000, Gemini 응답 시간 수준)
+ */
+@Tag("benchmark")
+class CourseRecommendLoadBenchmark {
+
+    private static final String PATH = "/api/courses/recommend";
+    private static final int PLATFORM_MAX_THREADS = 30;
+
+    private static final int CONCURRENCY =
+            Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_CONCURRENCY", "300"));
+    private static final int LLM_LATENCY_MS =
+            Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_LLM_LATENCY_MS", "1000"));
+
+    private static HttpServer stubLlm;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void startStubLlm() throws IOException {
+        stubLlm = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENCY);
+        stubLlm.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubLlm.createContext("/generate", exchange -> {
+            try {
+                Thread.sleep(LLM_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"text\":\"추천 코스\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubLlm.start();
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @AfterAll
+    static void stopStubLlm() {
+        stubLlm.stop(0);
+    }
+
+    @Test
+    @DisplayName("LLM 대기 중심 요청: 플랫폼 스레드 30개 vs 가상 스레드")
+    void recommendThroughput() throws Exception {
+        LoadResult platform = runLoad(false);
+        LoadResult virtual = runLoad(true);
+
+        System.out.println(platform);
+        System.out.println(virtual);
+        System.out.printf(Locale.ROOT, "[benchmark] virtual threads: %.1fx throughput%n",
+                virtual.throughput() / platform.throughput());
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+    }
+
+    private static LoadResult runLoad(boolean virtualThreads) throws Exception {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        if (virtualThreads) {
+            // spring.threads.virtual.enabled=true 일 때 Spring Boot가 적용하는 것과 같은 실행기
+            factory.addProtocolHandlerCustomizers(handler ->
+                    handler.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+        } else {
+            factory.addConnectorCustomizers(connector ->
+                    ((AbstractProtocol<?>) connector.getProtocolHandler()).setMaxThreads(PLATFORM_MAX_THREADS));
+        }
+
+        RestTemplate restTemplate = llmRestTemplate();
+        String llmUrl = "http://127.0.0.1:" + stubLlm.getAddress().getPort() + "/generate";
+        WebServer server = factory.getWebServer(servletContext ->
+                servletContext.addServlet("recommend", new RecommendServlet(restTemplate, llmUrl)).addMapping(PATH));
+        server.start();
+        try {
+            URI uri = URI.create("http://127.0.0.1:" + server.getPort() + PATH);
+            // 워밍업: 같은 동시성으로 한 번 돌려 JIT와 양쪽 연결 풀을 데워 둠
+            sendAll(uri).forEach(CompletableFuture::join);
+
+            long start = System.nanoTime();
+            List<CompletableFuture<Long>> requests = sendAll(uri);
+            long[] latencies = new long[CONCURRENCY];
+            int failures = 0;
+            for (int i = 0; i < CONCURRENCY; i++) {
+                long latency = requests.get(i).join();
+                if (latency < 0) {
+                    failures++;
+                }
+                latencies[i] = Math.abs(latency);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            return new LoadResult(virtualThreads ? "virtual threads" : PLATFORM_MAX_THREADS + " platform threads",
+                    CONCURRENCY / seconds, latencies[CONCURRENCY / 2] / 1e6,
+                    latencies[(int) (CONCURRENCY * 0.95)] / 1e6, failures);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static List<CompletableFuture<Long>> sendAll(URI uri) {
+        List<CompletableFuture<Long>> requests = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            requests.add(send(uri));
+        }
+        return requests;
+    }
+
+    /**
+     * 응답 시간(ns). 실패한 요청은 음수
+     */
+    private static CompletableFuture<Long> send(URI uri) {
+        long start = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"purpose\":\"dating\"}"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    return error == null && response.statusCode() == 200 ? elapsed : -elapsed;
+                });
+    }
+
+    private static RestTemplate llmRestTemplate() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(30));
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * 추천 요청 흉내: 스텁 LLM을 블로킹 호출하고 결과를 그대로 응답
+     */
+    private static final class RecommendServlet extends HttpServlet {
+
+        private final transient RestTemplate restTemplate;
+        private final String llmUrl;
+
+        private RecommendServlet(RestTemplate restTemplate, String llmUrl) {
+            this.restTemplate = restTemplate;
+            this.llmUrl = llmUrl;
+        }
+
+        @Override
+        protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            String answer = restTemplate.postForObject(llmUrl, request.getInputStream().readAllBytes(), String.class);
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(answer != null ? answer : "{}");
+        }
+    }
+
+    private record LoadResult(String name, double throughput, double medianMillis, double p95Millis, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "[benchmark] %-20s %d concurrent: %7.1f req/s  median %7.1fms  p95 %7.1fms  failures %d",
+                    name, CONCURRENCY, throughput, medianMillis, p95Millis, failures);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.CUK.geulDa.ai.service;
+
+import com.CUK.geulDa.ai.dto.CourseRecommendResponse;
+import com.CUK.geulDa.ai.dto.RecommendRequest;
+import com.CUK.geulDa.ai.service.ai.AIPlaceGenerator;
+import com.CUK.geulDa.ai.service.ai.AIRecommendationEngine;
+import com.CUK.geulDa.ai.service.parser.NaturalLanguageParser;
+import com.CUK.geulDa.ai.service.planner.LocalCoursePlanner;
+import com.CUK.geulDa.ai.service.planner.RouteOptimizer;
+import com.CUK.geulDa.ai.service.search.CourseSearchService;
+import com.CUK.geulDa.ai.service.session.RecommendationSessionManager;
+import com.CUK.geulDa.ai.service.util.DataTransformService;
+import com.CUK.geulDa.ai.service.util.DistanceCalculator;
+import com.CUK.geulDa.ai.service.util.PlaceImageResolver;
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.support.CourseFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단계 타임아웃: 결과를 빈 값으로 대체하는 것과 함께 작업 스레드도 인터럽트되는지
+ */
+class CourseRecommendServiceTimeoutTest {
+
+    private final Course cafe = CourseFixture.course(1, builder -> builder.name("카페").category("카페"));
+
+    private final CourseSearchService courseSearchService = mock(CourseSearchService.class);
+    private final AIPlaceGenerator aiPlaceGenerator = mock(AIPlaceGenerator.class);
+    private final AIRecommendationEngine aiRecommendationEngine = mock(AIRecommendationEngine.class);
+    private final LocalCoursePlanner localCoursePlanner = mock(LocalCoursePlanner.class);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private ExecutorService executor;
+    private CourseRecommendService recommendService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        DataTransformService dataTransformService = mock(DataTransformService.class);
+        when(dataTransformService.normalizeTransportation(any())).thenReturn("walking");
+        when(dataTransformService.normalizePurpose(any())).thenReturn("dating");
+        when(courseSearchService.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any())).thenReturn(List.of(cafe));
+        when(localCoursePlanner.plan(any(), any(), any(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        recommendService = new CourseRecommendService(dataTransformService, courseSearchService, aiPlaceGenerator,
+                new NaturalLanguageParser(), aiRecommendationEngine, mock(RecommendationSessionManager.class),
+                mock(DistanceCalculator.class), localCoursePlanner, mock(RouteOptimizer.class),
+                mock(PlaceImageResolver.class), executor);
+        ReflectionTestUtils.setField(recommendService, "defaultPlanner", "local");
+        ReflectionTestUtils.setField(recommendService, "candidateSearchTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(recommendService, "placeGenerationTimeoutMs", 100L);
+        ReflectionTestUtils.setField(recommendService, "semanticMatchTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(recommendService, "mustVisitTimeoutMs", 100L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("AI 장소 생성이 시간 초과되면 DB 결과로 진행하고 생성 작업은 인터럽트")
+    void placeGenerationTimeoutInterruptsWorker() throws InterruptedException {
+        when(aiPlaceGenerator.generatePlacesWithAI(anyDouble(), anyDouble(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> blockUntilInterrupted());
+
+        CourseRecommendResponse response = recommendService.recommend(request(""));
+
+        assertThat(response.places()).extracting(CourseRecommendResponse.PlaceDetail::placeId).containsExactly(1L);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("필수 방문지 확정이 시간 초과되면 필수 방문지 없이 진행하고 LLM 호출은 인터럽트")
+    void mustVisitTimeoutInterruptsWorker() throws InterruptedException {
+        when(courseSearchService.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(cafe, CourseFixture.course(2), CourseFixture.course(3)));
+        when(courseSearchService.searchSemanticCandidates(any())).thenReturn(List.of());
+        when(aiRecommendationEngine.processMustVisitPlaceWithAI(any(), any(), any()))
+                .thenAnswer(invocation -> blockUntilInterrupted());
+
+        CourseRecommendResponse response = recommendService.recommend(request("원미산"));
+
+        assertThat(response.places()).hasSize(3);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Object blockUntilInterrupted() {
+        try {
+            Thread.sleep(30_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return null;
+    }
+
+    private static RecommendRequest request(String mustVisitPlace) {
+        return new RecommendRequest("dating", "half-day", "walking", null, null, mustVisitPlace, null);
+    }
+}
@@ -0,0 +1,138 @@
+package com.CUK.geulDa.ai.service.ai;
+
+import com.CUK.geulDa.ai.dto.MustVisitRelevanceResult;
+import com.CUK.geulDa.ai.dto.MustVisitRelevanceResult.PlaceRelevance;
+import com.CUK.geulDa.ai.service.embedding.CourseDocumentMapper;
+import com.CUK.geulDa.ai.service.embedding.EmbeddingRelevanceScorer;
+import com.CUK.geulDa.ai.service.embedding.RelevanceThresholdProperties;
+import com.CUK.geulDa.ai.vectorstore.SwappableVectorStore;
+import com.CUK.geulDa.ai.vectorstore.VectorStoreFactory;
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.support.CourseFixture;
+import com.CUK.geulDa.support.StubEmbeddingModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 임베딩 판정(StubEmbeddingModel) → 애매할 때만 LLM(StructuredOutputClient stub) 호출
+ * 요청 "박물관" = (1, 0, 0, 0), 임계값은 기본값 (accept 0.72, reject 0.5, margin 0.03), LLM 관련성 기준 0.6
+ */
+class MustVisitResolverTest {
+
+    private static final String REQUEST = "박물관";
+
+    private final Course museum = place(1, "한국만화박물관");         // 1.0
+    private final Course nearTwin = place(2, "부천교육박물관");       // 0.999
+    private final Course park = place(4, "상동호수공원");             // 0.0
+    private final Course legacy = place(5, "부천로보파크");           // 3차원 (이전 임베딩 모델)
+
+    private StructuredOutputClient structuredOutputClient;
+    private SimpleMeterRegistry meterRegistry;
+    private MustVisitResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        StubEmbeddingModel embeddingModel = new StubEmbeddingModel().put(REQUEST, 1, 0, 0, 0);
+
+        SwappableVectorStore vectorStore = mock(SwappableVectorStore.class);
+        when(vectorStore.findEmbedding("1")).thenReturn(Optional.of(new float[]{1, 0, 0, 0}));
+        when(vectorStore.findEmbedding("2")).thenReturn(Optional.of(new float[]{0.999f, 0.045f, 0, 0}));
+        when(vectorStore.findEmbedding("4")).thenReturn(Optional.of(new float[]{0, 1, 0, 0}));
+        when(vectorStore.findEmbedding("5")).thenReturn(Optional.of(new float[]{1, 0, 0}));
+        VectorStoreFactory vectorStoreFactory = mock(VectorStoreFactory.class);
+        when(vectorStoreFactory.getEmbeddingModel()).thenReturn(embeddingModel);
+
+        EmbeddingRelevanceScorer scorer = new EmbeddingRelevanceScorer(vectorStore, vectorStoreFactory,
+                new CourseDocumentMapper(), new RelevanceThresholdProperties());
+        structuredOutputClient = mock(StructuredOutputClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        resolver = new MustVisitResolver(structuredOutputClient,
+                new PromptBudgetManager(mock(VectorStore.class), 2500, 30, 80),
+                scorer, meterRegistry, 0.6);
+    }
+
+    @Test
+    @DisplayName("임베딩으로 한 곳이 분명하면 LLM 없이 확정")
+    void acceptsLocallyWithoutLlm() {
+        assertThat(resolver.resolve(REQUEST, List.of(park, museum), List.of())).contains(museum);
+
+        verifyNoInteractions(structuredOutputClient);
+        assertThat(decisions("local_accept")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("모든 장소가 관련 없으면 LLM 없이 기각")
+    void rejectsLocallyWithoutLlm() {
+        assertThat(resolver.resolve(REQUEST, List.of(park), List.of())).isEmpty();
+
+        verifyNoInteractions(structuredOutputClient);
+        assertThat(decisions("local_reject")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터는 LLM이 판정하고, 관련 없는 장소는 프롬프트에서 빠짐")
+    void dimensionMismatchFallsBackToLlm() {
+        when(structuredOutputClient.call(eq("must_visit_relevance"), anyString(), eq(MustVisitRelevanceResult.class)))
+                .thenReturn(new MustVisitRelevanceResult(List.of(new PlaceRelevance(5L, 0.9, "로봇 박물관"))));
+
+        assertThat(resolver.resolve(REQUEST, List.of(legacy, park), List.of())).contains(legacy);
+
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        verify(structuredOutputClient).call(anyString(), prompt.capture(), eq(MustVisitRelevanceResult.class));
+        assertThat(prompt.getValue()).contains("ID: 5 |").doesNotContain("ID: 4 |");
+        assertThat(decisions("llm")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("LLM이 돌려준 ID 중 판정 대상 밖이거나 기준 미만인 것은 버림")
+    void discardsLlmIdsOutsidePool() {
+        when(structuredOutputClient.call(eq("must_visit_relevance"), anyString(), eq(MustVisitRelevanceResult.class)))
+                .thenReturn(new MustVisitRelevanceResult(List.of(
+                        new PlaceRelevance(999L, 0.99, "후보에 없는 장소"),
+                        new PlaceRelevance(4L, 0.95, "임베딩에서 기각된 장소"),
+                        new PlaceRelevance(1L, 0.5, "기준 미만"),
+                        new PlaceRelevance(2L, 0.7, "교육 박물관"))));
+
+        assertThat(resolver.resolve(REQUEST, List.of(museum, nearTwin, park), List.of())).contains(nearTwin);
+    }
+
+    @Test
+    @DisplayName("LLM 결과가 모두 버려지면 empty")
+    void emptyWhenNoLlmIdSurvives() {
+        when(structuredOutputClient.call(eq("must_visit_relevance"), anyString(), eq(MustVisitRelevanceResult.class)))
+                .thenReturn(new MustVisitRelevanceResult(List.of(new PlaceRelevance(999L, 0.99, "후보에 없는 장소"))));
+
+        assertThat(resolver.resolve(REQUEST, List.of(museum, nearTwin), List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임베딩 판정이 실패하면 전체 후보로 LLM 판정")
+    void embeddingFailureFallsBackToLlm() {
+        // StubEmbeddingModel에 없는 요청 → 임베딩 예외
+        when(structuredOutputClient.call(eq("must_visit_relevance"), anyString(), eq(MustVisitRelevanceResult.class)))
+                .thenReturn(new MustVisitRelevanceResult(List.of(new PlaceRelevance(4L, 0.8, "호수 공원"))));
+
+        assertThat(resolver.resolve("호수 공원", List.of(museum, park), List.of())).contains(park);
+        assertThat(decisions("llm")).isEqualTo(1.0);
+    }
+
+    private double decisions(String result) {
+        return meterRegistry.get("geulda.ai.must-visit.decision").tag("result", result).counter().count();
+    }
+
+    private static Course place(long id, String name) {
+        return CourseFixture.course(id, builder -> builder.name(name).category("문화시설"));
+    }
+}
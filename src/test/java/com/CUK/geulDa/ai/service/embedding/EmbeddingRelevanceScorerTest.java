@@ -0,0 +1,128 @@
+package com.CUK.geulDa.ai.service.embedding;
+
+import com.CUK.geulDa.ai.vectorstore.SwappableVectorStore;
+import com.CUK.geulDa.ai.vectorstore.VectorStoreFactory;
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.support.CourseFixture;
+import com.CUK.geulDa.support.StubEmbeddingModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청 "박물관" = (1, 0, 0, 0) 기준 코사인 유사도. 임계값은 기본값 (accept 0.72, reject 0.5, margin 0.03)
+ */
+class EmbeddingRelevanceScorerTest {
+
+    private static final String REQUEST = "박물관";
+
+    private final Course museum = place(1, "한국만화박물관", "문화시설");         // 1.0
+    private final Course nearTwin = place(2, "부천교육박물관", "문화시설");       // 0.999
+    private final Course gallery = place(3, "부천아트벙커", "문화시설");          // 0.6
+    private final Course park = place(4, "상동호수공원", "자연");                 // 0.0
+    private final Course legacy = place(5, "부천로보파크", "문화시설");           // 3차원 (이전 임베딩 모델)
+    private final Course unstored = place(6, "원미산", "자연");                   // 저장된 벡터 없음 → 0.8
+
+    private StubEmbeddingModel embeddingModel;
+    private RelevanceThresholdProperties thresholds;
+    private EmbeddingRelevanceScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        CourseDocumentMapper documentMapper = new CourseDocumentMapper();
+        embeddingModel = new StubEmbeddingModel()
+                .put(REQUEST, 1, 0, 0, 0)
+                .put(documentMapper.buildContent(unstored), 0.8f, 0.6f, 0, 0);
+
+        SwappableVectorStore vectorStore = mock(SwappableVectorStore.class);
+        when(vectorStore.findEmbedding(anyString())).thenReturn(Optional.empty());
+        when(vectorStore.findEmbedding("1")).thenReturn(Optional.of(new float[]{1, 0, 0, 0}));
+        when(vectorStore.findEmbedding("2")).thenReturn(Optional.of(new float[]{0.999f, 0.045f, 0, 0}));
+        when(vectorStore.findEmbedding("3")).thenReturn(Optional.of(new float[]{0.6f, 0.8f, 0, 0}));
+        when(vectorStore.findEmbedding("4")).thenReturn(Optional.of(new float[]{0, 1, 0, 0}));
+        when(vectorStore.findEmbedding("5")).thenReturn(Optional.of(new float[]{1, 0, 0}));
+
+        VectorStoreFactory vectorStoreFactory = mock(VectorStoreFactory.class);
+        when(vectorStoreFactory.getEmbeddingModel()).thenReturn(embeddingModel);
+
+        thresholds = new RelevanceThresholdProperties();
+        scorer = new EmbeddingRelevanceScorer(vectorStore, vectorStoreFactory, documentMapper, thresholds);
+    }
+
+    @Test
+    @DisplayName("1위가 accept 이상이고 2위와 margin 이상 차이나면 확정")
+    void acceptsTopWithClearMargin() {
+        EmbeddingRelevanceScorer.Judgement judgement = scorer.judge(REQUEST, List.of(gallery, museum, park));
+
+        assertThat(judgement.accepted()).isSameAs(museum);
+        assertThat(judgement.ambiguous()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2위와 차이가 margin 미만이면 확정하지 않고, 관련 없는 장소를 뺀 나머지를 유사도 순으로 넘김")
+    void runnerUpWithinMarginIsAmbiguous() {
+        EmbeddingRelevanceScorer.Judgement judgement =
+                scorer.judge(REQUEST, List.of(park, gallery, nearTwin, museum));
+
+        assertThat(judgement.accepted()).isNull();
+        assertThat(judgement.ambiguous()).containsExactly(museum, nearTwin, gallery);
+    }
+
+    @Test
+    @DisplayName("모든 장소가 reject 미만이면 애매한 장소 없이 기각")
+    void allBelowRejectLeavesNothing() {
+        EmbeddingRelevanceScorer.Judgement judgement = scorer.judge(REQUEST, List.of(park));
+
+        assertThat(judgement.accepted()).isNull();
+        assertThat(judgement.ambiguous()).isEmpty();
+        assertThat(scorer.judge(REQUEST, List.of()).ambiguous()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("차원이 다른 저장 벡터는 점수를 매기지 않고 애매(LLM 판정)로 넘김")
+    void dimensionMismatchIsAmbiguous() {
+        List<EmbeddingRelevanceScorer.Scored> scored = scorer.score(REQUEST, List.of(legacy, park));
+
+        assertThat(scored).extracting(EmbeddingRelevanceScorer.Scored::verdict)
+                .containsExactly(EmbeddingRelevanceScorer.Verdict.AMBIGUOUS, EmbeddingRelevanceScorer.Verdict.IRRELEVANT);
+        assertThat(scored.get(0).similarity()).isZero();
+        assertThat(scorer.judge(REQUEST, List.of(legacy, park)).ambiguous()).containsExactly(legacy);
+    }
+
+    @Test
+    @DisplayName("저장된 벡터가 없는 장소만 한 번의 배치 요청으로 임베딩")
+    void embedsOnlyUnstoredPlacesInOneBatch() {
+        List<EmbeddingRelevanceScorer.Scored> scored = scorer.score(REQUEST, List.of(unstored, museum, park));
+
+        assertThat(embeddingModel.requests()).containsExactly(
+                List.of(REQUEST), List.of(new CourseDocumentMapper().buildContent(unstored)));
+        assertThat(scored).extracting(EmbeddingRelevanceScorer.Scored::place).containsExactly(museum, unstored, park);
+        assertThat(scored.get(1).similarity()).isCloseTo(0.8, within(1e-6));
+        assertThat(scored.get(1).verdict()).isEqualTo(EmbeddingRelevanceScorer.Verdict.RELEVANT);
+    }
+
+    @Test
+    @DisplayName("카테고리별 임계값이 기본값보다 우선")
+    void categoryBandOverridesDefault() {
+        RelevanceThresholdProperties.Band band = new RelevanceThresholdProperties.Band();
+        band.setAccept(0.55);
+        thresholds.getCategories().put("문화시설", band);
+
+        EmbeddingRelevanceScorer.Judgement judgement = scorer.judge(REQUEST, List.of(gallery, park));
+
+        assertThat(judgement.accepted()).isSameAs(gallery);
+    }
+
+    private static Course place(long id, String name, String category) {
+        return CourseFixture.course(id, builder -> builder.name(name).category(category));
+    }
+}
@@ -0,0 +1,207 @@
+package com.CUK.geulDa.ai.service.parser;
+
+import com.CUK.geulDa.support.MicroBenchmark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 파싱 비용: 이전 replace/정규식 체인 vs 단일 패스 NaturalLanguageParser
+ * - 한 번 측정할 때 대표 입력 전체(INPUTS)를 파싱
+ * - 이전 구현은 비교용으로 아래 LegacyParser에 그대로 옮겨 둠
+ */
+@Tag("benchmark")
+class NaturalLanguageParserBenchmark {
+
+    private static final List<String> INPUTS = List.of(
+            "카페 빼고 박물관 3개만 추천해줘",
+            "원미산 진달래동산 가고 싶어",
+            "데이트 코스 많이 알려줘",
+            "박물관을 제외하고 공원 5개 보여줘",
+            "상동호수공원",
+            "한국만화박물관 2개",
+            "카페는 말고 호수공원 찾아줘",
+            "부천 자유시장 근처 맛집 4개 추천해줘");
+    private static final List<String> MULTIPLE_INPUTS = List.of(
+            "박물관들 전부 알려줘", "모든 카페", "교육 관련 시설 모두", "원미산", "공원들");
+    private static final List<String> QUESTIONS = List.of(
+            "원미산은 어디야?", "놀이공원에서 뭐 해?", "상동호수공원 주차 있나요", "추천 알려줘");
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final NaturalLanguageParser parser = new NaturalLanguageParser();
+
+    @Test
+    @DisplayName("parseUserRequest: 이전 구현 vs 단일 패스 파서")
+    void parseUserRequest() {
+        MicroBenchmark.Result legacy = MicroBenchmark.run("parseUserRequest / legacy x" + INPUTS.size(),
+                WARMUP, ITERATIONS, () -> {
+                    int sum = 0;
+                    for (String input : INPUTS) {
+                        sum += LegacyParser.parseUserRequest(input).placeCount();
+                    }
+                    return sum;
+                });
+        MicroBenchmark.Result current = MicroBenchmark.run("parseUserRequest / parser x" + INPUTS.size(),
+                WARMUP, ITERATIONS, () -> {
+                    int sum = 0;
+                    for (String input : INPUTS) {
+                        sum += parser.parseUserRequest(input).placeCount();
+                    }
+                    return sum;
+                });
+        report(legacy, current);
+    }
+
+    @Test
+    @DisplayName("복수 장소 요청 판별 + 키워드 추출: CourseSearchService의 이전 체인 vs 파서")
+    void multiplePlaceKeyword() {
+        MicroBenchmark.Result legacy = MicroBenchmark.run("multiple place keyword / legacy x" + MULTIPLE_INPUTS.size(),
+                WARMUP, ITERATIONS, () -> {
+                    int sum = 0;
+                    for (String input : MULTIPLE_INPUTS) {
+                        if (LegacyParser.isMultiplePlaceRequest(input)) {
+                            sum += LegacyParser.extractPlaceKeyword(input).length();
+                        }
+                    }
+                    return sum;
+                });
+        MicroBenchmark.Result current = MicroBenchmark.run("multiple place keyword / parser x" + MULTIPLE_INPUTS.size(),
+                WARMUP, ITERATIONS, () -> {
+                    int sum = 0;
+                    for (String input : MULTIPLE_INPUTS) {
+                        if (parser.isMultiplePlaceRequest(input)) {
+                            sum += parser.extractPlaceKeyword(input).length();
+                        }
+                    }
+                    return sum;
+                });
+        report(legacy, current);
+    }
+
+    @Test
+    @DisplayName("챗봇 검색 키워드: ChatbotService의 이전 불용어 replace 체인 vs 파서")
+    void searchKeyword() {
+        MicroBenchmark.Result legacy = MicroBenchmark.run("search keyword / legacy x" + QUESTIONS.size(),
+                WARMUP, ITERATIONS, () -> {
+                    int sum = 0;
+                    for (String question : QUESTIONS) {
+                        sum += LegacyParser.extractSearchKeyword(question).length();
+                    }
+                    return sum;
+                });
+        MicroBenchmark.Result current = MicroBenchmark.run("search keyword / parser x" + QUESTIONS.size(),
+                WARMUP, ITERATIONS, () -> {
+                    int sum = 0;
+                    for (String question : QUESTIONS) {
+                        sum += parser.extractSearchKeyword(question).length();
+                    }
+                    return sum;
+                });
+        report(legacy, current);
+    }
+
+    private static void report(MicroBenchmark.Result legacy, MicroBenchmark.Result current) {
+        System.out.printf(Locale.ROOT, "[benchmark] legacy / parser median: %.2fx%n",
+                legacy.medianMicros() / current.medianMicros());
+    }
+
+    /**
+     * 단일 패스 파서 도입 전 구현 (NaturalLanguageParser, CourseSearchService, ChatbotService)
+     */
+    private static final class LegacyParser {
+
+        private static NaturalLanguageParser.ParsedRequest parseUserRequest(String input) {
+            if (input == null || input.isBlank()) {
+                return new NaturalLanguageParser.ParsedRequest("", List.of(), 4);
+            }
+
+            String cleaned = input;
+            List<String> excludeCategories = new ArrayList<>();
+            int placeCount = 4;
+
+            String[] excludePatterns = {"제외하고", "빼고", "제외", "뺴고", "말고"};
+            for (String pattern : excludePatterns) {
+                if (cleaned.contains(pattern)) {
+                    int idx = cleaned.indexOf(pattern);
+                    String before = cleaned.substring(0, idx).trim();
+
+                    String[] words = before.split("\\s+");
+                    if (words.length > 0) {
+                        String category = words[words.length - 1]
+                                .replace("은", "").replace("는", "")
+                                .replace("을", "").replace("를", "").trim();
+                        if (!category.isEmpty()) {
+                            excludeCategories.add(category);
+                        }
+                    }
+                    cleaned = cleaned.substring(idx + pattern.length()).trim();
+                }
+            }
+
+            if (cleaned.contains("많이")) {
+                placeCount = 10;
+                cleaned = cleaned.replace("많이", "").trim();
+            } else if (cleaned.matches(".*\\d+개.*")) {
+                Pattern pattern = Pattern.compile("(\\d+)개");
+                Matcher matcher = pattern.matcher(cleaned);
+                if (matcher.find()) {
+                    placeCount = Integer.parseInt(matcher.group(1));
+                    cleaned = cleaned.replaceAll("\\d+개(만)?", "").trim();
+                }
+            }
+
+            placeCount = Math.max(1, Math.min(20, placeCount));
+
+            cleaned = cleaned.replace("추천해줘", "")
+                    .replace("알려줘", "")
+                    .replace("보여줘", "")
+                    .replace("찾아줘", "").trim();
+
+            return new NaturalLanguageParser.ParsedRequest(cleaned, excludeCategories, placeCount);
+        }
+
+        private static boolean isMultiplePlaceRequest(String mustVisitPlace) {
+            return mustVisitPlace.contains("모두") ||
+                    mustVisitPlace.contains("전부") ||
+                    mustVisitPlace.contains("모든") ||
+                    mustVisitPlace.contains("전체") ||
+                    mustVisitPlace.endsWith("들");
+        }
+
+        private static String extractPlaceKeyword(String request) {
+            return request
+                    .replace("만", "")
+                    .replace("모두", "")
+                    .replace("전부", "")
+                    .replace("모든", "")
+                    .replace("전체", "")
+                    .replace("들", "")
+                    .replace("알려줘", "")
+                    .replace("보여줘", "")
+                    .replace("찾아줘", "")
+                    .replace("관련", "")
+                    .replace("시설", "")
+                    .trim();
+        }
+
+        private static String extractSearchKeyword(String query) {
+            String[] stopWords = {"은", "는", "이", "가", "을", "를", "에", "의", "로", "으로",
+                    "에서", "어디", "뭐", "무엇", "있어", "있나요", "알려줘", "추천"};
+
+            String cleaned = query;
+            for (String stopWord : stopWords) {
+                cleaned = cleaned.replace(stopWord, " ");
+            }
+
+            return cleaned.trim().split("\\s+")[0];
+        }
+    }
+}
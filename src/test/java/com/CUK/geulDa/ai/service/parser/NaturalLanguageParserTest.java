@@ -0,0 +1,111 @@
+package com.CUK.geulDa.ai.service.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NaturalLanguageParserTest {
+
+    private final NaturalLanguageParser parser = new NaturalLanguageParser();
+
+    @Test
+    @DisplayName("\"카페 빼고\": 제외 표지 앞 단어는 제외 카테고리, 뒤 내용만 필수 방문지")
+    void excludeMarker() {
+        NaturalLanguageParser.ParsedRequest parsed = parser.parseUserRequest("카페 빼고 박물관 3개만");
+
+        assertThat(parsed.excludeCategories()).containsExactly("카페");
+        assertThat(parsed.cleanedMustVisitPlace()).isEqualTo("박물관");
+        assertThat(parsed.placeCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "카페빼고 원미산, 카페, 원미산",
+            "박물관을 제외하고 공원, 박물관, 공원",
+            "카페는 말고 호수공원, 카페, 호수공원"
+    })
+    @DisplayName("제외 표지가 붙어 있거나 조사가 있어도 기존과 같이 카테고리만 남김")
+    void excludeMarkerVariants(String input, String excluded, String mustVisit) {
+        NaturalLanguageParser.ParsedRequest parsed = parser.parseUserRequest(input);
+
+        assertThat(parsed.excludeCategories()).containsExactly(excluded);
+        assertThat(parsed.cleanedMustVisitPlace()).isEqualTo(mustVisit);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "박물관 3개만, 3",
+            "공원 5개 추천해줘, 5",
+            "많이 추천해줘, 10",
+            "카페 0개, 1",
+            "공원 999999999999개, 20",
+            "상동호수공원, 4"
+    })
+    @DisplayName("\"3개만\", \"많이\" 개수 표지와 1~20 범위 제한")
+    void placeCount(String input, int expected) {
+        assertThat(parser.parseUserRequest(input).placeCount()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("이름 안의 '만', '들'은 건드리지 않음")
+    void keepsCharactersInsideNames() {
+        assertThat(parser.parseUserRequest("한국만화박물관 2개").cleanedMustVisitPlace()).isEqualTo("한국만화박물관");
+        assertThat(parser.extractPlaceKeyword("들꽃식물원 모두")).isEqualTo("들꽃식물원");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"박물관들 전부", "박물관 모두", "박물관모두", "모든 카페", "공원들", "전체 박물관 알려줘"})
+    @DisplayName("복수 장소 요청 (기존처럼 표지가 토큰 안에 붙어 있어도 인정)")
+    void multiplePlaceRequest(String input) {
+        assertThat(parser.isMultiplePlaceRequest(input)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"원미산", "한국만화박물관 가고 싶어", "들꽃 식물원", " "})
+    @DisplayName("단일 장소 요청")
+    void singlePlaceRequest(String input) {
+        assertThat(parser.isMultiplePlaceRequest(input)).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "박물관들 전부, 박물관",
+            "박물관들 전부 알려줘, 박물관",
+            "박물관모두, 박물관",
+            "모든박물관, 박물관",
+            "카페들만 전부, 카페",
+            "교육 관련 시설 모두, 교육"
+    })
+    @DisplayName("복수 장소 요청의 이름 검색 키워드")
+    void placeKeyword(String input, String expected) {
+        assertThat(parser.extractPlaceKeyword(input)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "원미산은 어디야?, 원미산",
+            "어디 있어? 상동호수공원, 상동호수공원",
+            "놀이공원에서 뭐 해?, 놀이공원",
+            "추천 알려줘, ''"
+    })
+    @DisplayName("챗봇 질문의 첫 검색 키워드 (조사/문장부호/질문어 제외)")
+    void searchKeyword(String input, String expected) {
+        assertThat(parser.extractSearchKeyword(input)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("빈 입력은 기본값")
+    void blankInput() {
+        NaturalLanguageParser.ParsedRequest parsed = parser.parseUserRequest("  ");
+
+        assertThat(parsed.cleanedMustVisitPlace()).isEmpty();
+        assertThat(parsed.excludeCategories()).isEmpty();
+        assertThat(parsed.placeCount()).isEqualTo(4);
+        assertThat(parser.extractPlaceKeyword(null)).isEmpty();
+        assertThat(parser.extractSearchKeyword(null)).isEmpty();
+    }
+}
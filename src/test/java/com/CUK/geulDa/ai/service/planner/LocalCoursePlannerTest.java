@@ -0,0 +1,98 @@
+package com.CUK.geulDa.ai.service.planner;
+
+import com.CUK.geulDa.ai.service.util.DistanceCalculator;
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.index.CourseDistanceMatrix;
+import com.CUK.geulDa.domain.course.index.CoursePurposeIndex;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import com.CUK.geulDa.domain.course.service.CourseService;
+import com.CUK.geulDa.support.CourseFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalCoursePlannerTest {
+
+    private static final double START_LAT = 37.5035;
+    private static final double START_LON = 126.7660;
+
+    private LocalCoursePlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        // 적재되지 않은 거리 행렬은 좌표로 직접 계산
+        CourseDistanceMatrix distanceMatrix = new CourseDistanceMatrix(mock(CourseRepository.class), 5000, 10);
+        CourseService courseService = mock(CourseService.class);
+        when(courseService.getTourPurposeTags(any())).thenAnswer(invocation ->
+                CoursePurposeIndex.parseTags(invocation.<Course>getArgument(0).getTourPurposeTags()));
+
+        planner = new LocalCoursePlanner(distanceMatrix, courseService,
+                new RouteOptimizer(new DistanceCalculator(), distanceMatrix));
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 ID가 작은 장소부터 선택 (입력 순서와 무관)")
+    void tieBreakByIdRegardlessOfInputOrder() {
+        List<Course> candidates = new ArrayList<>();
+        for (long id : new long[]{4, 2, 5, 1, 3}) {
+            candidates.add(place(id, "카페", "데이트", 37.5100, 126.7700, 70));
+        }
+
+        List<Course> first = planner.plan(candidates, List.of(), "dating", 5.0, START_LAT, START_LON, 3);
+
+        List<Course> shuffled = new ArrayList<>(candidates);
+        Collections.shuffle(shuffled, new Random(3));
+        List<Course> second = planner.plan(shuffled, List.of(), "dating", 5.0, START_LAT, START_LON, 3);
+
+        assertThat(first).extracting(Course::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(second).extracting(Course::getId).containsExactlyElementsOf(
+                first.stream().map(Course::getId).toList());
+    }
+
+    @Test
+    @DisplayName("목적 태그가 맞는 장소가 인기도가 조금 높은 장소보다 먼저 선택")
+    void purposeMatchOutweighsSmallPopularityGap() {
+        Course tagged = place(10, "자연", "데이트", 37.5100, 126.7700, 60);
+        Course popular = place(11, "자연", "가족", 37.5100, 126.7700, 70);
+
+        List<Course> route = planner.plan(List.of(popular, tagged), List.of(), "dating", 5.0,
+                START_LAT, START_LON, 1);
+
+        assertThat(route).containsExactly(tagged);
+    }
+
+    @Test
+    @DisplayName("필수 방문지는 항상 포함되고 후보에서 다시 고르지 않음")
+    void mustVisitPlacesAreKept() {
+        Course mustVisit = place(1, "문화시설", "가족", 37.5200, 126.7800, 10);
+        List<Course> candidates = List.of(
+                mustVisit,
+                place(2, "자연", "가족", 37.5050, 126.7670, 80),
+                place(3, "카페", "가족", 37.5060, 126.7680, 80));
+
+        List<Course> route = planner.plan(candidates, List.of(mustVisit), "family", 5.0,
+                START_LAT, START_LON, 2);
+
+        assertThat(route).hasSize(2).contains(mustVisit);
+        assertThat(route).extracting(Course::getId).doesNotHaveDuplicates();
+    }
+
+    private static Course place(long id, String category, String tags, double lat, double lon, int popularity) {
+        return CourseFixture.course(id, builder -> builder
+                .latitude(lat)
+                .longitude(lon)
+                .category(category)
+                .tourPurposeTags(tags)
+                .popularityScore(popularity));
+    }
+}
@@ -0,0 +1,223 @@
+package com.CUK.geulDa.ai.service.planner;
+
+import com.CUK.geulDa.ai.service.util.DistanceCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RouteOptimizerTest {
+
+    // 거리 행렬을 직접 넘기는 경로(heldKarp/localSearch 등)와 좌표 기반 reorder는 CourseDistanceMatrix를 쓰지 않음
+    private final RouteOptimizer optimizer = new RouteOptimizer(new DistanceCalculator(), null);
+
+    @Test
+    @DisplayName("Held-Karp: 무작위 배치에서 전수 탐색과 같은 최소 거리")
+    void heldKarpMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int n = 2; n <= 8; n++) {
+            for (int trial = 0; trial < 5; trial++) {
+                double[] dist = randomMatrix(random, n);
+
+                int[] tour = optimizer.heldKarp(dist, n);
+
+                assertPermutation(tour, n);
+                assertThat(cost(dist, n, tour)).isCloseTo(bruteForceCost(dist, n), within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Held-Karp: 직선 위 장소는 출발지에서 가까운 쪽부터 순서대로")
+    void heldKarpOnLine() {
+        // 출발지 x=0, 장소 x = 3, 1, 4, 2
+        double[] dist = lineMatrix(0, 3, 1, 4, 2);
+
+        assertThat(optimizer.heldKarp(dist, 4)).containsExactly(2, 4, 1, 3);
+    }
+
+    @Test
+    @DisplayName("moveSegment: 구간을 앞/뒤로 옮기고, 뒤집어 끼움")
+    void moveSegment() {
+        int[] backward = {0, 1, 2, 3, 4, 5};
+        optimizer.moveSegment(backward, 4, 2, 1, false);
+        assertThat(backward).containsExactly(0, 1, 4, 5, 2, 3);
+
+        int[] forward = {0, 1, 2, 3, 4, 5};
+        optimizer.moveSegment(forward, 1, 2, 4, false);
+        assertThat(forward).containsExactly(0, 3, 4, 1, 2, 5);
+
+        int[] reversed = {0, 1, 2, 3, 4, 5};
+        optimizer.moveSegment(reversed, 1, 3, 5, true);
+        assertThat(reversed).containsExactly(0, 4, 5, 3, 2, 1);
+
+        int[] toFront = {0, 1, 2, 3, 4, 5};
+        optimizer.moveSegment(toFront, 3, 1, 0, false);
+        assertThat(toFront).containsExactly(0, 3, 1, 2, 4, 5);
+    }
+
+    @Test
+    @DisplayName("Or-opt: 잘못 끼어 있는 장소 하나를 옮겨 거리를 줄임")
+    void orOptRelocatesMisplacedNode() {
+        // 출발지 x=0, 장소 1..4는 x=1..4. 경로 0→1→3→2→4 (거리 6) 는 2를 1 뒤로 옮기면 4
+        double[] dist = lineMatrix(0, 1, 2, 3, 4);
+        int[] path = {0, 1, 3, 2, 4};
+        double before = cost(dist, 4, Arrays.copyOfRange(path, 1, 5));
+
+        boolean improved = optimizer.orOpt(dist, path, 4);
+
+        int[] tour = Arrays.copyOfRange(path, 1, 5);
+        assertThat(improved).isTrue();
+        assertThat(path[0]).isZero();
+        assertPermutation(tour, 4);
+        assertThat(cost(dist, 4, tour)).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("Or-opt: 이미 최적인 경로는 바꾸지 않음")
+    void orOptKeepsOptimalPath() {
+        double[] dist = lineMatrix(0, 1, 2, 3, 4);
+        int[] path = {0, 1, 2, 3, 4};
+
+        assertThat(optimizer.orOpt(dist, path, 4)).isFalse();
+        assertThat(path).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("지역 탐색: 큰 입력에서도 순열을 반환하고 최근접 이웃보다 나쁘지 않음")
+    void localSearchImprovesNearestNeighbour() {
+        Random random = new Random(11);
+        int n = 40;
+        double[] dist = randomMatrix(random, n);
+
+        int[] tour = optimizer.localSearch(dist, n);
+
+        assertPermutation(tour, n);
+        assertThat(cost(dist, n, tour)).isLessThanOrEqualTo(cost(dist, n, nearestNeighbour(dist, n)) + 1e-9);
+    }
+
+    @Test
+    @DisplayName("지역 탐색: 직선 위 장소는 최적 순서")
+    void localSearchOnLine() {
+        double[] xs = IntStream.range(0, 20).mapToDouble(i -> (i * 7) % 20 + 1).toArray();
+        double[] dist = lineMatrix(0, xs);
+
+        int[] tour = optimizer.localSearch(dist, xs.length);
+
+        assertThat(cost(dist, xs.length, tour)).isCloseTo(20.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 항목은 원래 순서대로 마지막에 붙음")
+    void reorderAppendsItemsWithoutLocation() {
+        record Place(String name, Double lat, Double lon) {}
+        List<Place> places = List.of(
+                new Place("far", 37.60, 126.80),
+                new Place("unknown-1", null, null),
+                new Place("near", 37.51, 126.80),
+                new Place("unknown-2", 37.50, null));
+
+        List<Place> route = optimizer.reorder(places, Place::lat, Place::lon, 37.50, 126.80);
+
+        assertThat(route).extracting(Place::name).containsExactly("near", "far", "unknown-1", "unknown-2");
+    }
+
+    private static double[] lineMatrix(double start, double... xs) {
+        int size = xs.length + 1;
+        double[] dist = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double a = i == 0 ? start : xs[i - 1];
+                double b = j == 0 ? start : xs[j - 1];
+                dist[i * size + j] = Math.abs(a - b);
+            }
+        }
+        return dist;
+    }
+
+    private static double[] randomMatrix(Random random, int n) {
+        int size = n + 1;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = random.nextDouble() * 10;
+            y[i] = random.nextDouble() * 10;
+        }
+        double[] dist = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                dist[i * size + j] = Math.hypot(x[i] - x[j], y[i] - y[j]);
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * 출발지(0)에서 tour 순서대로 방문하는 열린 경로 거리
+     */
+    private static double cost(double[] dist, int n, int[] tour) {
+        int size = n + 1;
+        double total = 0;
+        int previous = 0;
+        for (int node : tour) {
+            total += dist[previous * size + node];
+            previous = node;
+        }
+        return total;
+    }
+
+    private static double bruteForceCost(double[] dist, int n) {
+        List<int[]> permutations = new ArrayList<>();
+        permute(IntStream.rangeClosed(1, n).toArray(), 0, permutations);
+        return permutations.stream().mapToDouble(tour -> cost(dist, n, tour)).min().orElseThrow();
+    }
+
+    private static void permute(int[] items, int k, List<int[]> out) {
+        if (k == items.length) {
+            out.add(items.clone());
+            return;
+        }
+        for (int i = k; i < items.length; i++) {
+            swap(items, k, i);
+            permute(items, k + 1, out);
+            swap(items, k, i);
+        }
+    }
+
+    private static void swap(int[] items, int a, int b) {
+        int tmp = items[a];
+        items[a] = items[b];
+        items[b] = tmp;
+    }
+
+    private static int[] nearestNeighbour(double[] dist, int n) {
+        int size = n + 1;
+        boolean[] visited = new boolean[size];
+        int[] tour = new int[n];
+        int current = 0;
+        for (int step = 0; step < n; step++) {
+            int next = -1;
+            for (int j = 1; j <= n; j++) {
+                if (!visited[j] && (next == -1 || dist[current * size + j] < dist[current * size + next])) {
+                    next = j;
+                }
+            }
+            visited[next] = true;
+            tour[step] = next;
+            current = next;
+        }
+        return tour;
+    }
+
+    private static void assertPermutation(int[] tour, int n) {
+        assertThat(tour).hasSize(n);
+        assertThat(Arrays.stream(tour).sorted().toArray()).containsExactly(IntStream.rangeClosed(1, n).toArray());
+    }
+}
@@ -0,0 +1,167 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SearchRequest;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HNSW 근사 검색의 recall@K를 정확 검색(MappedVectorStore) 결과와 비교
+ * - 무작위 가우시안 벡터는 군집이 없어 실제 임베딩보다 어려운 경우
+ */
+class HnswVectorStoreRecallTest {
+
+    private static final int DIMENSIONS = 64;
+    private static final int DOCUMENTS = 5_000;
+    private static final int QUERIES = 100;
+    private static final int TOP_K = 10;
+
+    // application.yml geulda.vector-store.hnsw.* 기본값
+    private static final int M = 16;
+    private static final int EF_CONSTRUCTION = 200;
+    private static final int EF_SEARCH = 256;
+
+    private static final Map<String, float[]> EMBEDDINGS = new HashMap<>();
+    private static final EmbeddingModel EMBEDDING_MODEL = new TableEmbeddingModel();
+
+    private static List<Document> documents;
+    private static List<List<String>> exactResults;
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(42);
+        documents = new ArrayList<>(DOCUMENTS);
+        for (int i = 0; i < DOCUMENTS + QUERIES; i++) {
+            float[] vector = new float[DIMENSIONS];
+            for (int d = 0; d < DIMENSIONS; d++) {
+                vector[d] = (float) random.nextGaussian();
+            }
+            EMBEDDINGS.put(text(i), vector);
+            if (i < DOCUMENTS) {
+                documents.add(Document.builder().id("doc-" + i).text(text(i)).build());
+            }
+        }
+
+        MappedVectorStore exact = new MappedVectorStore(EMBEDDING_MODEL);
+        exact.add(documents);
+        exactResults = new ArrayList<>(QUERIES);
+        for (int q = 0; q < QUERIES; q++) {
+            exactResults.add(ids(exact.similaritySearch(query(q))));
+        }
+    }
+
+    @Test
+    @DisplayName("기본 efSearch에서 recall@10이 0.95 이상")
+    void recallAtDefaultEfSearch() {
+        HnswVectorStore hnsw = new HnswVectorStore(EMBEDDING_MODEL, M, EF_CONSTRUCTION, EF_SEARCH);
+        hnsw.add(documents);
+
+        assertThat(recall(hnsw)).isGreaterThanOrEqualTo(0.95);
+    }
+
+    @Test
+    @DisplayName("efSearch를 넓히면 recall이 줄지 않음")
+    void recallGrowsWithEfSearch() {
+        double previous = 0.0;
+        for (int efSearch : new int[]{16, 64, EF_SEARCH}) {
+            HnswVectorStore hnsw = new HnswVectorStore(EMBEDDING_MODEL, M, EF_CONSTRUCTION, efSearch);
+            hnsw.add(documents.subList(0, 1_000));
+
+            double recall = recall(hnsw, 1_000);
+            assertThat(recall).isGreaterThanOrEqualTo(previous - 0.02);
+            previous = recall;
+        }
+    }
+
+    @Test
+    @DisplayName("저장 후 다른 m으로 로드해도 recall 유지")
+    void recallAfterReloadWithDifferentM() throws Exception {
+        HnswVectorStore hnsw = new HnswVectorStore(EMBEDDING_MODEL, M, EF_CONSTRUCTION, EF_SEARCH);
+        hnsw.add(documents);
+
+        Path directory = Files.createTempDirectory("hnsw-recall");
+        File file = directory.resolve("vector-store.bin").toFile();
+        hnsw.save(file);
+
+        HnswVectorStore reloaded = new HnswVectorStore(EMBEDDING_MODEL, M / 2, EF_CONSTRUCTION, EF_SEARCH);
+        reloaded.load(file);
+
+        assertThat(reloaded.size()).isEqualTo(DOCUMENTS);
+        assertThat(recall(reloaded)).isGreaterThanOrEqualTo(0.90);
+    }
+
+    private static double recall(HnswVectorStore hnsw) {
+        return recall(hnsw, DOCUMENTS);
+    }
+
+    /**
+     * 색인된 문서가 앞쪽 documentCount개일 때, 그 범위의 정확 검색 결과와 비교
+     */
+    private static double recall(HnswVectorStore hnsw, int documentCount) {
+        MappedVectorStore exact = null;
+        if (documentCount != DOCUMENTS) {
+            exact = new MappedVectorStore(EMBEDDING_MODEL);
+            exact.add(documents.subList(0, documentCount));
+        }
+
+        int hits = 0;
+        int total = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            Set<String> expected = new HashSet<>(exact != null
+                    ? ids(exact.similaritySearch(query(q)))
+                    : exactResults.get(q));
+            total += expected.size();
+            for (String id : ids(hnsw.similaritySearch(query(q)))) {
+                if (expected.contains(id)) {
+                    hits++;
+                }
+            }
+        }
+        return (double) hits / total;
+    }
+
+    private static SearchRequest query(int q) {
+        return SearchRequest.builder().query(text(DOCUMENTS + q)).topK(TOP_K).build();
+    }
+
+    private static List<String> ids(List<Document> results) {
+        return results.stream().map(Document::getId).toList();
+    }
+
+    private static String text(int i) {
+        return "text-" + i;
+    }
+
+    /**
+     * 미리 만든 벡터 표에서 임베딩을 돌려주는 테스트용 모델
+     */
+    private static final class TableEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            List<String> texts = request.getInstructions();
+            for (int i = 0; i < texts.size(); i++) {
+                embeddings.add(new Embedding(EMBEDDINGS.get(texts.get(i)), i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return EMBEDDINGS.get(document.getText());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.CUK.geulDa.ai.vectorstore;
+
+import com.CUK.geulDa.support.MicroBenchmark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * semantic_search 경로 비교: SimpleVectorStore(문서별 코사인 + 전체 정렬) vs MappedVectorStore(정규화 내적 + 상위 K 힙)
+ * - 임베딩은 미리 만든 표에서 돌려주므로 검색 자체 비용만 측정
+ * - 벡터 수는 BENCHMARK_VECTORS (기본 "1000,10000,100000"), 차원은 Gemini 임베딩과 같은 768
+ */
+@Tag("benchmark")
+class VectorSimilarityKernelBenchmark {
+
+    private static final int DIMENSIONS = 768;
+    private static final int TOP_K = 3;
+    private static final int QUERIES = 16;
+
+    private final Map<String, float[]> embeddings = new HashMap<>();
+    private final EmbeddingModel embeddingModel = new TableEmbeddingModel();
+
+    @Test
+    @DisplayName("상위 3개 검색: SimpleVectorStore vs 커널 (1k/10k/100k)")
+    void similaritySearch() {
+        for (String vectors : System.getenv().getOrDefault("BENCHMARK_VECTORS", "1000,10000,100000").split(",")) {
+            int count = Integer.parseInt(vectors.strip());
+            embeddings.clear();
+            Random random = new Random(count);
+
+            List<Document> documents = new ArrayList<>(count);
+            float[] heapData = new float[count * DIMENSIONS];
+            for (int i = 0; i < count; i++) {
+                float[] vector = randomVector(random);
+                embeddings.put("doc-" + i, vector);
+                documents.add(Document.builder().id("doc-" + i).text("doc-" + i).build());
+
+                float[] normalized = vector.clone();
+                VectorSimilarityKernel.normalize(normalized);
+                System.arraycopy(normalized, 0, heapData, i * DIMENSIONS, DIMENSIONS);
+            }
+            List<SearchRequest> queries = new ArrayList<>(QUERIES);
+            List<float[]> queryVectors = new ArrayList<>(QUERIES);
+            for (int q = 0; q < QUERIES; q++) {
+                float[] vector = randomVector(random);
+                embeddings.put("query-" + q, vector);
+                queries.add(SearchRequest.builder().query("query-" + q).topK(TOP_K).build());
+
+                float[] normalized = vector.clone();
+                VectorSimilarityKernel.normalize(normalized);
+                queryVectors.add(normalized);
+            }
+
+            SimpleVectorStore simple = SimpleVectorStore.builder(embeddingModel).build();
+            simple.add(documents);
+            MappedVectorStore mapped = new MappedVectorStore(embeddingModel);
+            mapped.add(documents);
+            VectorSimilarityKernel.VectorMatrix matrix =
+                    new VectorSimilarityKernel.VectorMatrix(null, 0, heapData, count, DIMENSIONS);
+
+            for (SearchRequest query : queries) {
+                assertThat(ids(mapped.similaritySearch(query))).isEqualTo(ids(simple.similaritySearch(query)));
+            }
+
+            int iterations = count >= 100_000 ? 20 : count >= 10_000 ? 100 : 500;
+            int[] next = {0};
+            MicroBenchmark.Result baseline = MicroBenchmark.run(count + " vectors / SimpleVectorStore",
+                    iterations / 5, iterations, () -> simple.similaritySearch(queries.get(next[0]++ % QUERIES)));
+            MicroBenchmark.Result store = MicroBenchmark.run(count + " vectors / MappedVectorStore",
+                    iterations / 5, iterations, () -> mapped.similaritySearch(queries.get(next[0]++ % QUERIES)));
+            MicroBenchmark.Result kernel = MicroBenchmark.run(count + " vectors / kernel only",
+                    iterations / 5, iterations, () -> VectorSimilarityKernel.search(matrix,
+                            queryVectors.get(next[0]++ % QUERIES), TOP_K, -1.0f, new BitSet()).sorted());
+            System.out.printf(Locale.ROOT, "[benchmark] %d vectors: store %.1fx, kernel %.1fx faster than SimpleVectorStore%n",
+                    count, baseline.medianMicros() / store.medianMicros(),
+                    baseline.medianMicros() / kernel.medianMicros());
+        }
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static List<String> ids(List<Document> results) {
+        return results.stream().map(Document::getId).toList();
+    }
+
+    /**
+     * 미리 만든 벡터 표에서 임베딩을 돌려주는 테스트용 모델
+     */
+    private final class TableEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> result = new ArrayList<>();
+            List<String> texts = request.getInstructions();
+            for (int i = 0; i < texts.size(); i++) {
+                result.add(new Embedding(embeddings.get(texts.get(i)), i));
+            }
+            return new EmbeddingResponse(result);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return embeddings.get(document.getText());
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+    }
+}
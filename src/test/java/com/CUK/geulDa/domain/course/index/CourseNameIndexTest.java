@@ -0,0 +1,150 @@
+package com.CUK.geulDa.domain.course.index;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import com.CUK.geulDa.support.CourseFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourseNameIndexTest {
+
+    private CourseNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findByIsHiddenFalse()).thenReturn(List.of(
+                place(1, "부천 자유시장"),
+                place(2, "한옥마을"),
+                place(3, "한국만화박물관"),
+                place(4, "한국만화영상진흥원"),
+                place(5, "상동호수공원"),
+                place(6, "원미산 진달래동산"),
+                place(7, "Ｃａｆｅ 원미")));
+
+        index = new CourseNameIndex(courseRepository);
+        index.load();
+    }
+
+    @Test
+    @DisplayName("정규화: 전각/대소문자 통일, 공백과 기호 제거")
+    void normalize() {
+        assertThat(CourseNameIndex.normalize("부천 자유-시장!")).isEqualTo("부천자유시장");
+        assertThat(CourseNameIndex.normalize("Ｃａｆｅ 원미")).isEqualTo("cafe원미");
+        assertThat(CourseNameIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자모 분해: 종성이 없는 음절은 두 글자, 한글 외 문자는 그대로")
+    void toJamo() {
+        // 한 = ㅎ ㅏ ㄴ, 마 = ㅁ ㅏ (조합형 첫가끝 자모)
+        assertThat(CourseNameIndex.toJamo("한")).isEqualTo("\u1112\u1161\u11AB");
+        assertThat(CourseNameIndex.toJamo("마")).isEqualTo("\u1106\u1161");
+        assertThat(CourseNameIndex.toJamo("a1")).isEqualTo("a1");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "한옥, 한욱, 1",
+            "한옥, 한오, 1",
+            "한옥, 한옥, 0",
+            "공원, 공원길, 3",
+            "박물관, 미술관, 4"
+    })
+    @DisplayName("자모 편집 거리 (한도 안이면 정확한 값)")
+    void jamoEditDistance(String a, String b, int expected) {
+        String jamoA = CourseNameIndex.toJamo(a);
+        String jamoB = CourseNameIndex.toJamo(b);
+
+        assertThat(CourseNameIndex.boundedEditDistance(jamoA, jamoB, 10)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("자모 편집 거리: 한도를 넘으면 max + 1")
+    void jamoEditDistanceBounded() {
+        String a = CourseNameIndex.toJamo("박물관");
+        String b = CourseNameIndex.toJamo("미술관");
+
+        assertThat(CourseNameIndex.boundedEditDistance(a, b, 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정확 검색은 정규화된 이름으로 비교")
+    void findExact() {
+        assertThat(index.findExact("부천자유시장")).extracting(Course::getId).containsExactly(1L);
+        assertThat(index.findExact("cafe 원미")).extracting(Course::getId).containsExactly(7L);
+        assertThat(index.findExact("한국만화")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두사 검색: 트라이 구간을 사전순으로, limit까지")
+    void findByPrefix() {
+        assertThat(index.findByPrefix("한국만화", 10)).extracting(Course::getName)
+                .containsExactly("한국만화박물관", "한국만화영상진흥원");
+        assertThat(index.findByPrefix("한", 2)).hasSize(2);
+        assertThat(index.findByPrefix("없는이름", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부분 문자열 검색: bigram 교집합 후 실제 포함 여부 확인")
+    void findContaining() {
+        assertThat(index.findContaining("만화")).extracting(Course::getId).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(index.findContaining("호수 공원")).extracting(Course::getId).containsExactly(5L);
+        // 두 bigram("자유", "유시")은 모두 있지만 "자유시"로 붙어 있는 이름만
+        assertThat(index.findContaining("자유시")).extracting(Course::getId).containsExactly(1L);
+        assertThat(index.findContaining("원")).extracting(Course::getId).containsExactlyInAnyOrder(4L, 5L, 6L, 7L);
+        assertThat(index.findContaining("공항")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색: 자모 한 글자 차이는 찾고, 짧은 검색어는 정확히 일치해야 함")
+    void findSimilar() {
+        assertThat(index.findSimilar("한욱마을", 5)).extracting(Course::getId).containsExactly(2L);
+        assertThat(index.findSimilar("한국만화박물괸", 5)).extracting(Course::getId).containsExactly(3L);
+        assertThat(index.findSimilar("한욱", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("장소 변경 이벤트: 숨김/삭제는 빠지고 새 장소는 다음 조회에 반영")
+    void onCourseChangedUpdatesSnapshot() {
+        assertThat(index.findContaining("만화")).hasSize(2);
+
+        Course hidden = CourseFixture.hidden(place(3, "한국만화박물관"));
+        Course deleted = place(4, "한국만화영상진흥원");
+        deleted.delete();
+        index.onCourseChanged(new CourseChangedEvent(List.of(hidden, deleted, place(8, "만화카페"))));
+
+        assertThat(index.findContaining("만화")).extracting(Course::getId).containsExactly(8L);
+        assertThat(index.findExact("한국만화박물관")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지만 바뀐 장소는 스냅샷을 다시 만들지 않고 Course 참조만 교체")
+    void imageOnlyChangeKeepsSnapshot() {
+        index.findExact("한옥마을");
+        Object before = ReflectionTestUtils.getField(index, "snapshot");
+
+        Course updated = place(2, "한옥마을");
+        updated.updatePlaceImage("https://example.com/hanok.jpg");
+        index.onCourseChanged(CourseChangedEvent.imageUpdated(updated));
+
+        assertThat(index.findExact("한옥마을")).containsExactly(updated);
+        assertThat(index.findContaining("한옥")).containsExactly(updated);
+        assertThat(ReflectionTestUtils.getField(index, "snapshot")).isSameAs(before);
+    }
+
+    private static Course place(long id, String name) {
+        return CourseFixture.course(id, builder -> builder.name(name));
+    }
+}
@@ -0,0 +1,134 @@
+package com.CUK.geulDa.domain.course.index;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import com.CUK.geulDa.support.CourseFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CoursePurposeIndexTest {
+
+    private final Course lowCafe = place(1, "카페", "데이트", 40);
+    private final Course highCafe = place(2, "카페", "데이트,가족", 90);
+    private final Course familyCafe = place(3, "카페", "가족", 95);
+    private final Course park = place(4, "자연", " 데이트 , 친구 ", 60);
+    private final Course museum = place(5, "문화시설", "가족", 80);
+    private final Course noCategory = place(6, null, "데이트", 50);
+    private final Course midCafe = place(7, "카페", "데이트", 70);
+
+    private CoursePurposeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findByIsHiddenFalse()).thenReturn(
+                List.of(lowCafe, highCafe, familyCafe, park, museum, noCategory, midCafe));
+
+        index = new CoursePurposeIndex(courseRepository);
+        index.load();
+    }
+
+    @Test
+    @DisplayName("태그 문자열 분리: 공백 제거, 빈 항목 제외")
+    void parseTags() {
+        assertThat(CoursePurposeIndex.parseTags(" 데이트 ,, 가족 ,")).containsExactly("데이트", "가족");
+        assertThat(CoursePurposeIndex.parseTags("  ")).isEmpty();
+        assertThat(CoursePurposeIndex.parseTags(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("후보 ∩ 목적 태그 ∩ 카테고리를 인기도 순으로")
+    void groupByCategoryIntersectsInPopularityOrder() {
+        Map<String, List<Course>> grouped = index.groupByCategory(
+                List.of(lowCafe, highCafe, familyCafe, park, museum, noCategory, midCafe),
+                Set.of("dating", "데이트"), List.of("카페", "자연", "문화시설", CoursePurposeIndex.DEFAULT_CATEGORY), 10);
+
+        assertThat(grouped).containsOnlyKeys("카페", "자연", "문화시설", CoursePurposeIndex.DEFAULT_CATEGORY);
+        assertThat(grouped.get("카페")).containsExactly(highCafe, midCafe, lowCafe);
+        assertThat(grouped.get("자연")).containsExactly(park);
+        assertThat(grouped.get("문화시설")).isEmpty();
+        assertThat(grouped.get(CoursePurposeIndex.DEFAULT_CATEGORY)).containsExactly(noCategory);
+    }
+
+    @Test
+    @DisplayName("넘겨받은 후보 밖의 장소는 포함하지 않고, 카테고리별 limit 적용")
+    void groupByCategoryRespectsCandidatesAndLimit() {
+        Map<String, List<Course>> grouped = index.groupByCategory(
+                List.of(lowCafe, midCafe, highCafe, park), Set.of("데이트"), List.of("카페", "문화시설"), 2);
+
+        assertThat(grouped.get("카페")).containsExactly(highCafe, midCafe);
+        assertThat(grouped.get("문화시설")).isEmpty();
+
+        assertThat(index.groupByCategory(List.of(lowCafe), Set.of("데이트"), List.of("카페"), 10).get("카페"))
+                .containsExactly(lowCafe);
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 장소는 태그를 직접 비교해 색인된 장소 뒤에 붙임")
+    void unindexedCoursesAreAppended() {
+        Course fresh = place(8, "카페", "데이트", 100);
+
+        Map<String, List<Course>> grouped = index.groupByCategory(
+                List.of(fresh, lowCafe, highCafe), Set.of("데이트"), List.of("카페"), 3);
+
+        assertThat(grouped.get("카페")).containsExactly(highCafe, lowCafe, fresh);
+        assertThat(index.tagsOf(fresh)).isNull();
+        assertThat(index.tagsOf(park)).containsExactly("데이트", "친구");
+    }
+
+    @Test
+    @DisplayName("장소 변경 이벤트 후에는 새 스냅샷 기준으로 색인")
+    void onCourseChangedRebuildsSnapshot() {
+        Course fresh = place(8, "카페", "데이트", 100);
+        Course hidden = CourseFixture.hidden(place(2, "카페", "데이트,가족", 90));
+
+        index.onCourseChanged(new CourseChangedEvent(List.of(fresh, hidden)));
+
+        assertThat(index.tagsOf(fresh)).containsExactly("데이트");
+        assertThat(index.tagsOf(highCafe)).isNull();
+        assertThat(index.groupByCategory(List.of(fresh, lowCafe, midCafe), Set.of("데이트"), List.of("카페"), 10)
+                .get("카페")).containsExactly(fresh, midCafe, lowCafe);
+    }
+
+    @Test
+    @DisplayName("이미지만 바뀐 장소는 역색인을 다시 만들지 않고 Course 참조만 교체")
+    void imageOnlyChangeKeepsSnapshot() {
+        Object before = ReflectionTestUtils.getField(index, "snapshot");
+
+        Course updated = place(2, "카페", "데이트,가족", 90);
+        updated.updatePlaceImage("https://example.com/cafe.jpg");
+        index.onCourseChanged(CourseChangedEvent.imageUpdated(updated));
+
+        assertThat(index.groupByCategory(List.of(lowCafe, updated, midCafe), Set.of("데이트"), List.of("카페"), 10)
+                .get("카페")).containsExactly(updated, midCafe, lowCafe);
+        assertThat(ReflectionTestUtils.getField(index, "snapshot")).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("이미지 변경 이벤트라도 숨김 처리된 장소가 있으면 스냅샷을 다시 구성")
+    void imageOnlyChangeOfHiddenCourseRebuilds() {
+        Course hidden = CourseFixture.hidden(place(2, "카페", "데이트,가족", 90));
+
+        index.onCourseChanged(CourseChangedEvent.imageUpdated(hidden));
+
+        assertThat(index.tagsOf(highCafe)).isNull();
+    }
+
+    private static Course place(long id, String category, String tags, int popularity) {
+        return CourseFixture.course(id, builder -> builder
+                .category(category)
+                .tourPurposeTags(tags)
+                .popularityScore(popularity));
+    }
+}
@@ -0,0 +1,164 @@
+package com.CUK.geulDa.domain.course.repository;
+
+import com.CUK.geulDa.support.MicroBenchmark;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.*;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 키워드 검색: findByNameContainingAndIsHiddenFalse(LIKE '%키워드%') vs searchByFullText(ngram FULLTEXT)
+ * - ngram 파서는 MySQL 전용이라 BENCHMARK_DB_URL이 MySQL일 때만 실행 (없으면 건너뜀)
+ * - 임시 테이블에 V2__add_course_fulltext_index.sql 과 같은 인덱스를 만들어 측정 후 삭제
+ * - 행 수는 BENCHMARK_ROWS (기본 "10000,100000")
+ */
+@Tag("benchmark")
+class CourseKeywordSearchBenchmark {
+
+    private static final String TABLE = "course_keyword_benchmark";
+    private static final int LIMIT = 10;
+
+    private static final String[] AREAS = {"부천", "상동", "원미", "중동", "소사", "역곡", "심곡", "오정"};
+    private static final String[] TYPES = {"호수공원", "박물관", "카페", "자유시장", "도서관", "미술관", "식당", "수목원"};
+    private static final String[] CATEGORIES = {"자연", "문화시설", "카페", "음식점", "쇼핑", "기타"};
+    private static final String[] WORDS = {"가족", "데이트", "산책", "전시", "체험", "야경", "맛집", "주차", "아이", "조용한"};
+
+    private static final String LIKE_QUERY = "SELECT * FROM " + TABLE
+            + " WHERE name LIKE CONCAT('%', ?, '%') AND is_hidden = false AND deleted_at IS NULL";
+    // CourseRepository.searchByFullText 와 같은 조건/정렬
+    private static final String FULLTEXT_QUERY = "SELECT * FROM " + TABLE + " c " + """
+            WHERE MATCH(c.name, c.description, c.category) AGAINST (? IN NATURAL LANGUAGE MODE)
+            AND c.is_hidden = false
+            AND c.deleted_at IS NULL
+            ORDER BY (c.name LIKE CONCAT('%', ?, '%')) DESC,
+                     MATCH(c.name, c.description, c.category) AGAINST (? IN NATURAL LANGUAGE MODE) DESC,
+                     c.popularity_score DESC
+            LIMIT ?
+            """;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void connect() throws SQLException {
+        String url = System.getenv("BENCHMARK_DB_URL");
+        assumeTrue(url != null && url.startsWith("jdbc:mysql"),
+                "BENCHMARK_DB_URL(MySQL) 미설정: FULLTEXT 벤치마크 건너뜀");
+
+        connection = DriverManager.getConnection(url, System.getenv("BENCHMARK_DB_USERNAME"),
+                System.getenv("BENCHMARK_DB_PASSWORD"));
+        System.out.println("[benchmark] DB: " + connection.getMetaData().getDatabaseProductName()
+                + " " + connection.getMetaData().getDatabaseProductVersion());
+    }
+
+    @AfterAll
+    static void dropTable() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("키워드 검색: LIKE 전체 스캔 vs ngram FULLTEXT")
+    void keywordSearch() throws SQLException {
+        for (String rows : System.getenv().getOrDefault("BENCHMARK_ROWS", "10000,100000").split(",")) {
+            int rowCount = Integer.parseInt(rows.strip());
+            createTable(rowCount);
+
+            // 흔한 키워드(약 1/8), 드문 키워드(약 1/64), 이름에 한 번만 나오는 키워드
+            for (String keyword : List.of("박물관", "상동호수공원", "원미카페" + (rowCount / 2))) {
+                List<String> like = names(LIKE_QUERY, keyword, false);
+                List<String> fullText = names(FULLTEXT_QUERY, keyword, true);
+                // 이름에 키워드가 들어간 장소가 먼저 오므로 LIKE 결과가 있으면 상위 결과는 LIKE 결과의 일부
+                assertThat(like).containsAll(fullText.subList(0, Math.min(like.size(), fullText.size())));
+
+                int iterations = rowCount >= 1_000_000 ? 10 : 50;
+                MicroBenchmark.Result before = MicroBenchmark.run(rowCount + " rows / LIKE \"" + keyword + "\"",
+                        5, iterations, () -> names(LIKE_QUERY, keyword, false));
+                MicroBenchmark.Result after = MicroBenchmark.run(rowCount + " rows / FULLTEXT \"" + keyword + "\"",
+                        5, iterations, () -> names(FULLTEXT_QUERY, keyword, true));
+                System.out.printf(Locale.ROOT, "[benchmark] %d rows \"%s\": LIKE %d rows, FULLTEXT top %d, %.1fx%n",
+                        rowCount, keyword, like.size(), fullText.size(),
+                        before.medianMicros() / after.medianMicros());
+            }
+        }
+    }
+
+    private static void createTable(int rowCount) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + "id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, description TEXT, category VARCHAR(50), "
+                    + "is_hidden BOOLEAN NOT NULL, popularity_score INT, deleted_at DATETIME NULL"
+                    + ") DEFAULT CHARSET = utf8mb4");
+        }
+
+        Random random = new Random(rowCount);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (id, name, description, category, is_hidden, popularity_score) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rowCount; i++) {
+                String area = AREAS[random.nextInt(AREAS.length)];
+                String type = TYPES[random.nextInt(TYPES.length)];
+                StringJoiner description = new StringJoiner(" ", area + " " + type + " ", "");
+                for (int w = 0; w < 6; w++) {
+                    description.add(WORDS[random.nextInt(WORDS.length)]);
+                }
+
+                insert.setLong(1, i);
+                insert.setString(2, area + type + i);
+                insert.setString(3, description.toString());
+                insert.setString(4, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                insert.setBoolean(5, random.nextInt(10) == 0);
+                insert.setInt(6, random.nextInt(101));
+                insert.addBatch();
+                if (i % 5_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        // 적재 후 인덱스를 만들어야 빠름 (V2__add_course_fulltext_index.sql 과 같은 정의)
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX ft_" + TABLE
+                    + " (name, description, category) WITH PARSER ngram");
+            statement.execute("ANALYZE TABLE " + TABLE);
+        }
+    }
+
+    private static List<String> names(String sql, String keyword, boolean fullText) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, keyword);
+            if (fullText) {
+                statement.setString(2, keyword);
+                statement.setString(3, keyword);
+                statement.setInt(4, LIMIT);
+            }
+
+            List<String> names = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    names.add(resultSet.getString("name"));
+                }
+            }
+            return names;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
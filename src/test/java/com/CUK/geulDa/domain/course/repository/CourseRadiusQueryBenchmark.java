@@ -0,0 +1,178 @@
+package com.CUK.geulDa.domain.course.repository;
+
+import com.CUK.geulDa.global.util.GpsUtils;
+import com.CUK.geulDa.support.MicroBenchmark;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.*;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findWithinRadius(전체 스캔 + 거리 계산) vs findWithinRadiusBounded(경계 박스 + 복합 인덱스) 비교
+ * - 두 JPQL과 같은 조건의 SQL을 JDBC로 직접 실행 (엔티티 매핑 비용 제외)
+ * - BENCHMARK_DB_URL이 있으면 MySQL에 임시 테이블을 만들어 측정하고, 없으면 H2(MySQL 모드)로 측정
+ * - 행 수는 BENCHMARK_ROWS (기본 "10000,100000", 1M은 "10000,100000,1000000")
+ */
+@Tag("benchmark")
+class CourseRadiusQueryBenchmark {
+
+    private static final String TABLE = "course_radius_benchmark";
+
+    // 부천시청 기준 5km
+    private static final double CENTER_LAT = 37.5035;
+    private static final double CENTER_LON = 126.7660;
+    private static final double RADIUS_KM = 5.0;
+
+    private static final String DISTANCE = """
+            (6371 * acos(cos(radians(?)) * cos(radians(latitude)) *
+             cos(radians(longitude) - radians(?)) +
+             sin(radians(?)) * sin(radians(latitude)))) <= ?
+            """;
+    private static final String FULL_SCAN_QUERY = "SELECT * FROM " + TABLE
+            + " WHERE is_hidden = false AND " + DISTANCE + " ORDER BY popularity_score DESC";
+    private static final String BOUNDED_QUERY = "SELECT * FROM " + TABLE
+            + " WHERE is_hidden = false AND latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ? AND "
+            + DISTANCE + " ORDER BY popularity_score DESC";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void connect() throws SQLException {
+        String url = System.getenv("BENCHMARK_DB_URL");
+        connection = url != null
+                ? DriverManager.getConnection(url, System.getenv("BENCHMARK_DB_USERNAME"),
+                        System.getenv("BENCHMARK_DB_PASSWORD"))
+                // 같은 조회 결과를 재사용하지 않도록 OPTIMIZE_REUSE_RESULTS 끔
+                : DriverManager.getConnection(
+                        "jdbc:h2:mem:radius_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+        System.out.println("[benchmark] DB: " + connection.getMetaData().getDatabaseProductName()
+                + " " + connection.getMetaData().getDatabaseProductVersion());
+    }
+
+    @AfterAll
+    static void dropTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("반경 검색: 전체 스캔 vs 경계 박스 + (is_hidden, latitude, longitude) 인덱스")
+    void radiusQuery() throws SQLException {
+        for (String rows : System.getenv().getOrDefault("BENCHMARK_ROWS", "10000,100000").split(",")) {
+            int rowCount = Integer.parseInt(rows.strip());
+            createTable(rowCount);
+
+            List<Long> fullScan = query(FULL_SCAN_QUERY, false);
+            List<Long> bounded = query(BOUNDED_QUERY, true);
+            assertThat(bounded).containsExactlyInAnyOrderElementsOf(fullScan);
+
+            int iterations = rowCount >= 1_000_000 ? 10 : 30;
+            MicroBenchmark.Result before = MicroBenchmark.run(rowCount + " rows / full scan", 3, iterations,
+                    () -> query(FULL_SCAN_QUERY, false));
+            MicroBenchmark.Result after = MicroBenchmark.run(rowCount + " rows / bounding box", 3, iterations,
+                    () -> query(BOUNDED_QUERY, true));
+            System.out.printf(Locale.ROOT, "[benchmark] %d rows: %d hits, %.1fx faster%n",
+                    rowCount, bounded.size(), before.medianMicros() / after.medianMicros());
+            printPlan();
+        }
+    }
+
+    private static void createTable(int rowCount) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + "id BIGINT PRIMARY KEY, name VARCHAR(100), is_hidden BOOLEAN NOT NULL, "
+                    + "latitude DOUBLE, longitude DOUBLE, popularity_score INT)");
+            // V1__add_course_geo_index.sql 과 같은 인덱스
+            statement.execute("CREATE INDEX idx_" + TABLE + "_hidden_lat_lon ON " + TABLE
+                    + " (is_hidden, latitude, longitude)");
+        }
+
+        // 전국(위도 33~38.5, 경도 126~129.5)에 고르게 흩어진 장소, 10%는 숨김
+        Random random = new Random(rowCount);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (id, name, is_hidden, latitude, longitude, popularity_score) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rowCount; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, "장소" + i);
+                insert.setBoolean(3, random.nextInt(10) == 0);
+                insert.setDouble(4, 33.0 + random.nextDouble() * 5.5);
+                insert.setDouble(5, 126.0 + random.nextDouble() * 3.5);
+                insert.setInt(6, random.nextInt(101));
+                insert.addBatch();
+                if (i % 5_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + TABLE);
+        } catch (SQLException e) {
+            // H2 구버전 등 ANALYZE 문법이 다른 경우는 통계 없이 측정
+        }
+    }
+
+    private static List<Long> query(String sql, boolean bounded) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            if (bounded) {
+                GpsUtils.BoundingBox box = GpsUtils.boundingBox(CENTER_LAT, CENTER_LON, RADIUS_KM * 1000);
+                statement.setDouble(index++, box.minLat());
+                statement.setDouble(index++, box.maxLat());
+                statement.setDouble(index++, box.minLon());
+                statement.setDouble(index++, box.maxLon());
+            }
+            statement.setDouble(index++, CENTER_LAT);
+            statement.setDouble(index++, CENTER_LON);
+            statement.setDouble(index++, CENTER_LAT);
+            statement.setDouble(index, RADIUS_KM);
+
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong("id"));
+                }
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void printPlan() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + BOUNDED_QUERY)) {
+            GpsUtils.BoundingBox box = GpsUtils.boundingBox(CENTER_LAT, CENTER_LON, RADIUS_KM * 1000);
+            double[] params = {box.minLat(), box.maxLat(), box.minLon(), box.maxLon(),
+                    CENTER_LAT, CENTER_LON, CENTER_LAT, RADIUS_KM};
+            for (int i = 0; i < params.length; i++) {
+                statement.setDouble(i + 1, params[i]);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData meta = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    StringJoiner row = new StringJoiner(" | ");
+                    for (int c = 1; c <= meta.getColumnCount(); c++) {
+                        row.add(meta.getColumnLabel(c) + "=" + resultSet.getString(c));
+                    }
+                    System.out.println("[benchmark] plan: " + row.toString().replaceAll("\\s+", " "));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.CUK.geulDa.domain.course.service;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.index.CourseNameIndex;
+import com.CUK.geulDa.domain.course.index.CoursePurposeIndex;
+import com.CUK.geulDa.domain.course.index.CourseSpatialIndex;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import com.CUK.geulDa.support.CourseFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 펜윅 트리 기반 가중치 비복원 샘플링 (weightedRandomSample)과 목적별 필터링 (filterByPurpose)
+ * 가중치: 인기도 70 이상 3.0, 40 미만 0.5, 그 외 1.0
+ */
+class CourseServiceSamplingTest {
+
+    private static final int TRIALS = 200_000;
+
+    @Test
+    @DisplayName("한 개를 뽑으면 가중치에 비례한 빈도")
+    void singleDrawFollowsWeights() {
+        // 가중치 3.0, 1.0, 0.5, 1.0 → 3/5.5, 1/5.5, 0.5/5.5, 1/5.5
+        List<Course> courses = List.of(place(1, 80), place(2, 50), place(3, 30), place(4, null));
+        double[] expected = {3 / 5.5, 1 / 5.5, 0.5 / 5.5, 1 / 5.5};
+
+        int[] counts = new int[courses.size()];
+        Random random = new Random(1);
+        for (int t = 0; t < TRIALS; t++) {
+            Course picked = CourseService.weightedRandomSample(courses, 1, random).get(0);
+            counts[courses.indexOf(picked)]++;
+        }
+
+        for (int i = 0; i < courses.size(); i++) {
+            assertThat((double) counts[i] / TRIALS).isCloseTo(expected[i], within(0.01));
+        }
+    }
+
+    @Test
+    @DisplayName("두 개를 뽑을 때 포함 확률이 비복원 추출의 이론값과 같음 (뽑힌 가중치가 트리에서 빠짐)")
+    void secondDrawExcludesPickedWeight() {
+        List<Course> courses = List.of(place(1, 90), place(2, 55), place(3, 10), place(4, 75), place(5, 60));
+        double[] weights = {3.0, 1.0, 0.5, 3.0, 1.0};
+        double total = 8.5;
+
+        int[] counts = new int[courses.size()];
+        Random random = new Random(2);
+        for (int t = 0; t < TRIALS; t++) {
+            for (Course picked : CourseService.weightedRandomSample(courses, 2, random)) {
+                counts[courses.indexOf(picked)]++;
+            }
+        }
+
+        for (int j = 0; j < courses.size(); j++) {
+            double inclusion = weights[j] / total;
+            for (int i = 0; i < courses.size(); i++) {
+                if (i != j) {
+                    inclusion += weights[i] / total * weights[j] / (total - weights[i]);
+                }
+            }
+            assertThat((double) counts[j] / TRIALS).isCloseTo(inclusion, within(0.01));
+        }
+    }
+
+    @Test
+    @DisplayName("후보가 많아도 중복 없이 정확히 count개")
+    void drawsDistinctCourses() {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            courses.add(place(i, i % 100));
+        }
+
+        Random random = new Random(3);
+        for (int t = 0; t < 200; t++) {
+            List<Course> sampled = CourseService.weightedRandomSample(courses, 50, random);
+
+            assertThat(sampled).hasSize(50).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("후보가 count개 이하이면 전부, 없으면 빈 목록")
+    void smallInputs() {
+        List<Course> courses = List.of(place(1, 80), place(2, 20));
+
+        assertThat(CourseService.weightedRandomSample(courses, 3, new Random())).containsExactlyElementsOf(courses);
+        assertThat(CourseService.weightedRandomSample(List.of(), 3, new Random())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 목적(영문 그대로 태그)도 목적 인덱스로 필터링")
+    void filterByUnmappedPurpose() {
+        Course healingPark = CourseFixture.course(1, builder -> builder.category("자연").tourPurposeTags("healing"));
+        Course healingCafe = CourseFixture.course(2, builder -> builder.category("카페").tourPurposeTags("가족,healing"));
+        Course datingCafe = CourseFixture.course(3, builder -> builder.category("카페").tourPurposeTags("데이트"));
+        List<Course> courses = List.of(healingPark, healingCafe, datingCafe);
+
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findByIsHiddenFalse()).thenReturn(courses);
+        CoursePurposeIndex purposeIndex = new CoursePurposeIndex(courseRepository);
+        purposeIndex.load();
+        CourseService courseService = new CourseService(courseRepository, mock(CourseSpatialIndex.class),
+                mock(CourseNameIndex.class), purposeIndex, mock(ApplicationEventPublisher.class));
+
+        assertThat(courseService.filterByPurpose(courses, "healing")).containsExactlyInAnyOrder(healingPark, healingCafe);
+    }
+
+    private static Course place(long id, Integer popularity) {
+        return CourseFixture.course(id, builder -> builder.popularityScore(popularity));
+    }
+}
@@ -0,0 +1,112 @@
+package com.CUK.geulDa.domain.course.service;
+
+import com.CUK.geulDa.domain.course.Course;
+import com.CUK.geulDa.domain.course.event.CourseChangedEvent;
+import com.CUK.geulDa.domain.course.index.CourseNameIndex;
+import com.CUK.geulDa.domain.course.index.CoursePurposeIndex;
+import com.CUK.geulDa.domain.course.index.CourseSpatialIndex;
+import com.CUK.geulDa.domain.course.repository.CourseRepository;
+import com.CUK.geulDa.support.CourseFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 이름+주소 기준 일괄 upsert (saveAllCourses)
+ * 조회와 INSERT 사이에 다른 요청이 같은 장소를 먼저 저장한 경우를 저장소 mock으로 재현
+ */
+class CourseServiceSaveTest {
+
+    private CourseRepository courseRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private CourseService courseService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        courseService = new CourseService(courseRepository, mock(CourseSpatialIndex.class),
+                mock(CourseNameIndex.class), mock(CoursePurposeIndex.class), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("배치 INSERT가 유니크 키 충돌로 실패하면 먼저 저장된 장소를 합치고 나머지만 다시 저장")
+    void mergesConcurrentlySavedCourses() {
+        Course museum = unsaved("부천로보파크");
+        Course park = unsaved("상동호수공원");
+        Course savedElsewhere = CourseFixture.course(100, builder -> builder.name("부천로보파크"));
+
+        when(courseRepository.findByDedupKeyIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(savedElsewhere));
+        List<Collection<Course>> batches = new ArrayList<>();
+        when(courseRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Course> batch = new ArrayList<>(invocation.<Collection<Course>>getArgument(0));
+            batches.add(batch);
+            if (batches.size() == 1) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'uk_course_dedup_key'");
+            }
+            return batch;
+        });
+
+        List<Course> result = courseService.saveAllCourses(List.of(museum, park));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).isSameAs(savedElsewhere);
+        assertThat(result.get(1).getName()).isEqualTo("상동호수공원");
+        // 롤백된 엔티티 대신 사본으로 재시도
+        assertThat(batches.get(1)).singleElement()
+                .isNotSameAs(park)
+                .extracting(Course::getDedupKey).isEqualTo(park.getDedupKey());
+        verify(eventPublisher, times(1)).publishEvent(any(CourseChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("재시도할 장소가 모두 먼저 저장되었으면 다시 INSERT하지 않음")
+    void skipsRetryWhenEverythingWasSavedElsewhere() {
+        Course museum = unsaved("부천로보파크");
+        Course savedElsewhere = CourseFixture.course(100, builder -> builder.name("부천로보파크"));
+
+        when(courseRepository.findByDedupKeyIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(savedElsewhere));
+        when(courseRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThat(courseService.saveAllCourses(List.of(museum))).containsExactly(savedElsewhere);
+        verify(courseRepository, times(1)).saveAll(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘겨도 계속 충돌하면 예외를 그대로 던짐")
+    void rethrowsAfterMaxAttempts() {
+        when(courseRepository.findByDedupKeyIn(anyCollection())).thenReturn(List.of());
+        when(courseRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThatThrownBy(() -> courseService.saveAllCourses(List.of(unsaved("부천로보파크"))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(courseRepository, times(3)).saveAll(any());
+    }
+
+    private static Course unsaved(String name) {
+        return Course.builder()
+                .name(name)
+                .address("부천시")
+                .latitude(37.5)
+                .longitude(126.78)
+                .isHidden(false)
+                .build();
+    }
+}
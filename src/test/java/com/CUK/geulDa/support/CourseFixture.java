@@ -0,0 +1,40 @@
+package com.CUK.geulDa.support;
+
+import com.CUK.geulDa.domain.course.Course;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * 단위 테스트용 Course (DB 없이 ID를 직접 지정)
+ * 기본값: 이름 "장소{id}", 부천시 좌표, 공개. 나머지 필드는 customizer로 지정
+ */
+public final class CourseFixture {
+
+    private CourseFixture() {
+    }
+
+    public static Course course(long id) {
+        return course(id, UnaryOperator.identity());
+    }
+
+    public static Course course(long id, UnaryOperator<Course.CourseBuilder> customizer) {
+        Course.CourseBuilder builder = Course.builder()
+                .name("장소" + id)
+                .address("부천시")
+                .latitude(37.5)
+                .longitude(126.78)
+                .isHidden(false);
+        Course course = customizer.apply(builder).build();
+        ReflectionTestUtils.setField(course, "id", id);
+        return course;
+    }
+
+    /**
+     * 숨김 처리된 장소 (Course에 숨김 변경 메서드가 없어 필드를 직접 바꿈)
+     */
+    public static Course hidden(Course course) {
+        ReflectionTestUtils.setField(course, "isHidden", true);
+        return course;
+    }
+}
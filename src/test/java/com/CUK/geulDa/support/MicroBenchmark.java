@@ -0,0 +1,56 @@
+package com.CUK.geulDa.support;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * JMH 없이 돌리는 간단한 마이크로벤치마크 (./gradlew benchmark, @Tag("benchmark"))
+ * - 워밍업 후 반복마다 시간을 재서 중앙값/p95를 보고
+ * - 반환값은 sink에 섞어 JIT가 측정 대상을 지우지 못하게 함
+ * 절대값보다 같은 JVM 안에서 두 구현을 나란히 비교하는 용도
+ */
+public final class MicroBenchmark {
+
+    private static volatile int sink;
+
+    private MicroBenchmark() {
+    }
+
+    public static Result run(String name, int warmup, int iterations, Supplier<?> body) {
+        for (int i = 0; i < warmup; i++) {
+            consume(body.get());
+        }
+
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            consume(body.get());
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+
+        Result result = new Result(name, iterations,
+                samples[iterations / 2] / 1_000.0,
+                samples[Math.min(iterations - 1, (int) (iterations * 0.95))] / 1_000.0);
+        System.out.println(result);
+        return result;
+    }
+
+    private static void consume(Object value) {
+        sink ^= value != null ? value.hashCode() : 0;
+    }
+
+    public record Result(String name, int iterations, double medianMicros, double p95Micros) {
+
+        public double opsPerSecond() {
+            return medianMicros > 0 ? 1_000_000.0 / medianMicros : Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "[benchmark] %-50s median %10.1fus  p95 %10.1fus  (%,.0f ops/s, n=%d)",
+                    name, medianMicros, p95Micros, opsPerSecond(), iterations);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.CUK.geulDa.support;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 텍스트별로 지정한 벡터를 돌려주는 테스트용 임베딩 모델 (API 호출 없음)
+ * 지정하지 않은 텍스트는 테스트 준비 누락이므로 예외
+ */
+public final class StubEmbeddingModel implements EmbeddingModel {
+
+    private final Map<String, float[]> vectors = new HashMap<>();
+    private final List<List<String>> requests = new ArrayList<>();
+
+    public StubEmbeddingModel put(String text, float... vector) {
+        vectors.put(text, vector);
+        return this;
+    }
+
+    /**
+     * 지금까지 받은 임베딩 요청 (요청마다 텍스트 목록)
+     */
+    public List<List<String>> requests() {
+        return requests;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        List<String> texts = request.getInstructions();
+        requests.add(List.copyOf(texts));
+
+        List<Embedding> embeddings = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            embeddings.add(new Embedding(vectorOf(texts.get(i)), i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return vectorOf(document.getText());
+    }
+
+    private float[] vectorOf(String text) {
+        float[] vector = vectors.get(text);
+        if (vector == null) {
+            throw new IllegalArgumentException("임베딩이 지정되지 않은 텍스트: " + text);
+        }
+        return vector.clone();
+    }
+}